@@ -0,0 +1,54 @@
+package me.tomsdevsn.hetznercloud;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the ways a response can be deserialized with the configuration of the library.
+ * Subclasses provide the JSON and the response type.
+ * <ul>
+ *     <li>{@code cachedReader}: the reader bound to the type, as used by the API</li>
+ *     <li>{@code sharedMapper}: {@link ObjectMapper#readValue(byte[], Class)} on the shared mapper</li>
+ *     <li>{@code mapperPerClient}: a new mapper for each call, like a short-lived client with its own mapper</li>
+ * </ul>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public abstract class DeserializationBenchmark {
+
+    protected byte[] json;
+    protected Class<?> type;
+
+    @Benchmark
+    public Object cachedReader() throws IOException {
+        return ObjectMappers.reader(type).readValue(json);
+    }
+
+    @Benchmark
+    public Object sharedMapper() throws IOException {
+        return ObjectMappers.mapper().readValue(json, type);
+    }
+
+    @Benchmark
+    public Object mapperPerClient() throws IOException {
+        return new ObjectMapper()
+                .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false)
+                .readValue(json, type);
+    }
+}
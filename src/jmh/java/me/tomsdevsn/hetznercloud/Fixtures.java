@@ -0,0 +1,104 @@
+package me.tomsdevsn.hetznercloud;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.util.Iterator;
+import java.util.Map;
+
+/**
+ * Recorded API responses in {@code src/jmh/resources/fixtures}, scaled to the sizes used by the benchmarks.
+ */
+final class Fixtures {
+
+    private Fixtures() {
+    }
+
+    /**
+     * @param name name of the fixture
+     * @return the fixture as recorded
+     */
+    static byte[] load(String name) {
+        try (InputStream inputStream = Fixtures.class.getResourceAsStream("/fixtures/" + name + ".json")) {
+            if (inputStream == null) {
+                throw new IllegalArgumentException("unknown fixture " + name);
+            }
+            return inputStream.readAllBytes();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Build a list page by repeating the recorded entry of the fixture.
+     *
+     * @param name    name of the fixture, which is also the name of its list property
+     * @param entries amount of entries on the page
+     * @return the page
+     */
+    static byte[] page(String name, int entries) {
+        ObjectNode page = read(name);
+        ArrayNode list = (ArrayNode) page.get(name);
+        JsonNode template = list.get(0);
+
+        list.removeAll();
+        for (int i = 1; i <= entries; i++) {
+            ObjectNode entry = template.deepCopy();
+            entry.put("id", i);
+            list.add(entry);
+        }
+
+        ObjectNode pagination = (ObjectNode) page.get("meta").get("pagination");
+        pagination.put("per_page", entries);
+        pagination.put("total_entries", entries);
+        return write(page);
+    }
+
+    /**
+     * Build a metrics response by extending every recorded time series.
+     *
+     * @param points amount of data points per time series
+     * @return the metrics response
+     */
+    static byte[] metrics(int points) {
+        ObjectNode response = read("metrics");
+        ObjectNode metrics = (ObjectNode) response.get("metrics");
+        long step = metrics.get("step").asLong();
+
+        Iterator<Map.Entry<String, JsonNode>> timeSeries = metrics.get("time_series").fields();
+        while (timeSeries.hasNext()) {
+            ArrayNode values = (ArrayNode) timeSeries.next().getValue().get("values");
+            double start = values.get(0).get(0).asDouble();
+            double base = values.get(0).get(1).asDouble();
+
+            values.removeAll();
+            for (int i = 0; i < points; i++) {
+                values.addArray()
+                        .add(BigDecimal.valueOf(start + i * step))
+                        .add(Double.toString(base + (i % 17) * 0.25));
+            }
+        }
+        return write(response);
+    }
+
+    private static ObjectNode read(String name) {
+        try {
+            return (ObjectNode) ObjectMappers.mapper().readTree(load(name));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static byte[] write(JsonNode node) {
+        try {
+            return ObjectMappers.mapper().writeValueAsBytes(node);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
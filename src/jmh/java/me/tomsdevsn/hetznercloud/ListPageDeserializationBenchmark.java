@@ -0,0 +1,37 @@
+package me.tomsdevsn.hetznercloud;
+
+import me.tomsdevsn.hetznercloud.objects.response.ImagesResponse;
+import me.tomsdevsn.hetznercloud.objects.response.LoadBalancersResponse;
+import me.tomsdevsn.hetznercloud.objects.response.ServersResponse;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Setup;
+
+/**
+ * Deserialization of list pages with up to the maximum of 50 entries per page.
+ */
+public class ListPageDeserializationBenchmark extends DeserializationBenchmark {
+
+    @Param({"servers", "images", "load_balancers"})
+    public String resource;
+
+    @Param({"1", "25", "50"})
+    public int entries;
+
+    @Setup
+    public void setup() {
+        json = Fixtures.page(resource, entries);
+        switch (resource) {
+            case "servers":
+                type = ServersResponse.class;
+                break;
+            case "images":
+                type = ImagesResponse.class;
+                break;
+            case "load_balancers":
+                type = LoadBalancersResponse.class;
+                break;
+            default:
+                throw new IllegalArgumentException("unknown resource " + resource);
+        }
+    }
+}
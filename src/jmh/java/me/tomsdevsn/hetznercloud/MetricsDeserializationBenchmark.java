@@ -0,0 +1,26 @@
+package me.tomsdevsn.hetznercloud;
+
+import me.tomsdevsn.hetznercloud.objects.response.MetricsResponse;
+import me.tomsdevsn.hetznercloud.objects.response.TimeSeriesMetricsResponse;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Setup;
+
+/**
+ * Deserialization of server metrics with five time series, covering one hour, one day and one week
+ * at a step of 60 seconds. {@code untyped} reads them into {@link MetricsResponse}, {@code typed} into
+ * the primitive arrays of {@link TimeSeriesMetricsResponse}.
+ */
+public class MetricsDeserializationBenchmark extends DeserializationBenchmark {
+
+    @Param({"60", "1440", "10080"})
+    public int points;
+
+    @Param({"untyped", "typed"})
+    public String representation;
+
+    @Setup
+    public void setup() {
+        json = Fixtures.metrics(points);
+        type = "typed".equals(representation) ? TimeSeriesMetricsResponse.class : MetricsResponse.class;
+    }
+}
@@ -0,0 +1,16 @@
+package me.tomsdevsn.hetznercloud;
+
+import me.tomsdevsn.hetznercloud.objects.response.PricingResponse;
+import org.openjdk.jmh.annotations.Setup;
+
+/**
+ * Deserialization of the pricing of all server and load balancer types in all locations.
+ */
+public class PricingDeserializationBenchmark extends DeserializationBenchmark {
+
+    @Setup
+    public void setup() {
+        json = Fixtures.load("pricing");
+        type = PricingResponse.class;
+    }
+}
@@ -0,0 +1,281 @@
+package me.tomsdevsn.hetznercloud;
+
+import me.tomsdevsn.hetznercloud.exception.ActionFailedException;
+import me.tomsdevsn.hetznercloud.objects.enums.ActionStatus;
+import me.tomsdevsn.hetznercloud.objects.general.Action;
+import me.tomsdevsn.hetznercloud.objects.response.ActionsResponse;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Waits for many actions at once.
+ * <p>
+ * Instead of polling every action on its own, the ids of all pending actions are collected and fetched
+ * together with one {@code GET /actions?id=...} request per 50 ids. Each caller gets a
+ * {@link CompletableFuture} which is completed with the finished action, or completed exceptionally with an
+ * {@link ActionFailedException} if the action failed.
+ * <p>
+ * The poll interval adapts to the progress reported by the API: it is estimated from how fast the
+ * least advanced action has progressed so far and clamped between the minimum and maximum interval.
+ * Actions without any progress yet are polled with an exponentially increasing interval.
+ * <p>
+ * A failed poll (e.g. a transport error) does not fail the pending futures, the actions are polled again
+ * after the maximum interval. Use {@link CompletableFuture#orTimeout(long, TimeUnit)} to bound the wait.
+ */
+public class ActionWaiter implements AutoCloseable {
+
+    private static final Duration DEFAULT_MIN_INTERVAL = Duration.ofMillis(500);
+    private static final Duration DEFAULT_MAX_INTERVAL = Duration.ofSeconds(10);
+
+    private final Function<Collection<Long>, CompletableFuture<ActionsResponse>> actionsFetcher;
+    private final long minIntervalNanos;
+    private final long maxIntervalNanos;
+    private final ScheduledExecutorService scheduler;
+    private final Map<Long, PendingAction> pending = new ConcurrentHashMap<>();
+    private final AtomicBoolean pollScheduled = new AtomicBoolean();
+    private volatile long lastIntervalNanos;
+
+    /**
+     * Create a waiter which polls with the default intervals of 0.5 to 10 seconds.
+     *
+     * @param api API instance used for polling
+     */
+    public ActionWaiter(HetznerCloudAPI api) {
+        this(new HetznerCloudAsyncAPI(api), DEFAULT_MIN_INTERVAL, DEFAULT_MAX_INTERVAL);
+    }
+
+    /**
+     * Create a waiter with custom poll intervals.
+     *
+     * @param api         API instance used for polling
+     * @param minInterval shortest time between two polls
+     * @param maxInterval longest time between two polls
+     */
+    public ActionWaiter(HetznerCloudAsyncAPI api, Duration minInterval, Duration maxInterval) {
+        this(api::getActions, minInterval, maxInterval);
+    }
+
+    ActionWaiter(Function<Collection<Long>, CompletableFuture<ActionsResponse>> actionsFetcher,
+                 Duration minInterval,
+                 Duration maxInterval) {
+        if (minInterval.isNegative() || minInterval.compareTo(maxInterval) > 0) {
+            throw new IllegalArgumentException("minInterval has to be positive and not greater than maxInterval");
+        }
+        this.actionsFetcher = actionsFetcher;
+        this.minIntervalNanos = minInterval.toNanos();
+        this.maxIntervalNanos = maxInterval.toNanos();
+        this.lastIntervalNanos = minIntervalNanos;
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "hcloud-action-waiter");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Wait for an action to finish.
+     * Actions which are already finished complete immediately without a request.
+     *
+     * @param action action returned by the API
+     * @return future of the finished action
+     */
+    public CompletableFuture<Action> waitFor(Action action) {
+        if (ActionStatus.success.name().equals(action.getStatus())) {
+            return CompletableFuture.completedFuture(action);
+        }
+        if (ActionStatus.error.name().equals(action.getStatus())) {
+            return CompletableFuture.failedFuture(new ActionFailedException(action));
+        }
+        return waitFor(action.getId());
+    }
+
+    /**
+     * Wait for an action to finish.
+     *
+     * @param actionId ID of the action
+     * @return future of the finished action
+     */
+    public CompletableFuture<Action> waitFor(long actionId) {
+        if (scheduler.isShutdown()) {
+            return CompletableFuture.failedFuture(new IllegalStateException("ActionWaiter has been closed"));
+        }
+
+        PendingAction pendingAction = pending.computeIfAbsent(actionId, id -> {
+            PendingAction created = new PendingAction();
+            // cancelled or timed out futures are not polled anymore
+            created.future.whenComplete((action, throwable) -> pending.remove(id, created));
+            return created;
+        });
+        schedulePoll(minIntervalNanos);
+        return pendingAction.future;
+    }
+
+    /**
+     * Wait for several actions to finish.
+     * The returned future fails as soon as one of the actions fails.
+     *
+     * @param actions actions returned by the API
+     * @return future of the finished actions in the given order
+     */
+    public CompletableFuture<List<Action>> waitForAll(Collection<Action> actions) {
+        List<CompletableFuture<Action>> futures = actions.stream()
+                .map(this::waitFor)
+                .collect(Collectors.toList());
+
+        CompletableFuture<List<Action>> result = new CompletableFuture<>();
+        futures.forEach(future -> future.exceptionally(throwable -> {
+            result.completeExceptionally(throwable);
+            return null;
+        }));
+        CompletableFuture.allOf(futures.toArray(new CompletableFuture[0]))
+                .thenRun(() -> result.complete(futures.stream()
+                        .map(CompletableFuture::join)
+                        .collect(Collectors.toList())));
+        return result;
+    }
+
+    /**
+     * Get the amount of actions which are currently waited for.
+     *
+     * @return the amount of pending actions
+     */
+    public int getPendingCount() {
+        return pending.size();
+    }
+
+    /**
+     * Stop polling. All pending futures are cancelled.
+     */
+    @Override
+    public void close() {
+        scheduler.shutdownNow();
+        new ArrayList<>(pending.values())
+                .forEach(pendingAction -> pendingAction.future.completeExceptionally(
+                        new CancellationException("ActionWaiter has been closed")));
+    }
+
+    private void schedulePoll(long delayNanos) {
+        if (!pending.isEmpty() && !scheduler.isShutdown() && pollScheduled.compareAndSet(false, true)) {
+            scheduler.schedule(this::poll, delayNanos, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private void poll() {
+        List<Long> ids = new ArrayList<>(pending.keySet());
+        List<CompletableFuture<Void>> requests = new ArrayList<>();
+        for (int i = 0; i < ids.size(); i += HetznerCloudAPI.MAX_ACTIONS_PER_REQUEST) {
+            List<Long> batch = ids.subList(i, Math.min(ids.size(), i + HetznerCloudAPI.MAX_ACTIONS_PER_REQUEST));
+            requests.add(fetch(batch).thenAccept(response -> update(batch, response.getActions())));
+        }
+
+        CompletableFuture.allOf(requests.toArray(new CompletableFuture[0]))
+                .whenComplete((ignored, throwable) -> {
+                    long nextInterval = throwable != null ? maxIntervalNanos : nextInterval();
+                    lastIntervalNanos = nextInterval;
+                    pollScheduled.set(false);
+                    schedulePoll(nextInterval);
+                });
+    }
+
+    private CompletableFuture<ActionsResponse> fetch(List<Long> ids) {
+        try {
+            return actionsFetcher.apply(ids);
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    private void update(List<Long> requestedIds, List<Action> actions) {
+        Map<Long, Action> actionsById = new HashMap<>();
+        if (actions != null) {
+            actions.forEach(action -> actionsById.put(action.getId(), action));
+        }
+
+        long now = System.nanoTime();
+        for (Long id : requestedIds) {
+            PendingAction pendingAction = pending.get(id);
+            if (pendingAction == null) {
+                continue;
+            }
+
+            Action action = actionsById.get(id);
+            if (action == null) {
+                pendingAction.future.completeExceptionally(new NoSuchElementException("Action " + id + " does not exist"));
+            } else if (ActionStatus.success.name().equals(action.getStatus())) {
+                pendingAction.future.complete(action);
+            } else if (ActionStatus.error.name().equals(action.getStatus())) {
+                pendingAction.future.completeExceptionally(new ActionFailedException(action));
+            } else {
+                pendingAction.observe(action.getProgress(), now);
+            }
+        }
+    }
+
+    /**
+     * Estimate the time until the next action finishes from the progress rate of all pending actions.
+     */
+    private long nextInterval() {
+        long estimate = Long.MAX_VALUE;
+        long now = System.nanoTime();
+        for (PendingAction pendingAction : pending.values()) {
+            long remaining = pendingAction.estimateRemainingNanos(now);
+            if (remaining >= 0) {
+                estimate = Math.min(estimate, remaining);
+            }
+        }
+
+        if (estimate == Long.MAX_VALUE) {
+            // no progress reported yet, back off
+            estimate = lastIntervalNanos * 2;
+        }
+        return Math.max(minIntervalNanos, Math.min(maxIntervalNanos, estimate));
+    }
+
+    private static final class PendingAction {
+
+        private final CompletableFuture<Action> future = new CompletableFuture<>();
+        private long firstProgressNanos = -1;
+        private long firstProgress;
+        private long lastProgressNanos;
+        private long lastProgress;
+
+        synchronized void observe(Long progress, long now) {
+            if (progress == null) {
+                return;
+            }
+            if (firstProgressNanos < 0) {
+                firstProgressNanos = now;
+                firstProgress = progress;
+            }
+            lastProgressNanos = now;
+            lastProgress = progress;
+        }
+
+        /**
+         * @return the estimated time until the action is finished or -1 if it cannot be estimated yet
+         */
+        synchronized long estimateRemainingNanos(long now) {
+            if (firstProgressNanos < 0 || lastProgress <= firstProgress) {
+                return -1;
+            }
+            double nanosPerPercent = (double) (lastProgressNanos - firstProgressNanos) / (lastProgress - firstProgress);
+            long sinceLastObservation = now - lastProgressNanos;
+            return Math.max(0, (long) (nanosPerPercent * (100 - lastProgress)) - sinceLastObservation);
+        }
+    }
+}
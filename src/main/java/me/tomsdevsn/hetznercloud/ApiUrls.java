@@ -0,0 +1,211 @@
+package me.tomsdevsn.hetznercloud;
+
+import me.tomsdevsn.hetznercloud.objects.enums.Architecture;
+import me.tomsdevsn.hetznercloud.objects.pagination.PaginationParameters;
+
+import java.util.Collection;
+import java.util.Optional;
+
+import static me.tomsdevsn.hetznercloud.HetznerCloudAPI.API_URL;
+
+/**
+ * URLs of the endpoints which are available in both {@link HetznerCloudAPI} and {@link HetznerCloudAsyncAPI},
+ * so both facades send the same requests.
+ */
+final class ApiUrls {
+
+    private ApiUrls() {
+    }
+
+    /**
+     * @throws IllegalArgumentException if no or more than 50 ids are given, as the API would silently return
+     *                                  unrelated actions or only the first page
+     */
+    static String actionsById(Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            throw new IllegalArgumentException("at least one id is required");
+        }
+        if (ids.size() > HetznerCloudAPI.MAX_ACTIONS_PER_REQUEST) {
+            throw new IllegalArgumentException("at most " + HetznerCloudAPI.MAX_ACTIONS_PER_REQUEST
+                    + " ids can be requested at once");
+        }
+        return UrlBuilder.from(API_URL + "/actions")
+                .queryParams("id", ids)
+                .queryParam("per_page", HetznerCloudAPI.MAX_ACTIONS_PER_REQUEST)
+                .toUri();
+    }
+
+    static String action(long id) {
+        return API_URL + "/actions/" + id;
+    }
+
+    static String servers() {
+        return API_URL + "/servers";
+    }
+
+    static String servers(String labelSelector, PaginationParameters paginationParameters) {
+        return list("/servers", labelSelector, null, paginationParameters);
+    }
+
+    static String serversByName(String name) {
+        return UrlBuilder.from(API_URL + "/servers")
+                .queryParam("name", name)
+                .toUri();
+    }
+
+    static String server(long id) {
+        return API_URL + "/servers/" + id;
+    }
+
+    static String serverActions(long id) {
+        return API_URL + "/servers/" + id + "/actions";
+    }
+
+    /**
+     * @param action name of the action, e.g. {@code poweron}
+     */
+    static String serverAction(long id, String action) {
+        return API_URL + "/servers/" + id + "/actions/" + action;
+    }
+
+    /**
+     * @param step resolution of the samples in seconds or null to let the API choose it
+     */
+    static String serverMetrics(long id, String metricType, String start, String end, Long step) {
+        return metrics(API_URL + "/servers/" + id + "/metrics", metricType, start, end, step);
+    }
+
+    static String images(String labelSelector, Architecture architecture, PaginationParameters paginationParameters) {
+        return list("/images", labelSelector, architecture, paginationParameters);
+    }
+
+    static String image(long id) {
+        return API_URL + "/images/" + id;
+    }
+
+    static String isos(Architecture architecture, PaginationParameters paginationParameters) {
+        return list("/isos", null, architecture, paginationParameters);
+    }
+
+    static String volumes() {
+        return API_URL + "/volumes";
+    }
+
+    static String volumes(String labelSelector, PaginationParameters paginationParameters) {
+        return list("/volumes", labelSelector, null, paginationParameters);
+    }
+
+    static String volume(long id) {
+        return API_URL + "/volumes/" + id;
+    }
+
+    static String volumeAction(long id, String action) {
+        return API_URL + "/volumes/" + id + "/actions/" + action;
+    }
+
+    static String floatingIPs(String labelSelector, PaginationParameters paginationParameters) {
+        return list("/floating_ips", labelSelector, null, paginationParameters);
+    }
+
+    static String floatingIP(long id) {
+        return API_URL + "/floating_ips/" + id;
+    }
+
+    static String floatingIPAction(long id, String action) {
+        return API_URL + "/floating_ips/" + id + "/actions/" + action;
+    }
+
+    static String primaryIPs(String labelSelector, PaginationParameters paginationParameters) {
+        return list("/primary_ips", labelSelector, null, paginationParameters);
+    }
+
+    static String primaryIP(long id) {
+        return API_URL + "/primary_ips/" + id;
+    }
+
+    static String primaryIPAction(long id, String action) {
+        return API_URL + "/primary_ips/" + id + "/actions/" + action;
+    }
+
+    static String firewalls(String labelSelector, PaginationParameters paginationParameters) {
+        return list("/firewalls", labelSelector, null, paginationParameters);
+    }
+
+    static String firewall(long id) {
+        return API_URL + "/firewalls/" + id;
+    }
+
+    static String firewallAction(long id, String action) {
+        return API_URL + "/firewalls/" + id + "/actions/" + action;
+    }
+
+    static String networks(String labelSelector, PaginationParameters paginationParameters) {
+        return list("/networks", labelSelector, null, paginationParameters);
+    }
+
+    static String network(long id) {
+        return API_URL + "/networks/" + id;
+    }
+
+    static String loadBalancers(String labelSelector, PaginationParameters paginationParameters) {
+        return list("/load_balancers", labelSelector, null, paginationParameters);
+    }
+
+    static String loadBalancer(long id) {
+        return API_URL + "/load_balancers/" + id;
+    }
+
+    static String loadBalancerAction(long id, String action) {
+        return API_URL + "/load_balancers/" + id + "/actions/" + action;
+    }
+
+    /**
+     * @param step resolution of the samples in seconds or null to let the API choose it
+     */
+    static String loadBalancerMetrics(long id, String metricType, String start, String end, Long step) {
+        return metrics(API_URL + "/load_balancers/" + id + "/metrics", metricType, start, end, step);
+    }
+
+    static String sshKeys(String labelSelector, PaginationParameters paginationParameters) {
+        return list("/ssh_keys", labelSelector, null, paginationParameters);
+    }
+
+    static String serverTypes() {
+        return API_URL + "/server_types";
+    }
+
+    static String loadBalancerTypes() {
+        return API_URL + "/load_balancer_types";
+    }
+
+    static String locations() {
+        return API_URL + "/locations";
+    }
+
+    static String datacenters() {
+        return API_URL + "/datacenters";
+    }
+
+    static String pricing() {
+        return API_URL + "/pricing";
+    }
+
+    private static String list(String path, String labelSelector, Architecture architecture,
+                               PaginationParameters paginationParameters) {
+        return UrlBuilder.from(API_URL + path)
+                .queryParamIfPresent("label_selector", Optional.ofNullable(labelSelector))
+                .queryParamIfPresent("architecture", Optional.ofNullable(architecture))
+                .queryParamIfPresent("page", Optional.ofNullable(paginationParameters.page))
+                .queryParamIfPresent("per_page", Optional.ofNullable(paginationParameters.perPage))
+                .toUri();
+    }
+
+    private static String metrics(String url, String metricType, String start, String end, Long step) {
+        return UrlBuilder.from(url)
+                .queryParam("type", metricType)
+                .queryParam("start", start)
+                .queryParam("end", end)
+                .queryParamIfPresent("step", Optional.ofNullable(step))
+                .toUri();
+    }
+}
@@ -1,34 +1,80 @@
 package me.tomsdevsn.hetznercloud;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.DeserializationFeature;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import me.tomsdevsn.hetznercloud.exception.APIRequestException;
 import me.tomsdevsn.hetznercloud.objects.enums.ImageType;
 import me.tomsdevsn.hetznercloud.objects.enums.ActionStatus;
 import me.tomsdevsn.hetznercloud.objects.enums.Architecture;
+import me.tomsdevsn.hetznercloud.objects.general.APIErrorCode;
+import me.tomsdevsn.hetznercloud.objects.general.Action;
+import me.tomsdevsn.hetznercloud.objects.general.Certificate;
 import me.tomsdevsn.hetznercloud.objects.general.FWApplicationTarget;
+import me.tomsdevsn.hetznercloud.objects.general.Firewall;
 import me.tomsdevsn.hetznercloud.objects.general.FirewallRule;
+import me.tomsdevsn.hetznercloud.objects.general.FloatingIP;
+import me.tomsdevsn.hetznercloud.objects.general.ISO;
+import me.tomsdevsn.hetznercloud.objects.general.Image;
+import me.tomsdevsn.hetznercloud.objects.general.LoadBalancer;
+import me.tomsdevsn.hetznercloud.objects.general.Network;
+import me.tomsdevsn.hetznercloud.objects.general.PlacementGroup;
+import me.tomsdevsn.hetznercloud.objects.general.PrimaryIP;
+import me.tomsdevsn.hetznercloud.objects.general.SSHKey;
+import me.tomsdevsn.hetznercloud.objects.general.Server;
+import me.tomsdevsn.hetznercloud.objects.general.ServerType;
+import me.tomsdevsn.hetznercloud.objects.general.Volume;
 import me.tomsdevsn.hetznercloud.objects.enums.PlacementGroupType;
 import me.tomsdevsn.hetznercloud.objects.pagination.PaginationParameters;
 import me.tomsdevsn.hetznercloud.objects.request.*;
 import me.tomsdevsn.hetznercloud.objects.response.*;
-import okhttp3.*;
-import org.jetbrains.annotations.NotNull;
+import me.tomsdevsn.hetznercloud.transport.HttpTransport;
+import me.tomsdevsn.hetznercloud.transport.OkHttpTransport;
+import me.tomsdevsn.hetznercloud.transport.TransportRequest;
+import me.tomsdevsn.hetznercloud.transport.TransportResponse;
+import okhttp3.OkHttpClient;
 
 import java.io.IOException;
-import java.text.DateFormat;
-import java.text.SimpleDateFormat;
+import java.io.InputStream;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Stream;
 
 public class HetznerCloudAPI {
 
-    private static final String API_URL = "https://api.hetzner.cloud/v1";
+    static final String API_URL = "https://api.hetzner.cloud/v1";
+    private static final String RETRY_AFTER_HEADER = "Retry-After";
+    static final int MAX_ACTIONS_PER_REQUEST = 50;
+    private static final DateTimeFormatter ISO8601_FORMATTER = DateTimeFormatter
+            .ofPattern("yyyy-MM-dd'T'HH:mm:ss'Z'")
+            .withZone(ZoneOffset.UTC);
 
-    private final OkHttpClient client;
+    private final HttpTransport transport;
 
     private final String hcloudToken;
-    private final ObjectMapper objectMapper;
+    /**
+     * Key of the cached responses of this token, see {@link ResponseCache#digest(String)}
+     */
+    private final String hcloudTokenDigest;
+    private final HetznerCloudAsyncAPI asyncAPI;
+
+    private volatile RateLimiter rateLimiter = new RateLimiter();
+    private volatile RetryPolicy retryPolicy = RetryPolicy.none();
+    private volatile boolean coalesceRequests;
+    private volatile ResponseCache responseCache;
+
+    /**
+     * GET requests which are currently in flight, keyed by response type and URL
+     */
+    private final ConcurrentMap<String, CompletableFuture<Object>> inFlightRequests = new ConcurrentHashMap<>();
 
     /**
      * Initial method to use the API
@@ -48,15 +94,110 @@ public class HetznerCloudAPI {
      * @param client OkHttpClient instance to be used
      */
     public HetznerCloudAPI(String hcloudToken, OkHttpClient client) {
+        this(hcloudToken, new OkHttpTransport(client));
+    }
+
+    /**
+     * Initial method to use the API with a custom HTTP transport, e.g. {@link me.tomsdevsn.hetznercloud.transport.JdkHttpTransport}
+     *
+     * @param hcloudToken API-Token for Hetzner Cloud API
+     *              The API token can be created within the Hetzner Cloud Console
+     * @param transport HttpTransport instance to be used
+     */
+    public HetznerCloudAPI(String hcloudToken, HttpTransport transport) {
         if (hcloudToken == null || hcloudToken.isBlank()) {
             throw new RuntimeException("no Hetzner cloud token provided");
         }
 
         this.hcloudToken = hcloudToken;
+        this.hcloudTokenDigest = ResponseCache.digest(hcloudToken);
+
+        this.transport = Objects.requireNonNull(transport);
+
+        asyncAPI = new HetznerCloudAsyncAPI(this);
+    }
+
+    /**
+     * Get the rate limiter which paces the requests of this instance.
+     * It reflects the rate limit headers of the latest response and can be queried for the remaining budget.
+     *
+     * @return the used RateLimiter
+     */
+    public RateLimiter getRateLimiter() {
+        return rateLimiter;
+    }
+
+    /**
+     * Replace the rate limiter of this instance, e.g. to share one limiter between several instances
+     * which use the same API token.
+     *
+     * @param rateLimiter RateLimiter to be used
+     */
+    public void setRateLimiter(RateLimiter rateLimiter) {
+        this.rateLimiter = Objects.requireNonNull(rateLimiter);
+    }
+
+    /**
+     * Get the policy which decides if failed requests are retried.
+     *
+     * @return the used RetryPolicy
+     */
+    public RetryPolicy getRetryPolicy() {
+        return retryPolicy;
+    }
+
+    /**
+     * Set the policy which decides if failed requests are retried.
+     * By default, requests are not retried ({@link RetryPolicy#none()}).
+     *
+     * @param retryPolicy RetryPolicy to be used
+     */
+    public void setRetryPolicy(RetryPolicy retryPolicy) {
+        this.retryPolicy = Objects.requireNonNull(retryPolicy);
+    }
+
+    /**
+     * Check whether concurrent identical GET requests share one response.
+     *
+     * @return true if requests are coalesced
+     */
+    public boolean isCoalesceRequests() {
+        return coalesceRequests;
+    }
+
+    /**
+     * Let concurrent identical GET requests (same URL) of this instance share one HTTP request.
+     * A caller which requests a resource while the same request is already in flight waits for that request
+     * instead of sending its own, which saves rate limit when many threads fetch the same resources.
+     * <p>
+     * All callers of a coalesced request get the same response object, so responses must not be modified.
+     * Cancelling the future of a coalesced asynchronous request does not cancel the HTTP request.
+     * By default, requests are not coalesced.
+     *
+     * @param coalesceRequests true to coalesce requests
+     */
+    public void setCoalesceRequests(boolean coalesceRequests) {
+        this.coalesceRequests = coalesceRequests;
+    }
+
+    /**
+     * Get the cache of GET responses.
+     *
+     * @return the used ResponseCache or null if responses are not cached
+     */
+    public ResponseCache getResponseCache() {
+        return responseCache;
+    }
 
-        this.client = client;
-        objectMapper = new ObjectMapper();
-        objectMapper.configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+    /**
+     * Cache GET responses and revalidate them with conditional requests, see {@link ResponseCache}.
+     * All callers of a cached response get the same response object, so responses must not be modified.
+     * By default, responses are not cached.
+     *
+     * @param responseCache ResponseCache to be used, null to disable caching
+     */
+    public void setResponseCache(ResponseCache responseCache) {
+        this.responseCache = responseCache;
     }
 
     /**
@@ -101,6 +242,41 @@ public class HetznerCloudAPI {
                 ActionsResponse.class);
     }
 
+    /**
+     * Stream all actions in a project, see {@link PageIterator}.
+     *
+     * @deprecated This function has been deprecated by Hetzner
+     * @param actionStatus Query only actions with the specified status (may be null)
+     * @return lazily paging stream of Action objects
+     */
+    @Deprecated
+    public Stream<Action> streamActions(ActionStatus actionStatus) {
+        return PageIterator.stream(
+                paginationParameters -> getActions(actionStatus, paginationParameters),
+                ActionsResponse::getActions,
+                ActionsResponse::getMeta);
+    }
+
+    /**
+     * Get multiple actions by their ids with a single request.
+     * Up to 50 ids can be requested at once, ids which do not exist are not part of the response.
+     *
+     * @param ids IDs of the actions
+     * @return ActionsResponse containing the requested actions
+     * @throws IllegalArgumentException if no or more than 50 ids are given
+     */
+    public ActionsResponse getActions(Collection<Long> ids) {
+        return get(ApiUrls.actionsById(ids), ActionsResponse.class);
+    }
+
+    static String resourceActionsUrl(String resource, PaginationParameters paginationParameters) {
+        return UrlBuilder.from(API_URL + "/" + resource + "/actions")
+                .queryParam("sort", "id:desc")
+                .queryParamIfPresent("page", Optional.ofNullable(paginationParameters.page))
+                .queryParamIfPresent("per_page", Optional.ofNullable(paginationParameters.perPage))
+                .toUri();
+    }
+
     /**
      * Get an action by id.
      *
@@ -109,7 +285,7 @@ public class HetznerCloudAPI {
      */
     public ActionResponse getAction(long id) {
         return get(
-                API_URL + "/actions/" + id,
+                ApiUrls.action(id),
                 ActionResponse.class);
     }
 
@@ -141,14 +317,39 @@ public class HetznerCloudAPI {
      */
     public ServersResponse getServers(String labelSelector, PaginationParameters paginationParameters) {
         return get(
-                UrlBuilder.from(API_URL + "/servers")
-                        .queryParamIfPresent("label_selector", Optional.ofNullable(labelSelector))
-                        .queryParamIfPresent("page", Optional.ofNullable(paginationParameters.page))
-                        .queryParamIfPresent("per_page", Optional.ofNullable(paginationParameters.perPage))
-                        .toUri(),
+                ApiUrls.servers(labelSelector, paginationParameters),
                 ServersResponse.class);
     }
 
+    /**
+     * Stream all servers in a project, see {@link PageIterator}.
+     *
+     * @param labelSelector Label selector filter (may be null)
+     * @return lazily paging stream of Server objects
+     */
+    public Stream<Server> streamServers(String labelSelector) {
+        return PageIterator.stream(
+                paginationParameters -> getServers(labelSelector, paginationParameters),
+                ServersResponse::getServers,
+                ServersResponse::getMeta);
+    }
+
+    /**
+     * Get all servers in a project by fetching all pages concurrently, see {@link PageFanOut}.
+     *
+     * @param labelSelector Label selector filter (may be null)
+     * @param parallelism   maximum amount of concurrently requested pages
+     * @return all Server objects
+     */
+    public List<Server> getAllServers(String labelSelector, int parallelism) {
+        return new PageFanOut<>(
+                paginationParameters -> getServers(labelSelector, paginationParameters),
+                paginationParameters -> asyncAPI.getServers(labelSelector, paginationParameters),
+                ServersResponse::getServers,
+                ServersResponse::getMeta)
+                .fetchAll(parallelism);
+    }
+
     /**
      * Get servers by name.
      *
@@ -157,9 +358,7 @@ public class HetznerCloudAPI {
      */
     public ServersResponse getServer(String name) {
         return get(
-                UrlBuilder.from(API_URL + "/servers")
-                        .queryParam("name", name)
-                        .toUri(),
+                ApiUrls.serversByName(name),
                 ServersResponse.class);
     }
 
@@ -171,7 +370,7 @@ public class HetznerCloudAPI {
      */
     public ServerResponse getServer(long id) {
         return get(
-                API_URL + "/servers/" + id,
+                ApiUrls.server(id),
                 ServerResponse.class);
     }
 
@@ -184,7 +383,7 @@ public class HetznerCloudAPI {
     public CreateServerResponse createServer(CreateServerRequest createServerRequest) {
         createServerRequest.setServerType(createServerRequest.getServerType().toLowerCase());   // Case-sensitive fix
         return post(
-                API_URL + "/servers",
+                ApiUrls.servers(),
                 createServerRequest,
                 CreateServerResponse.class);
     }
@@ -197,7 +396,7 @@ public class HetznerCloudAPI {
      */
     public ActionResponse deleteServer(long id) {
         return delete(
-                API_URL + "/servers/" + id,
+                ApiUrls.server(id),
                 ActionResponse.class);
     }
 
@@ -210,7 +409,7 @@ public class HetznerCloudAPI {
      */
     public ServerResponse updateServer(long id, UpdateServerRequest updateServerRequest) {
         return put(
-                API_URL + "/servers/" + id,
+                ApiUrls.server(id),
                 updateServerRequest,
                 ServerResponse.class);
     }
@@ -276,10 +475,20 @@ public class HetznerCloudAPI {
      */
     public ActionsResponse getServerActions(long id) {
         return get(
-                API_URL + "/servers/" + id + "/actions",
+                ApiUrls.serverActions(id),
                 ActionsResponse.class);
     }
 
+    /**
+     * Get the actions of all servers, newest first.
+     *
+     * @param paginationParameters Pagination parameters
+     * @return ActionsResponse object
+     */
+    public ActionsResponse getServerActions(PaginationParameters paginationParameters) {
+        return get(resourceActionsUrl("servers", paginationParameters), ActionsResponse.class);
+    }
+
     /**
      * Get all performed Actions of a Floating IP
      *
@@ -299,7 +508,7 @@ public class HetznerCloudAPI {
      */
     public ActionResponse powerOnServer(long id) {
         return post(
-                API_URL + "/servers/" + id + "/actions/poweron",
+                ApiUrls.serverAction(id, "poweron"),
                 ActionResponse.class);
     }
 
@@ -311,7 +520,7 @@ public class HetznerCloudAPI {
      */
     public ActionResponse powerOffServer(long id) {
         return post(
-                API_URL + "/servers/" + id + "/actions/poweroff",
+                ApiUrls.serverAction(id, "poweroff"),
                 ActionResponse.class);
     }
 
@@ -323,7 +532,7 @@ public class HetznerCloudAPI {
      */
     public ActionResponse rebootServer(long id) {
         return post(
-                API_URL + "/servers/" + id + "/actions/reboot",
+                ApiUrls.serverAction(id, "reboot"),
                 ActionResponse.class);
     }
 
@@ -335,7 +544,7 @@ public class HetznerCloudAPI {
      */
     public ActionResponse resetServer(long id) {
         return post(
-                API_URL + "/servers/" + id + "/actions/reset",
+                ApiUrls.serverAction(id, "reset"),
                 ActionResponse.class);
     }
 
@@ -347,7 +556,7 @@ public class HetznerCloudAPI {
      */
     public ActionResponse shutdownServer(long id) {
         return post(
-                API_URL + "/servers/" + id + "/actions/shutdown",
+                ApiUrls.serverAction(id, "shutdown"),
                 ActionResponse.class);
     }
 
@@ -414,7 +623,7 @@ public class HetznerCloudAPI {
      */
     public RebuildServerResponse rebuildServer(long id, RebuildServerRequest rebuildServerRequest) {
         return post(
-                API_URL + "/servers/" + id + "/actions/rebuild",
+                ApiUrls.serverAction(id, "rebuild"),
                 rebuildServerRequest,
                 RebuildServerResponse.class);
     }
@@ -430,7 +639,7 @@ public class HetznerCloudAPI {
      */
     public ActionResponse changeServerType(long id, ChangeTypeRequest changeTypeRequest) {
         return post(
-                API_URL + "/servers/" + id + "/actions/change_type",
+                ApiUrls.serverAction(id, "change_type"),
                 changeTypeRequest,
                 ActionResponse.class);
     }
@@ -446,15 +655,40 @@ public class HetznerCloudAPI {
      */
     public MetricsResponse getServerMetrics(long id, String metricType, String start, String end) {
         return get(
-                UrlBuilder.from(
-                        API_URL + "/servers/" + id + "/metrics")
-                        .queryParam("type", metricType)
-                        .queryParam("start", start)
-                        .queryParam("end", end)
-                        .toUri(),
+                ApiUrls.serverMetrics(id, metricType, start, end, null),
                 MetricsResponse.class);
     }
 
+    /**
+     * Get the metrics from a server with typed time series.
+     * The samples are parsed into primitive arrays instead of nested maps and lists.
+     *
+     * @param id         ID of the server
+     * @param metricType like cpu, disk or network (but also cpu,disk possible)
+     * @param start      of the metric
+     * @param end        of the metric
+     * @return TimeSeriesMetricsResponse
+     */
+    public TimeSeriesMetricsResponse getServerTimeSeriesMetrics(long id, String metricType, String start, String end) {
+        return getServerTimeSeriesMetrics(id, metricType, start, end, null);
+    }
+
+    /**
+     * Get the metrics from a server with typed time series in a fixed resolution.
+     *
+     * @param id         ID of the server
+     * @param metricType like cpu, disk or network (but also cpu,disk possible)
+     * @param start      of the metric
+     * @param end        of the metric
+     * @param step       resolution of the samples in seconds (chosen by the API if null)
+     * @return TimeSeriesMetricsResponse
+     */
+    public TimeSeriesMetricsResponse getServerTimeSeriesMetrics(long id, String metricType, String start, String end, Long step) {
+        return get(
+                ApiUrls.serverMetrics(id, metricType, start, end, step),
+                TimeSeriesMetricsResponse.class);
+    }
+
     /**
      * Create an image from a server
      *
@@ -536,14 +770,23 @@ public class HetznerCloudAPI {
      */
     public ISOSResponse getISOS(Architecture architecture, PaginationParameters paginationParameters) {
         return get(
-                UrlBuilder.from(API_URL + "/isos")
-                        .queryParamIfPresent("architecture", Optional.ofNullable(architecture))
-                        .queryParamIfPresent("page", Optional.ofNullable(paginationParameters.page))
-                        .queryParamIfPresent("per_page", Optional.ofNullable(paginationParameters.perPage))
-                        .toUri(),
+                ApiUrls.isos(architecture, paginationParameters),
                 ISOSResponse.class);
     }
 
+    /**
+     * Stream all ISOs in a project, see {@link PageIterator}.
+     *
+     * @param architecture Architecture filter (may be null)
+     * @return lazily paging stream of ISO objects
+     */
+    public Stream<ISO> streamISOS(Architecture architecture) {
+        return PageIterator.stream(
+                paginationParameters -> getISOS(architecture, paginationParameters),
+                ISOSResponse::getIsos,
+                ISOSResponse::getMeta);
+    }
+
     /**
      * Get an ISO by ID
      *
@@ -595,7 +838,7 @@ public class HetznerCloudAPI {
      */
     public ActionResponse changeDNSPTR(long id, ChangeReverseDNSRequest changeReverseDNSRequest) {
         return post(
-                API_URL + "/servers/" + id + "/actions/change_dns_ptr",
+                ApiUrls.serverAction(id, "change_dns_ptr"),
                 changeReverseDNSRequest,
                 ActionResponse.class);
     }
@@ -619,7 +862,7 @@ public class HetznerCloudAPI {
      */
     public DatacentersResponse getDatacenters() {
         return get(
-                API_URL + "/datacenters",
+                ApiUrls.datacenters(),
                 DatacentersResponse.class);
     }
 
@@ -675,14 +918,39 @@ public class HetznerCloudAPI {
      */
     public FirewallsResponse getFirewalls(String labelSelector, PaginationParameters paginationParameters) {
         return get(
-                UrlBuilder.from(API_URL + "/firewalls")
-                        .queryParamIfPresent("label_selector", Optional.ofNullable(labelSelector))
-                        .queryParamIfPresent("page", Optional.ofNullable(paginationParameters.page))
-                        .queryParamIfPresent("per_page", Optional.ofNullable(paginationParameters.perPage))
-                        .toUri(),
+                ApiUrls.firewalls(labelSelector, paginationParameters),
                 FirewallsResponse.class);
     }
 
+    /**
+     * Stream all Firewalls in a project, see {@link PageIterator}.
+     *
+     * @param labelSelector Label selector filter (may be null)
+     * @return lazily paging stream of Firewall objects
+     */
+    public Stream<Firewall> streamFirewalls(String labelSelector) {
+        return PageIterator.stream(
+                paginationParameters -> getFirewalls(labelSelector, paginationParameters),
+                FirewallsResponse::getFirewalls,
+                FirewallsResponse::getMeta);
+    }
+
+    /**
+     * Get all Firewalls in a project by fetching all pages concurrently, see {@link PageFanOut}.
+     *
+     * @param labelSelector Label selector filter (may be null)
+     * @param parallelism   maximum amount of concurrently requested pages
+     * @return all Firewall objects
+     */
+    public List<Firewall> getAllFirewalls(String labelSelector, int parallelism) {
+        return new PageFanOut<>(
+                paginationParameters -> getFirewalls(labelSelector, paginationParameters),
+                paginationParameters -> asyncAPI.getFirewalls(labelSelector, paginationParameters),
+                FirewallsResponse::getFirewalls,
+                FirewallsResponse::getMeta)
+                .fetchAll(parallelism);
+    }
+
     /**
      * Creates a new Firewall.
      *
@@ -715,7 +983,7 @@ public class HetznerCloudAPI {
      */
     public CreateFirewallResponse getFirewall(long id) {
         return get(
-                API_URL + "/firewalls/" + id,
+                ApiUrls.firewall(id),
                 CreateFirewallResponse.class);
     }
 
@@ -745,6 +1013,16 @@ public class HetznerCloudAPI {
                 ActionsResponse.class);
     }
 
+    /**
+     * Get the actions of all firewalls, newest first.
+     *
+     * @param paginationParameters Pagination parameters
+     * @return ActionsResponse object
+     */
+    public ActionsResponse getFirewallActions(PaginationParameters paginationParameters) {
+        return get(resourceActionsUrl("firewalls", paginationParameters), ActionsResponse.class);
+    }
+
     /**
      * Applies one Firewall to multiple resources.
      *
@@ -754,7 +1032,7 @@ public class HetznerCloudAPI {
      */
     public ActionsResponse applyFirewallToResources(long id, List<FWApplicationTarget> applicationTargets) {
         return post(
-                API_URL + "/firewalls/" + id + "/actions/apply_to_resources",
+                ApiUrls.firewallAction(id, "apply_to_resources"),
                 Map.of("apply_to", applicationTargets),
                 ActionsResponse.class);
     }
@@ -768,7 +1046,7 @@ public class HetznerCloudAPI {
      */
     public ActionsResponse removeFirewallFromResources(long id, List<FWApplicationTarget> removalTargets) {
         return post(
-                API_URL + "/firewalls/" + id + "/actions/remove_from_resources",
+                ApiUrls.firewallAction(id, "remove_from_resources"),
                 Map.of("remove_from", removalTargets),
                 ActionsResponse.class);
     }
@@ -806,7 +1084,7 @@ public class HetznerCloudAPI {
      */
     public PricingResponse getPricing() {
         return get(
-                API_URL + "/pricing",
+                ApiUrls.pricing(),
                 PricingResponse.class);
     }
 
@@ -838,14 +1116,39 @@ public class HetznerCloudAPI {
      */
     public PrimaryIPsResponse getPrimaryIPs(String labelSelector, PaginationParameters paginationParameters) {
         return get(
-                UrlBuilder.from(API_URL + "/primary_ips")
-                        .queryParamIfPresent("label_selector", Optional.ofNullable(labelSelector))
-                        .queryParamIfPresent("page", Optional.ofNullable(paginationParameters.page))
-                        .queryParamIfPresent("per_page", Optional.ofNullable(paginationParameters.perPage))
-                        .toUri(),
+                ApiUrls.primaryIPs(labelSelector, paginationParameters),
                 PrimaryIPsResponse.class);
     }
 
+    /**
+     * Stream all Primary IPs in a project, see {@link PageIterator}.
+     *
+     * @param labelSelector Label selector filter (may be null)
+     * @return lazily paging stream of PrimaryIP objects
+     */
+    public Stream<PrimaryIP> streamPrimaryIPs(String labelSelector) {
+        return PageIterator.stream(
+                paginationParameters -> getPrimaryIPs(labelSelector, paginationParameters),
+                PrimaryIPsResponse::getPrimaryIPs,
+                PrimaryIPsResponse::getMeta);
+    }
+
+    /**
+     * Get all Primary IPs in a project by fetching all pages concurrently, see {@link PageFanOut}.
+     *
+     * @param labelSelector Label selector filter (may be null)
+     * @param parallelism   maximum amount of concurrently requested pages
+     * @return all PrimaryIP objects
+     */
+    public List<PrimaryIP> getAllPrimaryIPs(String labelSelector, int parallelism) {
+        return new PageFanOut<>(
+                paginationParameters -> getPrimaryIPs(labelSelector, paginationParameters),
+                paginationParameters -> asyncAPI.getPrimaryIPs(labelSelector, paginationParameters),
+                PrimaryIPsResponse::getPrimaryIPs,
+                PrimaryIPsResponse::getMeta)
+                .fetchAll(parallelism);
+    }
+
     /**
      * Get a Primary IP by its name in a project
      *
@@ -882,7 +1185,7 @@ public class HetznerCloudAPI {
      */
     public PrimaryIPResponse getPrimaryIP(long id) {
         return get(
-                API_URL + "/primary_ips/" + id,
+                ApiUrls.primaryIP(id),
                 PrimaryIPResponse.class);
     }
 
@@ -920,7 +1223,7 @@ public class HetznerCloudAPI {
      */
     public ActionResponse assignPrimaryIP(long id, AssignPrimaryIPRequest assignPrimaryIPRequest) {
         return post(
-                API_URL + "/primary_ips/" + id + "/actions/assign",
+                ApiUrls.primaryIPAction(id, "assign"),
                 assignPrimaryIPRequest,
                 ActionResponse.class);
     }
@@ -933,7 +1236,7 @@ public class HetznerCloudAPI {
      */
     public ActionResponse unassignPrimaryIP(long id) {
         return post(
-                API_URL + "/primary_ips/" + id + "/actions/unassign",
+                ApiUrls.primaryIPAction(id, "unassign"),
                 ActionResponse.class);
     }
 
@@ -1010,14 +1313,39 @@ public class HetznerCloudAPI {
      */
     public FloatingIPsResponse getFloatingIPs(String labelSelector, PaginationParameters paginationParameters) {
         return get(
-                UrlBuilder.from(API_URL + "/floating_ips")
-                        .queryParamIfPresent("label_selector", Optional.ofNullable(labelSelector))
-                        .queryParamIfPresent("page", Optional.ofNullable(paginationParameters.page))
-                        .queryParamIfPresent("per_page", Optional.ofNullable(paginationParameters.perPage))
-                        .toUri(),
+                ApiUrls.floatingIPs(labelSelector, paginationParameters),
                 FloatingIPsResponse.class);
     }
 
+    /**
+     * Stream all Floating IPs in a project, see {@link PageIterator}.
+     *
+     * @param labelSelector Label selector filter (may be null)
+     * @return lazily paging stream of FloatingIP objects
+     */
+    public Stream<FloatingIP> streamFloatingIPs(String labelSelector) {
+        return PageIterator.stream(
+                paginationParameters -> getFloatingIPs(labelSelector, paginationParameters),
+                FloatingIPsResponse::getFloatingIps,
+                FloatingIPsResponse::getMeta);
+    }
+
+    /**
+     * Get all Floating IPs in a project by fetching all pages concurrently, see {@link PageFanOut}.
+     *
+     * @param labelSelector Label selector filter (may be null)
+     * @param parallelism   maximum amount of concurrently requested pages
+     * @return all FloatingIP objects
+     */
+    public List<FloatingIP> getAllFloatingIPs(String labelSelector, int parallelism) {
+        return new PageFanOut<>(
+                paginationParameters -> getFloatingIPs(labelSelector, paginationParameters),
+                paginationParameters -> asyncAPI.getFloatingIPs(labelSelector, paginationParameters),
+                FloatingIPsResponse::getFloatingIps,
+                FloatingIPsResponse::getMeta)
+                .fetchAll(parallelism);
+    }
+
     /**
      * Get a specific Floating IP.
      *
@@ -1026,7 +1354,7 @@ public class HetznerCloudAPI {
      */
     public FloatingIPResponse getFloatingIP(long id) {
         return get(
-                API_URL + "/floating_ips/" + id,
+                ApiUrls.floatingIP(id),
                 FloatingIPResponse.class);
     }
 
@@ -1066,7 +1394,7 @@ public class HetznerCloudAPI {
      */
     public ActionResponse assignFloatingIP(long id, AssignFloatingIPRequest assignFloatingIPRequest) {
         return post(
-                API_URL + "/floating_ips/" + id + "/actions/assign",
+                ApiUrls.floatingIPAction(id, "assign"),
                 assignFloatingIPRequest,
                 ActionResponse.class);
     }
@@ -1079,7 +1407,7 @@ public class HetznerCloudAPI {
      */
     public ActionResponse unassignFloatingIP(long id) {
         return post(
-                API_URL + "/floating_ips/" + id + "/actions/unassign",
+                ApiUrls.floatingIPAction(id, "unassign"),
                 ActionResponse.class);
     }
 
@@ -1163,14 +1491,39 @@ public class HetznerCloudAPI {
      */
     public SSHKeysResponse getSSHKeys(String labelSelector, PaginationParameters paginationParameters) {
         return get(
-                UrlBuilder.from(API_URL + "/ssh_keys")
-                        .queryParamIfPresent("label_selector", Optional.ofNullable(labelSelector))
-                        .queryParamIfPresent("page", Optional.ofNullable(paginationParameters.page))
-                        .queryParamIfPresent("per_page", Optional.ofNullable(paginationParameters.perPage))
-                        .toUri(),
+                ApiUrls.sshKeys(labelSelector, paginationParameters),
                 SSHKeysResponse.class);
     }
 
+    /**
+     * Stream all SSH keys in a project, see {@link PageIterator}.
+     *
+     * @param labelSelector Label selector filter (may be null)
+     * @return lazily paging stream of SSHKey objects
+     */
+    public Stream<SSHKey> streamSSHKeys(String labelSelector) {
+        return PageIterator.stream(
+                paginationParameters -> getSSHKeys(labelSelector, paginationParameters),
+                SSHKeysResponse::getSshKeys,
+                SSHKeysResponse::getMeta);
+    }
+
+    /**
+     * Get all SSH keys in a project by fetching all pages concurrently, see {@link PageFanOut}.
+     *
+     * @param labelSelector Label selector filter (may be null)
+     * @param parallelism   maximum amount of concurrently requested pages
+     * @return all SSHKey objects
+     */
+    public List<SSHKey> getAllSSHKeys(String labelSelector, int parallelism) {
+        return new PageFanOut<>(
+                paginationParameters -> getSSHKeys(labelSelector, paginationParameters),
+                paginationParameters -> asyncAPI.getSSHKeys(labelSelector, paginationParameters),
+                SSHKeysResponse::getSshKeys,
+                SSHKeysResponse::getMeta)
+                .fetchAll(parallelism);
+    }
+
     /**
      * Get an SSH key by ID.
      *
@@ -1259,7 +1612,7 @@ public class HetznerCloudAPI {
      */
     public ServerTypesResponse getServerTypes() {
         return get(
-                API_URL + "/server_types",
+                ApiUrls.serverTypes(),
                 ServerTypesResponse.class);
     }
 
@@ -1277,6 +1630,18 @@ public class HetznerCloudAPI {
                 ServerTypesResponse.class);
     }
 
+    /**
+     * Stream all Server types, see {@link PageIterator}.
+     *
+     * @return lazily paging stream of ServerType objects
+     */
+    public Stream<ServerType> streamServerTypes() {
+        return PageIterator.stream(
+                this::getServerTypes,
+                ServerTypesResponse::getServerTypes,
+                ServerTypesResponse::getMeta);
+    }
+
     /**
      * Get all Load Balancer types.
      *
@@ -1284,7 +1649,7 @@ public class HetznerCloudAPI {
      */
     public LoadBalancerTypesResponse getLoadBalancerTypes() {
         return get(
-                API_URL + "/load_balancer_types",
+                ApiUrls.loadBalancerTypes(),
                 LoadBalancerTypesResponse.class);
     }
 
@@ -1345,7 +1710,7 @@ public class HetznerCloudAPI {
      */
     public LocationsResponse getLocations() {
         return get(
-                API_URL + "/locations",
+                ApiUrls.locations(),
                 LocationsResponse.class);
     }
 
@@ -1447,15 +1812,41 @@ public class HetznerCloudAPI {
      */
     public ImagesResponse getImages(String labelSelector, Architecture architecture, PaginationParameters paginationParameters) {
         return get(
-                UrlBuilder.from(API_URL + "/images")
-                        .queryParamIfPresent("label_selector", Optional.ofNullable(labelSelector))
-                        .queryParamIfPresent("architecture", Optional.ofNullable(architecture))
-                        .queryParamIfPresent("page", Optional.ofNullable(paginationParameters.page))
-                        .queryParamIfPresent("per_page", Optional.ofNullable(paginationParameters.perPage))
-                        .toUri(),
+                ApiUrls.images(labelSelector, architecture, paginationParameters),
                 ImagesResponse.class);
     }
 
+    /**
+     * Stream all images in a project, see {@link PageIterator}.
+     *
+     * @param labelSelector Label selector filter (may be null)
+     * @param architecture Architecture filter (may be null)
+     * @return lazily paging stream of Image objects
+     */
+    public Stream<Image> streamImages(String labelSelector, Architecture architecture) {
+        return PageIterator.stream(
+                paginationParameters -> getImages(labelSelector, architecture, paginationParameters),
+                ImagesResponse::getImages,
+                ImagesResponse::getMeta);
+    }
+
+    /**
+     * Get all images in a project by fetching all pages concurrently, see {@link PageFanOut}.
+     *
+     * @param labelSelector Label selector filter (may be null)
+     * @param architecture  Architecture filter (may be null)
+     * @param parallelism   maximum amount of concurrently requested pages
+     * @return all Image objects
+     */
+    public List<Image> getAllImages(String labelSelector, Architecture architecture, int parallelism) {
+        return new PageFanOut<>(
+                paginationParameters -> getImages(labelSelector, architecture, paginationParameters),
+                paginationParameters -> asyncAPI.getImages(labelSelector, architecture, paginationParameters),
+                ImagesResponse::getImages,
+                ImagesResponse::getMeta)
+                .fetchAll(parallelism);
+    }
+
     /**
      * Get all images by type.
      *
@@ -1503,7 +1894,7 @@ public class HetznerCloudAPI {
      */
     public ImageResponse getImage(long id) {
         return get(
-                API_URL + "/images/" + id,
+                ApiUrls.image(id),
                 ImageResponse.class);
     }
 
@@ -1573,14 +1964,39 @@ public class HetznerCloudAPI {
      */
     public VolumesResponse getVolumes(String labelSelector, PaginationParameters paginationParameters) {
         return get(
-                UrlBuilder.from(API_URL + "/volumes")
-                        .queryParamIfPresent("label_selector", Optional.ofNullable(labelSelector))
-                        .queryParamIfPresent("page", Optional.ofNullable(paginationParameters.page))
-                        .queryParamIfPresent("per_page", Optional.ofNullable(paginationParameters.perPage))
-                        .toUri(),
+                ApiUrls.volumes(labelSelector, paginationParameters),
                 VolumesResponse.class);
     }
 
+    /**
+     * Stream all volumes in a project, see {@link PageIterator}.
+     *
+     * @param labelSelector Label selector filter (may be null)
+     * @return lazily paging stream of Volume objects
+     */
+    public Stream<Volume> streamVolumes(String labelSelector) {
+        return PageIterator.stream(
+                paginationParameters -> getVolumes(labelSelector, paginationParameters),
+                VolumesResponse::getVolumes,
+                VolumesResponse::getMeta);
+    }
+
+    /**
+     * Get all volumes in a project by fetching all pages concurrently, see {@link PageFanOut}.
+     *
+     * @param labelSelector Label selector filter (may be null)
+     * @param parallelism   maximum amount of concurrently requested pages
+     * @return all Volume objects
+     */
+    public List<Volume> getAllVolumes(String labelSelector, int parallelism) {
+        return new PageFanOut<>(
+                paginationParameters -> getVolumes(labelSelector, paginationParameters),
+                paginationParameters -> asyncAPI.getVolumes(labelSelector, paginationParameters),
+                VolumesResponse::getVolumes,
+                VolumesResponse::getMeta)
+                .fetchAll(parallelism);
+    }
+
     /**
      * Get a specific volume by id.
      *
@@ -1589,7 +2005,7 @@ public class HetznerCloudAPI {
      */
     public VolumeResponse getVolume(long id) {
         return get(
-                API_URL + "/volumes/" + id,
+                ApiUrls.volume(id),
                 VolumeResponse.class);
     }
 
@@ -1603,7 +2019,7 @@ public class HetznerCloudAPI {
         if ((createVolumeRequest.getFormat() != null))
             createVolumeRequest.setFormat(createVolumeRequest.getFormat().toLowerCase());   // case-sensitive fix
         return post(
-                API_URL + "/volumes",
+                ApiUrls.volumes(),
                 createVolumeRequest,
                 CreateVolumeResponse.class);
     }
@@ -1630,7 +2046,7 @@ public class HetznerCloudAPI {
      */
     public String deleteVolume(long id) {
         return delete(
-                API_URL + "/volumes/" + id,
+                ApiUrls.volume(id),
                 String.class);
     }
 
@@ -1646,6 +2062,16 @@ public class HetznerCloudAPI {
                 ActionsResponse.class);
     }
 
+    /**
+     * Get the actions of all volumes, newest first.
+     *
+     * @param paginationParameters Pagination parameters
+     * @return ActionsResponse object
+     */
+    public ActionsResponse getVolumeActions(PaginationParameters paginationParameters) {
+        return get(resourceActionsUrl("volumes", paginationParameters), ActionsResponse.class);
+    }
+
     /**
      * Attach a volume to a server.
      *
@@ -1655,7 +2081,7 @@ public class HetznerCloudAPI {
      */
     public ActionResponse attachVolumeToServer(long id, AttachVolumeRequest attachVolumeRequest) {
         return post(
-                API_URL + "/volumes/" + id + "/actions/attach",
+                ApiUrls.volumeAction(id, "attach"),
                 attachVolumeRequest,
                 ActionResponse.class);
     }
@@ -1668,7 +2094,7 @@ public class HetznerCloudAPI {
      */
     public ActionResponse detachVolume(long id) {
         return post(
-                API_URL + "/volumes/" + id + "/actions/detach",
+                ApiUrls.volumeAction(id, "detach"),
                 ActionResponse.class);
     }
 
@@ -1682,7 +2108,7 @@ public class HetznerCloudAPI {
      */
     public ActionResponse resizeVolume(long id, ResizeVolumeRequest resizeVolumeRequest) {
         return post(
-                API_URL + "/volumes/" + id + "/actions/resize",
+                ApiUrls.volumeAction(id, "resize"),
                 resizeVolumeRequest,
                 ActionResponse.class);
     }
@@ -1740,14 +2166,39 @@ public class HetznerCloudAPI {
      */
     public NetworksResponse getNetworks(String labelSelector, PaginationParameters paginationParameters) {
         return get(
-                UrlBuilder.from(API_URL + "/networks")
-                        .queryParamIfPresent("label_selector", Optional.ofNullable(labelSelector))
-                        .queryParamIfPresent("page", Optional.ofNullable(paginationParameters.page))
-                        .queryParamIfPresent("per_page", Optional.ofNullable(paginationParameters.perPage))
-                        .toUri(),
+                ApiUrls.networks(labelSelector, paginationParameters),
                 NetworksResponse.class);
     }
 
+    /**
+     * Stream all networks in a project, see {@link PageIterator}.
+     *
+     * @param labelSelector Label selector filter (may be null)
+     * @return lazily paging stream of Network objects
+     */
+    public Stream<Network> streamNetworks(String labelSelector) {
+        return PageIterator.stream(
+                paginationParameters -> getNetworks(labelSelector, paginationParameters),
+                NetworksResponse::getNetworks,
+                NetworksResponse::getMeta);
+    }
+
+    /**
+     * Get all networks in a project by fetching all pages concurrently, see {@link PageFanOut}.
+     *
+     * @param labelSelector Label selector filter (may be null)
+     * @param parallelism   maximum amount of concurrently requested pages
+     * @return all Network objects
+     */
+    public List<Network> getAllNetworks(String labelSelector, int parallelism) {
+        return new PageFanOut<>(
+                paginationParameters -> getNetworks(labelSelector, paginationParameters),
+                paginationParameters -> asyncAPI.getNetworks(labelSelector, paginationParameters),
+                NetworksResponse::getNetworks,
+                NetworksResponse::getMeta)
+                .fetchAll(parallelism);
+    }
+
     /**
      * Get all networks with specific name.
      *
@@ -1768,7 +2219,7 @@ public class HetznerCloudAPI {
      */
     public NetworkResponse getNetwork(long id) {
         return get(
-                API_URL + "/networks/" + id,
+                ApiUrls.network(id),
                 NetworkResponse.class);
     }
 
@@ -1821,7 +2272,7 @@ public class HetznerCloudAPI {
      */
     public ActionResponse attachServerToNetwork(long id, AttachServerToNetworkRequest attachServerToNetworkRequest) {
         return post(
-                API_URL + "/servers/" + id + "/actions/attach_to_network",
+                ApiUrls.serverAction(id, "attach_to_network"),
                 attachServerToNetworkRequest,
                 ActionResponse.class);
     }
@@ -1836,7 +2287,7 @@ public class HetznerCloudAPI {
      */
     public ActionResponse detachServerFromNetwork(long id, DetachServerFromNetworkRequest detachServerFromNetworkRequest) {
         return post(
-                API_URL + "/servers/" + id + "/actions/detach_from_network",
+                ApiUrls.serverAction(id, "detach_from_network"),
                 detachServerFromNetworkRequest,
                 ActionResponse.class);
     }
@@ -1881,6 +2332,16 @@ public class HetznerCloudAPI {
                 ActionsResponse.class);
     }
 
+    /**
+     * Get the actions of all networks, newest first.
+     *
+     * @param paginationParameters Pagination parameters
+     * @return ActionsResponse object
+     */
+    public ActionsResponse getNetworkActions(PaginationParameters paginationParameters) {
+        return get(resourceActionsUrl("networks", paginationParameters), ActionsResponse.class);
+    }
+
     /**
      * Add a new subnet to a network.
      *
@@ -2005,6 +2466,19 @@ public class HetznerCloudAPI {
                 CertificatesResponse.class);
     }
 
+    /**
+     * Stream all certificates in a project, see {@link PageIterator}.
+     *
+     * @param labelSelector Label selector filter (may be null)
+     * @return lazily paging stream of Certificate objects
+     */
+    public Stream<Certificate> streamCertificates(String labelSelector) {
+        return PageIterator.stream(
+                paginationParameters -> getCertificates(labelSelector, paginationParameters),
+                CertificatesResponse::getCertificates,
+                CertificatesResponse::getMeta);
+    }
+
     /**
      * Get a specific certificate by its name.
      *
@@ -2130,14 +2604,39 @@ public class HetznerCloudAPI {
      */
     public LoadBalancersResponse getLoadBalancers(String labelSelector, PaginationParameters paginationParameters) {
         return get(
-                UrlBuilder.from(API_URL + "/load_balancers")
-                        .queryParamIfPresent("label_selector", Optional.ofNullable(labelSelector))
-                        .queryParamIfPresent("page", Optional.ofNullable(paginationParameters.page))
-                        .queryParamIfPresent("per_page", Optional.ofNullable(paginationParameters.perPage))
-                        .toUri(),
+                ApiUrls.loadBalancers(labelSelector, paginationParameters),
                 LoadBalancersResponse.class);
     }
 
+    /**
+     * Stream all Load Balancers in a project, see {@link PageIterator}.
+     *
+     * @param labelSelector Label selector filter (may be null)
+     * @return lazily paging stream of LoadBalancer objects
+     */
+    public Stream<LoadBalancer> streamLoadBalancers(String labelSelector) {
+        return PageIterator.stream(
+                paginationParameters -> getLoadBalancers(labelSelector, paginationParameters),
+                LoadBalancersResponse::getLoadBalancers,
+                LoadBalancersResponse::getMeta);
+    }
+
+    /**
+     * Get all Load Balancers in a project by fetching all pages concurrently, see {@link PageFanOut}.
+     *
+     * @param labelSelector Label selector filter (may be null)
+     * @param parallelism   maximum amount of concurrently requested pages
+     * @return all LoadBalancer objects
+     */
+    public List<LoadBalancer> getAllLoadBalancers(String labelSelector, int parallelism) {
+        return new PageFanOut<>(
+                paginationParameters -> getLoadBalancers(labelSelector, paginationParameters),
+                paginationParameters -> asyncAPI.getLoadBalancers(labelSelector, paginationParameters),
+                LoadBalancersResponse::getLoadBalancers,
+                LoadBalancersResponse::getMeta)
+                .fetchAll(parallelism);
+    }
+
     /**
      * Get a specific Load Balancer.
      *
@@ -2146,10 +2645,58 @@ public class HetznerCloudAPI {
      */
     public LoadBalancerResponse getLoadBalancer(long id) {
         return get(
-                API_URL + "/load_balancers/" + id,
+                ApiUrls.loadBalancer(id),
                 LoadBalancerResponse.class);
     }
 
+    /**
+     * Get the metrics from a Load Balancer
+     *
+     * @param id         ID of the Load Balancer
+     * @param metricType like open_connections, connections_per_second, requests_per_second or bandwidth
+     *                   (but also open_connections,bandwidth possible)
+     * @param start      of the metric
+     * @param end        of the metric
+     * @return MetricsResponse
+     */
+    public MetricsResponse getLoadBalancerMetrics(long id, String metricType, String start, String end) {
+        return get(
+                ApiUrls.loadBalancerMetrics(id, metricType, start, end, null),
+                MetricsResponse.class);
+    }
+
+    /**
+     * Get the metrics from a Load Balancer with typed time series.
+     * The samples are parsed into primitive arrays instead of nested maps and lists.
+     *
+     * @param id         ID of the Load Balancer
+     * @param metricType like open_connections, connections_per_second, requests_per_second or bandwidth
+     *                   (but also open_connections,bandwidth possible)
+     * @param start      of the metric
+     * @param end        of the metric
+     * @return TimeSeriesMetricsResponse
+     */
+    public TimeSeriesMetricsResponse getLoadBalancerTimeSeriesMetrics(long id, String metricType, String start, String end) {
+        return getLoadBalancerTimeSeriesMetrics(id, metricType, start, end, null);
+    }
+
+    /**
+     * Get the metrics from a Load Balancer with typed time series in a fixed resolution.
+     *
+     * @param id         ID of the Load Balancer
+     * @param metricType like open_connections, connections_per_second, requests_per_second or bandwidth
+     *                   (but also open_connections,bandwidth possible)
+     * @param start      of the metric
+     * @param end        of the metric
+     * @param step       resolution of the samples in seconds (chosen by the API if null)
+     * @return TimeSeriesMetricsResponse
+     */
+    public TimeSeriesMetricsResponse getLoadBalancerTimeSeriesMetrics(long id, String metricType, String start, String end, Long step) {
+        return get(
+                ApiUrls.loadBalancerMetrics(id, metricType, start, end, step),
+                TimeSeriesMetricsResponse.class);
+    }
+
     /**
      * Create a new Load Balancer.
      *
@@ -2201,6 +2748,16 @@ public class HetznerCloudAPI {
                 ActionsResponse.class);
     }
 
+    /**
+     * Get the actions of all load balancers, newest first.
+     *
+     * @param paginationParameters Pagination parameters
+     * @return ActionsResponse object
+     */
+    public ActionsResponse getLoadBalancerActions(PaginationParameters paginationParameters) {
+        return get(resourceActionsUrl("load_balancers", paginationParameters), ActionsResponse.class);
+    }
+
     /**
      * Add a service to a Load Balancer.
      *
@@ -2252,7 +2809,7 @@ public class HetznerCloudAPI {
      */
     public ActionResponse addTargetToLoadBalancer(long id, LBTargetRequest lbTargetRequest) {
         return post(
-                API_URL + "/load_balancers/" + id + "/actions/add_target",
+                ApiUrls.loadBalancerAction(id, "add_target"),
                 lbTargetRequest,
                 ActionResponse.class);
     }
@@ -2266,7 +2823,7 @@ public class HetznerCloudAPI {
      */
     public ActionResponse removeTargetFromLoadBalancer(long id, LBTargetRequest lbTargetRequest) {
         return post(
-                API_URL + "/load_balancers/" + id + "/actions/remove_target",
+                ApiUrls.loadBalancerAction(id, "remove_target"),
                 lbTargetRequest,
                 ActionResponse.class);
     }
@@ -2418,6 +2975,18 @@ public class HetznerCloudAPI {
                 PlacementGroupsResponse.class);
     }
 
+    /**
+     * Stream all placement groups in a project, see {@link PageIterator}.
+     *
+     * @return lazily paging stream of PlacementGroup objects
+     */
+    public Stream<PlacementGroup> streamPlacementGroups() {
+        return PageIterator.stream(
+                paginationParameters -> getPlacementGroups(paginationParameters),
+                PlacementGroupsResponse::getPlacementGroups,
+                PlacementGroupsResponse::getMeta);
+    }
+
     /**
      * Get placement group by name.
      *
@@ -2492,43 +3061,352 @@ public class HetznerCloudAPI {
      * @return Date in ISO-8601 format
      */
     public String convertToISO8601(Date date) {
-        DateFormat dateFormat = new SimpleDateFormat("yyyy-MM-dd'T'HH:mm:ss'Z'");
-        dateFormat.setTimeZone(TimeZone.getTimeZone("UTC"));
-        return dateFormat.format(date);
+        return convertToISO8601(date.toInstant());
+    }
+
+    /**
+     * Converts an Instant to the ISO-8601 format
+     *
+     * @param instant Instant to be converted
+     * @return Instant in ISO-8601 format
+     */
+    public String convertToISO8601(Instant instant) {
+        return ISO8601_FORMATTER.format(instant);
     }
 
     private <T> T exchange(String url, HttpMethod method, Object body, Class<T> clazz) {
-        try(Response response = buildCall(url, method, body).execute()) {
-            final String responseBody = response.body().string();
+        if (method != HttpMethod.GET) {
+            try {
+                return send(url, method, body, clazz);
+            } finally {
+                // also evicted on failures, as the request may have been processed anyway
+                invalidateCachedResponses(url);
+            }
+        }
+        if (!coalesceRequests) {
+            return send(url, method, body, clazz);
+        }
 
-            if (!response.isSuccessful()) {
-                throw new APIRequestException(objectMapper.readValue(responseBody, APIErrorResponse.class));
+        final String key = coalescingKey(url, clazz);
+        final CompletableFuture<Object> request = new CompletableFuture<>();
+        final CompletableFuture<Object> inFlight = inFlightRequests.putIfAbsent(key, request);
+        if (inFlight != null) {
+            return clazz.cast(await(inFlight));
+        }
+
+        try {
+            T response = send(url, method, body, clazz);
+            request.complete(response);
+            return response;
+        } catch (RuntimeException | Error e) {
+            request.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlightRequests.remove(key, request);
+        }
+    }
+
+    private static String coalescingKey(String url, Class<?> clazz) {
+        return clazz.getName() + ' ' + url;
+    }
+
+    private static Object await(CompletableFuture<Object> request) {
+        try {
+            return request.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException(e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            if (e.getCause() instanceof Error) {
+                throw (Error) e.getCause();
+            }
+            throw new RuntimeException(e.getCause());
+        }
+    }
+
+    private <T> T send(String url, HttpMethod method, Object body, Class<T> clazz) {
+        final RetryPolicy policy = retryPolicy;
+        final ResponseCache.Lookup cached = lookupCachedResponse(url, method, clazz);
+        if (cached != null && cached.isFresh()) {
+            return clazz.cast(cached.getValue());
+        }
+
+        for (int attempt = 1; ; attempt++) {
+            try {
+                rateLimiter.acquire();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new RuntimeException(e);
             }
 
-            if (String.class.equals(clazz)) {
-                return (T) responseBody;
-            } else {
-                return objectMapper.readValue(responseBody, clazz);
+            Duration delay;
+            try (TransportResponse response = execute(url, method, body, cached)) {
+                try {
+                    return readResponse(response, clazz, cached);
+                } catch (APIRequestException e) {
+                    delay = policy.delayAfterError(attempt, method.isIdempotent(), response.code(),
+                            errorCodeOf(e), response.header(RETRY_AFTER_HEADER));
+                    if (delay == null) {
+                        throw e;
+                    }
+                } catch (JsonProcessingException e) {
+                    // error responses of proxies (e.g. 502/503) are not necessarily JSON
+                    delay = response.isSuccessful() ? null : policy.delayAfterError(attempt, method.isIdempotent(),
+                            response.code(), null, response.header(RETRY_AFTER_HEADER));
+                    if (delay == null) {
+                        throw new RuntimeException(e);
+                    }
+                }
+            } catch (JsonProcessingException e) {
+                throw new RuntimeException(e);
+            } catch (IOException e) {
+                delay = policy.delayAfterIOException(attempt, method.isIdempotent());
+                if (delay == null) {
+                    throw new RuntimeException(e);
+                }
             }
 
-        } catch (IOException e) {
-            throw new RuntimeException(e);
+            try {
+                Thread.sleep(delay.toMillis());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new RuntimeException(e);
+            }
         }
     }
 
-    @NotNull
-    private Call buildCall(String url, HttpMethod method, Object body) throws JsonProcessingException {
-        RequestBody requestBody = null;
+    /**
+     * Asynchronous counterpart of {@link #exchange(String, HttpMethod, Object, Class)}.
+     * The request is sent with {@link HttpTransport#executeAsync(TransportRequest)}, so no thread is blocked while
+     * waiting for the response, for the rate limiter or between retries. Failures are reported through the
+     * returned future with the same exceptions the blocking methods would throw.
+     */
+    <T> CompletableFuture<T> exchangeAsync(String url, HttpMethod method, Object body, Class<T> clazz) {
+        if (method != HttpMethod.GET) {
+            final CompletableFuture<T> future = sendAsync(url, method, body, clazz);
+            future.whenComplete((response, throwable) -> invalidateCachedResponses(url));
+            return future;
+        }
+        if (!coalesceRequests) {
+            return sendAsync(url, method, body, clazz);
+        }
 
-        if (body != null) {
-            requestBody = RequestBody.create(objectMapper.writeValueAsBytes(body), MediaType.get("application/json"));
+        final String key = coalescingKey(url, clazz);
+        final CompletableFuture<Object> request = new CompletableFuture<>();
+        final CompletableFuture<Object> inFlight = inFlightRequests.putIfAbsent(key, request);
+        if (inFlight == null) {
+            sendAsync(url, method, body, clazz).whenComplete((response, throwable) -> {
+                inFlightRequests.remove(key, request);
+                if (throwable != null) {
+                    request.completeExceptionally(throwable);
+                } else {
+                    request.complete(response);
+                }
+            });
         }
+        // every caller gets a dependent future, so cancelling it does not affect the other callers
+        return (inFlight != null ? inFlight : request).thenApply(clazz::cast);
+    }
 
-        return client.newCall(new Request.Builder()
-                .addHeader("Authorization", "Bearer " + hcloudToken)
-                .addHeader("Accept", "application/json")
+    /**
+     * Send a request whose rate limit reservation has been taken. The reservation ends with the response
+     * or here if no response is received.
+     */
+    private TransportResponse execute(String url, HttpMethod method, Object body, ResponseCache.Lookup cached)
+            throws IOException {
+        try {
+            return transport.execute(buildRequest(url, method, body, cached));
+        } catch (IOException | RuntimeException e) {
+            rateLimiter.release();
+            throw e;
+        }
+    }
+
+    private <T> CompletableFuture<T> sendAsync(String url, HttpMethod method, Object body, Class<T> clazz) {
+        final CompletableFuture<T> future = new CompletableFuture<>();
+        final AtomicReference<CompletableFuture<TransportResponse>> currentRequest = new AtomicReference<>();
+
+        future.whenComplete((result, throwable) -> {
+            CompletableFuture<TransportResponse> request = currentRequest.get();
+            if (future.isCancelled() && request != null) {
+                request.cancel(true);
+            }
+        });
+
+        final ResponseCache.Lookup cached = lookupCachedResponse(url, method, clazz);
+        if (cached != null && cached.isFresh()) {
+            future.complete(clazz.cast(cached.getValue()));
+            return future;
+        }
+
+        final TransportRequest request;
+        try {
+            request = buildRequest(url, method, body, cached);
+        } catch (JsonProcessingException e) {
+            future.completeExceptionally(new RuntimeException(e));
+            return future;
+        }
+        sendAttempt(request, method, clazz, cached, retryPolicy, 1, future, currentRequest);
+        return future;
+    }
+
+    private <T> void sendAttempt(TransportRequest request, HttpMethod method, Class<T> clazz,
+                                 ResponseCache.Lookup cached, RetryPolicy policy,
+                                 int attempt, CompletableFuture<T> future,
+                                 AtomicReference<CompletableFuture<TransportResponse>> currentRequest) {
+        final Runnable retry = () -> sendAttempt(request, method, clazz, cached, policy, attempt + 1, future,
+                currentRequest);
+
+        runDelayed(() -> {
+            if (future.isDone()) {
+                rateLimiter.release();
+                return;
+            }
+            final CompletableFuture<TransportResponse> pending;
+            try {
+                pending = transport.executeAsync(request);
+            } catch (RuntimeException e) {
+                rateLimiter.release();
+                future.completeExceptionally(e);
+                return;
+            }
+            currentRequest.set(pending);
+            if (future.isCancelled()) {
+                pending.cancel(true);
+            }
+            pending.whenComplete((response, throwable) -> {
+                Duration delay;
+                if (throwable != null) {
+                    rateLimiter.release();
+                    Throwable cause = throwable instanceof CompletionException && throwable.getCause() != null
+                            ? throwable.getCause()
+                            : throwable;
+                    delay = cause instanceof IOException
+                            ? policy.delayAfterIOException(attempt, method.isIdempotent())
+                            : null;
+                    if (delay == null || future.isCancelled()) {
+                        future.completeExceptionally(cause instanceof RuntimeException ? cause : new RuntimeException(cause));
+                        return;
+                    }
+                    runDelayed(retry, delay.toNanos());
+                    return;
+                }
+
+                try (response) {
+                    try {
+                        future.complete(readResponse(response, clazz, cached));
+                        return;
+                    } catch (APIRequestException e) {
+                        delay = policy.delayAfterError(attempt, method.isIdempotent(), response.code(),
+                                errorCodeOf(e), response.header(RETRY_AFTER_HEADER));
+                        if (delay == null) {
+                            future.completeExceptionally(e);
+                            return;
+                        }
+                    } catch (JsonProcessingException e) {
+                        delay = response.isSuccessful() ? null : policy.delayAfterError(attempt, method.isIdempotent(),
+                                response.code(), null, response.header(RETRY_AFTER_HEADER));
+                        if (delay == null) {
+                            future.completeExceptionally(new RuntimeException(e));
+                            return;
+                        }
+                    }
+                } catch (IOException e) {
+                    delay = policy.delayAfterIOException(attempt, method.isIdempotent());
+                    if (delay == null) {
+                        future.completeExceptionally(new RuntimeException(e));
+                        return;
+                    }
+                } catch (RuntimeException e) {
+                    future.completeExceptionally(e);
+                    return;
+                }
+                runDelayed(retry, delay.toNanos());
+            });
+        }, rateLimiter.reserve());
+    }
+
+    private static void runDelayed(Runnable task, long delayNanos) {
+        if (delayNanos > 0) {
+            CompletableFuture.runAsync(task, CompletableFuture.delayedExecutor(delayNanos, TimeUnit.NANOSECONDS));
+        } else {
+            task.run();
+        }
+    }
+
+    private static APIErrorCode errorCodeOf(APIRequestException e) {
+        if (e.getApiErrorResponse() == null || e.getApiErrorResponse().getError() == null) {
+            return null;
+        }
+        return e.getApiErrorResponse().getError().getCode();
+    }
+
+    private ResponseCache.Lookup lookupCachedResponse(String url, HttpMethod method, Class<?> clazz) {
+        final ResponseCache cache = responseCache;
+        return cache != null && method == HttpMethod.GET ? cache.lookup(hcloudTokenDigest, url, clazz) : null;
+    }
+
+    private void invalidateCachedResponses(String url) {
+        final ResponseCache cache = responseCache;
+        if (cache != null) {
+            cache.invalidate(hcloudTokenDigest, url);
+        }
+    }
+
+    /**
+     * @param cached cache state of a GET request or null if the response is not cached
+     */
+    private <T> T readResponse(TransportResponse response, Class<T> clazz, ResponseCache.Lookup cached)
+            throws IOException {
+        rateLimiter.update(
+                response.header(RateLimiter.LIMIT_HEADER),
+                response.header(RateLimiter.REMAINING_HEADER),
+                response.header(RateLimiter.RESET_HEADER));
+
+        if (cached != null && cached.isNotModified(response)) {
+            return clazz.cast(cached.revalidated(response));
+        }
+
+        if (!response.isSuccessful()) {
+            throw new APIRequestException(ObjectMappers.reader(APIErrorResponse.class).readValue(response.string()));
+        }
+
+        final T value;
+        if (String.class.equals(clazz)) {
+            value = (T) response.string();
+        } else {
+            // deserialize straight from the socket instead of buffering the whole body into a String first
+            try (InputStream inputStream = response.body()) {
+                value = ObjectMappers.reader(clazz).readValue(inputStream);
+            }
+        }
+
+        if (cached != null) {
+            cached.store(value, response);
+        }
+        return value;
+    }
+
+    private TransportRequest buildRequest(String url, HttpMethod method, Object body, ResponseCache.Lookup cached)
+            throws JsonProcessingException {
+        TransportRequest.TransportRequestBuilder request = TransportRequest.builder()
+                .method(method.toString())
                 .url(url)
-                .method(method.toString(), requestBody).build());
+                .header("Authorization", "Bearer " + hcloudToken)
+                .header("Accept", "application/json");
+
+        if (cached != null) {
+            cached.addConditionalHeaders(request);
+        }
+
+        if (body != null) {
+            request.header("Content-Type", "application/json")
+                    .body(ObjectMappers.writer(body.getClass()).writeValueAsBytes(body));
+        }
+        return request.build();
     }
 
     private <T> T get(String url, Class<T> clazz) {
@@ -2548,11 +3426,15 @@ public class HetznerCloudAPI {
     }
 
     private <T> T post(String url, Class<T> clazz) {
-        return exchange(url, HttpMethod.POST, objectMapper.createObjectNode(), clazz);
+        return exchange(url, HttpMethod.POST, ObjectMappers.mapper().createObjectNode(), clazz);
     }
 
-    private enum HttpMethod {
-        GET, PUT, POST, DELETE
+    enum HttpMethod {
+        GET, PUT, POST, DELETE;
+
+        boolean isIdempotent() {
+            return this != POST;
+        }
     }
 
 }
@@ -0,0 +1,872 @@
+package me.tomsdevsn.hetznercloud;
+
+import me.tomsdevsn.hetznercloud.objects.enums.Architecture;
+import me.tomsdevsn.hetznercloud.objects.general.FWApplicationTarget;
+import me.tomsdevsn.hetznercloud.objects.pagination.PaginationParameters;
+import me.tomsdevsn.hetznercloud.objects.request.*;
+import me.tomsdevsn.hetznercloud.objects.response.*;
+import me.tomsdevsn.hetznercloud.transport.HttpTransport;
+import okhttp3.Dispatcher;
+import okhttp3.OkHttpClient;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Non-blocking variant of {@link HetznerCloudAPI}.
+ * <p>
+ * Every method returns a {@link CompletableFuture} which is completed by the {@link HttpTransport} once the
+ * response has been received, so many requests can be in flight without holding a thread each.
+ * Errors are reported through the future with the same exceptions the blocking client throws
+ * (e.g. {@link me.tomsdevsn.hetznercloud.exception.APIRequestException}).
+ * <p>
+ * The amount of concurrent requests is limited by the used transport. The OkHttp transport is limited by the
+ * {@link Dispatcher} of its OkHttpClient, which allows only 5 concurrent requests per host by default, so a client
+ * passed in by the caller should raise {@link Dispatcher#setMaxRequestsPerHost(int)} accordingly. The client created
+ * by {@link #HetznerCloudAsyncAPI(String)} allows 128.
+ */
+public class HetznerCloudAsyncAPI {
+
+    private static final int DEFAULT_MAX_REQUESTS = 128;
+
+    private final HetznerCloudAPI api;
+
+    /**
+     * Initial method to use the asynchronous API
+     *
+     * @param hcloudToken API-Token for Hetzner Cloud API
+     * @see HetznerCloudAsyncAPI(String, OkHttpClient)
+     */
+    public HetznerCloudAsyncAPI(String hcloudToken) {
+        this(hcloudToken, defaultClient());
+    }
+
+    /**
+     * Initial method to use the asynchronous API
+     *
+     * @param hcloudToken API-Token for Hetzner Cloud API
+     * @param client      OkHttpClient instance to be used
+     */
+    public HetznerCloudAsyncAPI(String hcloudToken, OkHttpClient client) {
+        this(new HetznerCloudAPI(hcloudToken, client));
+    }
+
+    /**
+     * Initial method to use the asynchronous API with a custom HTTP transport
+     *
+     * @param hcloudToken API-Token for Hetzner Cloud API
+     * @param transport   HttpTransport instance to be used
+     */
+    public HetznerCloudAsyncAPI(String hcloudToken, HttpTransport transport) {
+        this(new HetznerCloudAPI(hcloudToken, transport));
+    }
+
+    /**
+     * Create an asynchronous API sharing token and client with an existing blocking API instance.
+     *
+     * @param api blocking API instance
+     */
+    public HetznerCloudAsyncAPI(HetznerCloudAPI api) {
+        this.api = api;
+    }
+
+    private static OkHttpClient defaultClient() {
+        Dispatcher dispatcher = new Dispatcher();
+        dispatcher.setMaxRequests(DEFAULT_MAX_REQUESTS);
+        dispatcher.setMaxRequestsPerHost(DEFAULT_MAX_REQUESTS);
+        return new OkHttpClient.Builder()
+                .dispatcher(dispatcher)
+                .build();
+    }
+
+    /**
+     * Get multiple actions by their ids with a single request.
+     * Up to 50 ids can be requested at once, ids which do not exist are not part of the response.
+     *
+     * @param ids IDs of the actions
+     * @return future of the ActionsResponse
+     * @throws IllegalArgumentException if no or more than 50 ids are given
+     */
+    public CompletableFuture<ActionsResponse> getActions(Collection<Long> ids) {
+        return get(ApiUrls.actionsById(ids), ActionsResponse.class);
+    }
+
+    /**
+     * Get an action by id.
+     *
+     * @param id ID of the action
+     * @return future of the ActionResponse
+     */
+    public CompletableFuture<ActionResponse> getAction(long id) {
+        return get(
+                ApiUrls.action(id),
+                ActionResponse.class);
+    }
+
+    /**
+     * Get all servers in a project.
+     *
+     * @param labelSelector        Label selector filter
+     * @param paginationParameters Pagination parameters
+     * @return future of the ServersResponse
+     */
+    public CompletableFuture<ServersResponse> getServers(String labelSelector, PaginationParameters paginationParameters) {
+        return get(
+                ApiUrls.servers(labelSelector, paginationParameters),
+                ServersResponse.class);
+    }
+
+    /**
+     * Get servers by name.
+     *
+     * @param name Name of the server
+     * @return future of the matching servers
+     */
+    public CompletableFuture<ServersResponse> getServer(String name) {
+        return get(
+                ApiUrls.serversByName(name),
+                ServersResponse.class);
+    }
+
+    /**
+     * Get a server by id
+     *
+     * @param id id of the server
+     * @return future of the ServerResponse
+     */
+    public CompletableFuture<ServerResponse> getServer(long id) {
+        return get(
+                ApiUrls.server(id),
+                ServerResponse.class);
+    }
+
+    /**
+     * Create a server.
+     *
+     * @param createServerRequest Parameters for server creation.
+     * @return future of the CreateServerResponse
+     */
+    public CompletableFuture<CreateServerResponse> createServer(CreateServerRequest createServerRequest) {
+        createServerRequest.setServerType(createServerRequest.getServerType().toLowerCase());   // Case-sensitive fix
+        return post(
+                ApiUrls.servers(),
+                createServerRequest,
+                CreateServerResponse.class);
+    }
+
+    /**
+     * Update a server's name and its labels.
+     *
+     * @param id                  id of the server.
+     * @param updateServerRequest request
+     * @return future of the ServerResponse
+     */
+    public CompletableFuture<ServerResponse> updateServer(long id, UpdateServerRequest updateServerRequest) {
+        return put(
+                ApiUrls.server(id),
+                updateServerRequest,
+                ServerResponse.class);
+    }
+
+    /**
+     * Delete a server
+     *
+     * @param id id of the server.
+     * @return future of the ActionResponse
+     */
+    public CompletableFuture<ActionResponse> deleteServer(long id) {
+        return delete(
+                ApiUrls.server(id),
+                ActionResponse.class);
+    }
+
+    /**
+     * Get all performed Actions of a server.
+     *
+     * @param id id of the server
+     * @return future of the ActionsResponse
+     */
+    public CompletableFuture<ActionsResponse> getServerActions(long id) {
+        return get(
+                ApiUrls.serverActions(id),
+                ActionsResponse.class);
+    }
+
+    /**
+     * Power on a specific server with the id
+     *
+     * @param id of the server
+     * @return future of the ActionResponse
+     */
+    public CompletableFuture<ActionResponse> powerOnServer(long id) {
+        return post(
+                ApiUrls.serverAction(id, "poweron"),
+                ActionResponse.class);
+    }
+
+    /**
+     * Force power off a specific server with the id
+     *
+     * @param id of the server
+     * @return future of the ActionResponse
+     */
+    public CompletableFuture<ActionResponse> powerOffServer(long id) {
+        return post(
+                ApiUrls.serverAction(id, "poweroff"),
+                ActionResponse.class);
+    }
+
+    /**
+     * Reboot a specific server with the id
+     *
+     * @param id of the server
+     * @return future of the ActionResponse
+     */
+    public CompletableFuture<ActionResponse> rebootServer(long id) {
+        return post(
+                ApiUrls.serverAction(id, "reboot"),
+                ActionResponse.class);
+    }
+
+    /**
+     * Reset a specific server with the id
+     *
+     * @param id of the server
+     * @return future of the ActionResponse
+     */
+    public CompletableFuture<ActionResponse> resetServer(long id) {
+        return post(
+                ApiUrls.serverAction(id, "reset"),
+                ActionResponse.class);
+    }
+
+    /**
+     * Shutdown a specific server via ACPI with the id
+     *
+     * @param id ID of the server
+     * @return future of the ActionResponse
+     */
+    public CompletableFuture<ActionResponse> shutdownServer(long id) {
+        return post(
+                ApiUrls.serverAction(id, "shutdown"),
+                ActionResponse.class);
+    }
+
+    /**
+     * Rebuild a server, with the specific image.
+     *
+     * @param id                   ID of the server
+     * @param rebuildServerRequest Request object
+     * @return future of the RebuildServerResponse
+     */
+    public CompletableFuture<RebuildServerResponse> rebuildServer(long id, RebuildServerRequest rebuildServerRequest) {
+        return post(
+                ApiUrls.serverAction(id, "rebuild"),
+                rebuildServerRequest,
+                RebuildServerResponse.class);
+    }
+
+    /**
+     * Change the type from the server
+     *
+     * @param id                ID of the server
+     * @param changeTypeRequest Request object
+     * @return future of the ActionResponse
+     */
+    public CompletableFuture<ActionResponse> changeServerType(long id, ChangeTypeRequest changeTypeRequest) {
+        return post(
+                ApiUrls.serverAction(id, "change_type"),
+                changeTypeRequest,
+                ActionResponse.class);
+    }
+
+    /**
+     * Change the reverse DNS entry of a server
+     *
+     * @param id                      ID of the server
+     * @param changeReverseDNSRequest Request object
+     * @return future of the ActionResponse
+     */
+    public CompletableFuture<ActionResponse> changeDNSPTR(long id, ChangeReverseDNSRequest changeReverseDNSRequest) {
+        return post(
+                ApiUrls.serverAction(id, "change_dns_ptr"),
+                changeReverseDNSRequest,
+                ActionResponse.class);
+    }
+
+    /**
+     * Attach a server to a network.
+     *
+     * @param id                           ID of the server
+     * @param attachServerToNetworkRequest Request object
+     * @return future of the ActionResponse
+     */
+    public CompletableFuture<ActionResponse> attachServerToNetwork(long id, AttachServerToNetworkRequest attachServerToNetworkRequest) {
+        return post(
+                ApiUrls.serverAction(id, "attach_to_network"),
+                attachServerToNetworkRequest,
+                ActionResponse.class);
+    }
+
+    /**
+     * Detach a server from a network.
+     *
+     * @param id                             ID of the server
+     * @param detachServerFromNetworkRequest Request object
+     * @return future of the ActionResponse
+     */
+    public CompletableFuture<ActionResponse> detachServerFromNetwork(long id, DetachServerFromNetworkRequest detachServerFromNetworkRequest) {
+        return post(
+                ApiUrls.serverAction(id, "detach_from_network"),
+                detachServerFromNetworkRequest,
+                ActionResponse.class);
+    }
+
+    /**
+     * Get the metrics from a server
+     *
+     * @param id         ID of the server
+     * @param metricType like cpu, disk or network (but also cpu,disk possible)
+     * @param start      of the metric
+     * @param end        of the metric
+     * @return future of the MetricsResponse
+     */
+    public CompletableFuture<MetricsResponse> getServerMetrics(long id, String metricType, String start, String end) {
+        return get(
+                ApiUrls.serverMetrics(id, metricType, start, end, null),
+                MetricsResponse.class);
+    }
+
+    /**
+     * Get the metrics from a server with typed time series.
+     * The samples are parsed into primitive arrays instead of nested maps and lists.
+     *
+     * @param id         ID of the server
+     * @param metricType like cpu, disk or network (but also cpu,disk possible)
+     * @param start      of the metric
+     * @param end        of the metric
+     * @return future of the TimeSeriesMetricsResponse
+     */
+    public CompletableFuture<TimeSeriesMetricsResponse> getServerTimeSeriesMetrics(long id, String metricType, String start, String end) {
+        return getServerTimeSeriesMetrics(id, metricType, start, end, null);
+    }
+
+    /**
+     * Get the metrics from a server with typed time series in a fixed resolution.
+     *
+     * @param id         ID of the server
+     * @param metricType like cpu, disk or network (but also cpu,disk possible)
+     * @param start      of the metric
+     * @param end        of the metric
+     * @param step       resolution of the samples in seconds (chosen by the API if null)
+     * @return future of the TimeSeriesMetricsResponse
+     */
+    public CompletableFuture<TimeSeriesMetricsResponse> getServerTimeSeriesMetrics(long id, String metricType, String start, String end, Long step) {
+        return get(
+                ApiUrls.serverMetrics(id, metricType, start, end, step),
+                TimeSeriesMetricsResponse.class);
+    }
+
+    /**
+     * Get all available images.
+     *
+     * @param labelSelector        Label selector
+     * @param architecture         Architecture of the image
+     * @param paginationParameters Pagination parameters
+     * @return future of the ImagesResponse
+     */
+    public CompletableFuture<ImagesResponse> getImages(String labelSelector, Architecture architecture, PaginationParameters paginationParameters) {
+        return get(
+                ApiUrls.images(labelSelector, architecture, paginationParameters),
+                ImagesResponse.class);
+    }
+
+    /**
+     * Get image by ID.
+     *
+     * @param id ID of the image
+     * @return future of the ImageResponse
+     */
+    public CompletableFuture<ImageResponse> getImage(long id) {
+        return get(
+                ApiUrls.image(id),
+                ImageResponse.class);
+    }
+
+    /**
+     * Get all volumes.
+     *
+     * @param labelSelector        Label selector
+     * @param paginationParameters Pagination parameters
+     * @return future of the VolumesResponse
+     */
+    public CompletableFuture<VolumesResponse> getVolumes(String labelSelector, PaginationParameters paginationParameters) {
+        return get(
+                ApiUrls.volumes(labelSelector, paginationParameters),
+                VolumesResponse.class);
+    }
+
+    /**
+     * Get a specific volume.
+     *
+     * @param id ID of the volume
+     * @return future of the VolumeResponse
+     */
+    public CompletableFuture<VolumeResponse> getVolume(long id) {
+        return get(
+                ApiUrls.volume(id),
+                VolumeResponse.class);
+    }
+
+    /**
+     * Create a new volume.
+     *
+     * @param createVolumeRequest Request object
+     * @return future of the CreateVolumeResponse
+     */
+    public CompletableFuture<CreateVolumeResponse> createVolume(CreateVolumeRequest createVolumeRequest) {
+        if ((createVolumeRequest.getFormat() != null))
+            createVolumeRequest.setFormat(createVolumeRequest.getFormat().toLowerCase());   // case-sensitive fix
+        return post(
+                ApiUrls.volumes(),
+                createVolumeRequest,
+                CreateVolumeResponse.class);
+    }
+
+    /**
+     * Delete a volume.
+     *
+     * @param id ID of the volume
+     * @return future of the (empty) response body
+     */
+    public CompletableFuture<String> deleteVolume(long id) {
+        return delete(
+                ApiUrls.volume(id),
+                String.class);
+    }
+
+    /**
+     * Attach a volume to a server.
+     *
+     * @param id                  ID of the volume
+     * @param attachVolumeRequest Request object
+     * @return future of the ActionResponse
+     */
+    public CompletableFuture<ActionResponse> attachVolumeToServer(long id, AttachVolumeRequest attachVolumeRequest) {
+        return post(
+                ApiUrls.volumeAction(id, "attach"),
+                attachVolumeRequest,
+                ActionResponse.class);
+    }
+
+    /**
+     * Detach a volume from a server.
+     *
+     * @param id ID of the volume
+     * @return future of the ActionResponse
+     */
+    public CompletableFuture<ActionResponse> detachVolume(long id) {
+        return post(
+                ApiUrls.volumeAction(id, "detach"),
+                ActionResponse.class);
+    }
+
+    /**
+     * Resize a volume.
+     *
+     * @param id                  ID of the volume
+     * @param resizeVolumeRequest Request object
+     * @return future of the ActionResponse
+     */
+    public CompletableFuture<ActionResponse> resizeVolume(long id, ResizeVolumeRequest resizeVolumeRequest) {
+        return post(
+                ApiUrls.volumeAction(id, "resize"),
+                resizeVolumeRequest,
+                ActionResponse.class);
+    }
+
+    /**
+     * Get all Floating IPs in a project.
+     *
+     * @param labelSelector        Label selector
+     * @param paginationParameters Pagination parameters
+     * @return future of the FloatingIPsResponse
+     */
+    public CompletableFuture<FloatingIPsResponse> getFloatingIPs(String labelSelector, PaginationParameters paginationParameters) {
+        return get(
+                ApiUrls.floatingIPs(labelSelector, paginationParameters),
+                FloatingIPsResponse.class);
+    }
+
+    /**
+     * Get a specific Floating IP.
+     *
+     * @param id ID of the Floating IP
+     * @return future of the FloatingIPResponse
+     */
+    public CompletableFuture<FloatingIPResponse> getFloatingIP(long id) {
+        return get(
+                ApiUrls.floatingIP(id),
+                FloatingIPResponse.class);
+    }
+
+    /**
+     * Assign a Floating IP to a server.
+     *
+     * @param id                      ID of the Floating IP
+     * @param assignFloatingIPRequest Request object
+     * @return future of the ActionResponse
+     */
+    public CompletableFuture<ActionResponse> assignFloatingIP(long id, AssignFloatingIPRequest assignFloatingIPRequest) {
+        return post(
+                ApiUrls.floatingIPAction(id, "assign"),
+                assignFloatingIPRequest,
+                ActionResponse.class);
+    }
+
+    /**
+     * Unassign a Floating IP from a server.
+     *
+     * @param id ID of the Floating IP
+     * @return future of the ActionResponse
+     */
+    public CompletableFuture<ActionResponse> unassignFloatingIP(long id) {
+        return post(
+                ApiUrls.floatingIPAction(id, "unassign"),
+                ActionResponse.class);
+    }
+
+    /**
+     * Get all Primary IPs in a project.
+     *
+     * @param labelSelector        Label selector
+     * @param paginationParameters Pagination parameters
+     * @return future of the PrimaryIPsResponse
+     */
+    public CompletableFuture<PrimaryIPsResponse> getPrimaryIPs(String labelSelector, PaginationParameters paginationParameters) {
+        return get(
+                ApiUrls.primaryIPs(labelSelector, paginationParameters),
+                PrimaryIPsResponse.class);
+    }
+
+    /**
+     * Get a specific Primary IP.
+     *
+     * @param id ID of the Primary IP
+     * @return future of the PrimaryIPResponse
+     */
+    public CompletableFuture<PrimaryIPResponse> getPrimaryIP(long id) {
+        return get(
+                ApiUrls.primaryIP(id),
+                PrimaryIPResponse.class);
+    }
+
+    /**
+     * Assign a Primary IP to a server.
+     *
+     * @param id                     ID of the Primary IP
+     * @param assignPrimaryIPRequest Request object
+     * @return future of the ActionResponse
+     */
+    public CompletableFuture<ActionResponse> assignPrimaryIP(long id, AssignPrimaryIPRequest assignPrimaryIPRequest) {
+        return post(
+                ApiUrls.primaryIPAction(id, "assign"),
+                assignPrimaryIPRequest,
+                ActionResponse.class);
+    }
+
+    /**
+     * Unassign a Primary IP from a server.
+     *
+     * @param id ID of the Primary IP
+     * @return future of the ActionResponse
+     */
+    public CompletableFuture<ActionResponse> unassignPrimaryIP(long id) {
+        return post(
+                ApiUrls.primaryIPAction(id, "unassign"),
+                ActionResponse.class);
+    }
+
+    /**
+     * Get all Firewalls in a project.
+     *
+     * @param labelSelector        Label selector
+     * @param paginationParameters Pagination parameters
+     * @return future of the FirewallsResponse
+     */
+    public CompletableFuture<FirewallsResponse> getFirewalls(String labelSelector, PaginationParameters paginationParameters) {
+        return get(
+                ApiUrls.firewalls(labelSelector, paginationParameters),
+                FirewallsResponse.class);
+    }
+
+    /**
+     * Gets a specific Firewall.
+     *
+     * @param id ID of the Firewall
+     * @return future of the Firewall
+     */
+    public CompletableFuture<CreateFirewallResponse> getFirewall(long id) {
+        return get(
+                ApiUrls.firewall(id),
+                CreateFirewallResponse.class);
+    }
+
+    /**
+     * Applies one Firewall to multiple resources.
+     *
+     * @param id                 ID of the Firewall
+     * @param applicationTargets resources to apply the Firewall to
+     * @return future of the executed actions
+     */
+    public CompletableFuture<ActionsResponse> applyFirewallToResources(long id, List<FWApplicationTarget> applicationTargets) {
+        return post(
+                ApiUrls.firewallAction(id, "apply_to_resources"),
+                Map.of("apply_to", applicationTargets),
+                ActionsResponse.class);
+    }
+
+    /**
+     * Removes one Firewall from multiple resources.
+     *
+     * @param id             ID of the Firewall
+     * @param removalTargets resources to remove the Firewall from
+     * @return future of the executed actions
+     */
+    public CompletableFuture<ActionsResponse> removeFirewallFromResources(long id, List<FWApplicationTarget> removalTargets) {
+        return post(
+                ApiUrls.firewallAction(id, "remove_from_resources"),
+                Map.of("remove_from", removalTargets),
+                ActionsResponse.class);
+    }
+
+    /**
+     * Get all networks in a project.
+     *
+     * @param labelSelector        Label selector
+     * @param paginationParameters Pagination parameters
+     * @return future of the NetworksResponse
+     */
+    public CompletableFuture<NetworksResponse> getNetworks(String labelSelector, PaginationParameters paginationParameters) {
+        return get(
+                ApiUrls.networks(labelSelector, paginationParameters),
+                NetworksResponse.class);
+    }
+
+    /**
+     * Get a specific network.
+     *
+     * @param id ID of the network
+     * @return future of the NetworkResponse
+     */
+    public CompletableFuture<NetworkResponse> getNetwork(long id) {
+        return get(
+                ApiUrls.network(id),
+                NetworkResponse.class);
+    }
+
+    /**
+     * Get all Load Balancers in a project.
+     *
+     * @param labelSelector        Label selector
+     * @param paginationParameters Pagination parameters
+     * @return future of the LoadBalancersResponse
+     */
+    public CompletableFuture<LoadBalancersResponse> getLoadBalancers(String labelSelector, PaginationParameters paginationParameters) {
+        return get(
+                ApiUrls.loadBalancers(labelSelector, paginationParameters),
+                LoadBalancersResponse.class);
+    }
+
+    /**
+     * Get a specific Load Balancer.
+     *
+     * @param id ID of the Load Balancer
+     * @return future of the LoadBalancerResponse
+     */
+    public CompletableFuture<LoadBalancerResponse> getLoadBalancer(long id) {
+        return get(
+                ApiUrls.loadBalancer(id),
+                LoadBalancerResponse.class);
+    }
+
+    /**
+     * Get the metrics from a Load Balancer
+     *
+     * @param id         ID of the Load Balancer
+     * @param metricType like open_connections, connections_per_second, requests_per_second or bandwidth
+     *                   (but also open_connections,bandwidth possible)
+     * @param start      of the metric
+     * @param end        of the metric
+     * @return future of the MetricsResponse
+     */
+    public CompletableFuture<MetricsResponse> getLoadBalancerMetrics(long id, String metricType, String start, String end) {
+        return get(
+                ApiUrls.loadBalancerMetrics(id, metricType, start, end, null),
+                MetricsResponse.class);
+    }
+
+    /**
+     * Get the metrics from a Load Balancer with typed time series.
+     * The samples are parsed into primitive arrays instead of nested maps and lists.
+     *
+     * @param id         ID of the Load Balancer
+     * @param metricType like open_connections, connections_per_second, requests_per_second or bandwidth
+     *                   (but also open_connections,bandwidth possible)
+     * @param start      of the metric
+     * @param end        of the metric
+     * @return future of the TimeSeriesMetricsResponse
+     */
+    public CompletableFuture<TimeSeriesMetricsResponse> getLoadBalancerTimeSeriesMetrics(long id, String metricType, String start, String end) {
+        return getLoadBalancerTimeSeriesMetrics(id, metricType, start, end, null);
+    }
+
+    /**
+     * Get the metrics from a Load Balancer with typed time series in a fixed resolution.
+     *
+     * @param id         ID of the Load Balancer
+     * @param metricType like open_connections, connections_per_second, requests_per_second or bandwidth
+     *                   (but also open_connections,bandwidth possible)
+     * @param start      of the metric
+     * @param end        of the metric
+     * @param step       resolution of the samples in seconds (chosen by the API if null)
+     * @return future of the TimeSeriesMetricsResponse
+     */
+    public CompletableFuture<TimeSeriesMetricsResponse> getLoadBalancerTimeSeriesMetrics(long id, String metricType, String start, String end, Long step) {
+        return get(
+                ApiUrls.loadBalancerMetrics(id, metricType, start, end, step),
+                TimeSeriesMetricsResponse.class);
+    }
+
+    /**
+     * Add a target to a Load Balancer.
+     *
+     * @param id              ID of the Load Balancer
+     * @param lbTargetRequest Request object
+     * @return future of the ActionResponse
+     */
+    public CompletableFuture<ActionResponse> addTargetToLoadBalancer(long id, LBTargetRequest lbTargetRequest) {
+        return post(
+                ApiUrls.loadBalancerAction(id, "add_target"),
+                lbTargetRequest,
+                ActionResponse.class);
+    }
+
+    /**
+     * Remove a target from a Load Balancer.
+     *
+     * @param id              ID of the Load Balancer
+     * @param lbTargetRequest Request object
+     * @return future of the ActionResponse
+     */
+    public CompletableFuture<ActionResponse> removeTargetFromLoadBalancer(long id, LBTargetRequest lbTargetRequest) {
+        return post(
+                ApiUrls.loadBalancerAction(id, "remove_target"),
+                lbTargetRequest,
+                ActionResponse.class);
+    }
+
+    /**
+     * Get all SSH keys.
+     *
+     * @param labelSelector        Label selector
+     * @param paginationParameters Pagination parameters
+     * @return future of the SSHKeysResponse
+     */
+    public CompletableFuture<SSHKeysResponse> getSSHKeys(String labelSelector, PaginationParameters paginationParameters) {
+        return get(
+                ApiUrls.sshKeys(labelSelector, paginationParameters),
+                SSHKeysResponse.class);
+    }
+
+    /**
+     * Get all server types.
+     *
+     * @return future of the ServerTypesResponse
+     */
+    public CompletableFuture<ServerTypesResponse> getServerTypes() {
+        return get(
+                ApiUrls.serverTypes(),
+                ServerTypesResponse.class);
+    }
+
+    /**
+     * Get all Load Balancer types.
+     *
+     * @return future of the LoadBalancerTypesResponse
+     */
+    public CompletableFuture<LoadBalancerTypesResponse> getLoadBalancerTypes() {
+        return get(
+                ApiUrls.loadBalancerTypes(),
+                LoadBalancerTypesResponse.class);
+    }
+
+    /**
+     * Get all locations.
+     *
+     * @return future of the LocationsResponse
+     */
+    public CompletableFuture<LocationsResponse> getLocations() {
+        return get(
+                ApiUrls.locations(),
+                LocationsResponse.class);
+    }
+
+    /**
+     * Get all datacenters.
+     *
+     * @return future of the DatacentersResponse
+     */
+    public CompletableFuture<DatacentersResponse> getDatacenters() {
+        return get(
+                ApiUrls.datacenters(),
+                DatacentersResponse.class);
+    }
+
+    /**
+     * Get all ISOs.
+     *
+     * @param architecture         Architecture of the ISOs
+     * @param paginationParameters Pagination parameters
+     * @return future of the ISOSResponse
+     */
+    public CompletableFuture<ISOSResponse> getISOS(Architecture architecture, PaginationParameters paginationParameters) {
+        return get(
+                ApiUrls.isos(architecture, paginationParameters),
+                ISOSResponse.class);
+    }
+
+    /**
+     * Get the pricing of all resources.
+     *
+     * @return future of the PricingResponse
+     */
+    public CompletableFuture<PricingResponse> getPricing() {
+        return get(
+                ApiUrls.pricing(),
+                PricingResponse.class);
+    }
+
+    private <T> CompletableFuture<T> get(String url, Class<T> clazz) {
+        return api.exchangeAsync(url, HetznerCloudAPI.HttpMethod.GET, null, clazz);
+    }
+
+    private <T> CompletableFuture<T> delete(String url, Class<T> clazz) {
+        return api.exchangeAsync(url, HetznerCloudAPI.HttpMethod.DELETE, null, clazz);
+    }
+
+    private <T> CompletableFuture<T> put(String url, Object body, Class<T> clazz) {
+        return api.exchangeAsync(url, HetznerCloudAPI.HttpMethod.PUT, body, clazz);
+    }
+
+    private <T> CompletableFuture<T> post(String url, Object body, Class<T> clazz) {
+        return api.exchangeAsync(url, HetznerCloudAPI.HttpMethod.POST, body, clazz);
+    }
+
+    private <T> CompletableFuture<T> post(String url, Class<T> clazz) {
+        return api.exchangeAsync(url, HetznerCloudAPI.HttpMethod.POST, Collections.emptyMap(), clazz);
+    }
+}
@@ -0,0 +1,59 @@
+package me.tomsdevsn.hetznercloud;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+
+/**
+ * Holds the {@link ObjectMapper} shared by all API instances.
+ * <p>
+ * Creating a mapper is expensive and it caches the serializers it has resolved, so one instance is used
+ * for every client. Readers and writers are bound to their type once and cached per class, which saves
+ * the type resolution of {@link ObjectMapper#readValue(String, Class)} on every call.
+ */
+final class ObjectMappers {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper()
+            .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+
+    private static final ClassValue<ObjectReader> READERS = new ClassValue<>() {
+        @Override
+        protected ObjectReader computeValue(Class<?> type) {
+            return MAPPER.readerFor(type);
+        }
+    };
+
+    private static final ClassValue<ObjectWriter> WRITERS = new ClassValue<>() {
+        @Override
+        protected ObjectWriter computeValue(Class<?> type) {
+            return MAPPER.writerFor(type);
+        }
+    };
+
+    private ObjectMappers() {
+    }
+
+    /**
+     * @return the shared mapper, which must not be reconfigured
+     */
+    static ObjectMapper mapper() {
+        return MAPPER;
+    }
+
+    /**
+     * @param type type to be read
+     * @return the cached reader bound to the type
+     */
+    static ObjectReader reader(Class<?> type) {
+        return READERS.get(type);
+    }
+
+    /**
+     * @param type type to be written
+     * @return the cached writer bound to the type
+     */
+    static ObjectWriter writer(Class<?> type) {
+        return WRITERS.get(type);
+    }
+}
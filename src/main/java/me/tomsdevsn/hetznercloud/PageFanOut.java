@@ -0,0 +1,168 @@
+package me.tomsdevsn.hetznercloud;
+
+import me.tomsdevsn.hetznercloud.objects.general.Meta;
+import me.tomsdevsn.hetznercloud.objects.pagination.PaginationParameters;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * Fetches all pages of a paginated list endpoint concurrently.
+ * <p>
+ * The first page is requested synchronously to learn {@code last_page} from its pagination metadata,
+ * afterwards pages 2..last_page are requested with at most {@code parallelism} requests in flight.
+ * The entries are merged in page order. The used {@link me.tomsdevsn.hetznercloud.transport.HttpTransport}
+ * may limit the amount of concurrent requests further. If one page fails, the outstanding requests are
+ * cancelled and the failure is thrown. The {@code getAll*} methods of {@link HetznerCloudAPI} are based on it.
+ *
+ * @param <R> type of the list response (e.g. ServersResponse)
+ * @param <T> type of the entries (e.g. Server)
+ */
+class PageFanOut<R, T> {
+
+    private final Function<PaginationParameters, R> pageFetcher;
+    private final Function<PaginationParameters, CompletableFuture<R>> asyncPageFetcher;
+    private final Function<R, List<T>> entries;
+    private final Function<R, Meta> meta;
+
+    PageFanOut(Function<PaginationParameters, R> pageFetcher,
+               Function<PaginationParameters, CompletableFuture<R>> asyncPageFetcher,
+               Function<R, List<T>> entries,
+               Function<R, Meta> meta) {
+        this.pageFetcher = pageFetcher;
+        this.asyncPageFetcher = asyncPageFetcher;
+        this.entries = entries;
+        this.meta = meta;
+    }
+
+    /**
+     * Fetch all entries.
+     *
+     * @param parallelism maximum amount of concurrently requested pages
+     * @return all entries in the order the API returns them
+     */
+    List<T> fetchAll(int parallelism) {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("parallelism must be at least 1");
+        }
+
+        R firstPage = pageFetcher.apply(new PaginationParameters(1, PageIterator.DEFAULT_PER_PAGE));
+        Meta firstMeta = meta.apply(firstPage);
+        Meta.Pagination pagination = firstMeta != null ? firstMeta.getPagination() : null;
+
+        if (pagination == null || pagination.getNextPage() == null) {
+            return entriesOf(firstPage);
+        }
+
+        if (pagination.getLastPage() == null) {
+            // last_page is not always known, fall back to sequential paging
+            List<T> result = new ArrayList<>(entriesOf(firstPage));
+            new PageIterator<>(pageFetcher, entries, meta, PageIterator.DEFAULT_PER_PAGE)
+                    .startAt(pagination.getNextPage())
+                    .forEachRemaining(result::add);
+            return result;
+        }
+
+        int lastPage = pagination.getLastPage().intValue();
+        List<List<T>> pages = new ArrayList<>(Collections.nCopies(lastPage, null));
+        pages.set(0, entriesOf(firstPage));
+
+        int lanes = Math.min(parallelism, lastPage - 1);
+        Lanes remaining = new Lanes(lanes, lastPage, pages);
+        for (int i = 0; i < lanes; i++) {
+            remaining.start(i);
+        }
+
+        try {
+            remaining.result.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw e;
+        }
+
+        int totalEntries = pagination.getTotalEntries() != null ? pagination.getTotalEntries().intValue() : 0;
+        List<T> result = new ArrayList<>(totalEntries);
+        pages.forEach(result::addAll);
+        return result;
+    }
+
+    /**
+     * Pages 2..last_page requested by a fixed amount of lanes. Every lane requests the next unclaimed page and
+     * chains the following request once it has completed, so every lane has exactly one request in flight.
+     * The first failing lane fails the result and cancels the requests of the other lanes.
+     */
+    private class Lanes {
+
+        private final AtomicInteger nextPage = new AtomicInteger(2);
+        private final AtomicInteger runningLanes;
+        private final int lastPage;
+        private final List<List<T>> pages;
+        private final CompletableFuture<?>[] requests;
+        private final CompletableFuture<Void> result = new CompletableFuture<>();
+
+        Lanes(int lanes, int lastPage, List<List<T>> pages) {
+            this.runningLanes = new AtomicInteger(lanes);
+            this.lastPage = lastPage;
+            this.pages = pages;
+            this.requests = new CompletableFuture<?>[lanes];
+            result.whenComplete((ignored, throwable) -> {
+                if (throwable != null) {
+                    cancelRequests();
+                }
+            });
+        }
+
+        void start(int lane) {
+            int page = nextPage.getAndIncrement();
+            if (page > lastPage || result.isDone()) {
+                if (runningLanes.decrementAndGet() == 0) {
+                    result.complete(null);
+                }
+                return;
+            }
+
+            CompletableFuture<R> request = asyncPageFetcher.apply(new PaginationParameters(page, PageIterator.DEFAULT_PER_PAGE));
+            synchronized (requests) {
+                requests[lane] = request;
+            }
+            request.whenComplete((response, throwable) -> {
+                if (throwable != null) {
+                    result.completeExceptionally(throwable instanceof CompletionException && throwable.getCause() != null
+                            ? throwable.getCause() : throwable);
+                    return;
+                }
+                try {
+                    synchronized (pages) {
+                        pages.set(page - 1, entriesOf(response));
+                    }
+                } catch (RuntimeException e) {
+                    result.completeExceptionally(e);
+                    return;
+                }
+                start(lane);
+            });
+        }
+
+        private void cancelRequests() {
+            synchronized (requests) {
+                for (CompletableFuture<?> request : requests) {
+                    if (request != null) {
+                        request.cancel(true);
+                    }
+                }
+            }
+        }
+    }
+
+    private List<T> entriesOf(R response) {
+        List<T> pageEntries = entries.apply(response);
+        return pageEntries != null ? pageEntries : Collections.emptyList();
+    }
+}
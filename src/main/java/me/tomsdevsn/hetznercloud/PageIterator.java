@@ -0,0 +1,99 @@
+package me.tomsdevsn.hetznercloud;
+
+import me.tomsdevsn.hetznercloud.objects.general.Meta;
+import me.tomsdevsn.hetznercloud.objects.pagination.PaginationParameters;
+
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Iterator over all entries of a paginated list endpoint.
+ * <p>
+ * Pages are requested lazily with {@value #DEFAULT_PER_PAGE} entries each by default: page N+1 is only fetched
+ * once all entries of page N have been consumed, so only a single page is held in memory at any time.
+ * The {@code stream*} methods of {@link HetznerCloudAPI} are based on it.
+ *
+ * @param <R> type of the list response (e.g. ServersResponse)
+ * @param <T> type of the entries (e.g. Server)
+ */
+class PageIterator<R, T> implements Iterator<T> {
+
+    static final int DEFAULT_PER_PAGE = 50;
+
+    private final Function<PaginationParameters, R> pageFetcher;
+    private final Function<R, List<T>> entries;
+    private final Function<R, Meta> meta;
+    private final int perPage;
+
+    private Iterator<T> current = Collections.emptyIterator();
+    private Long nextPage = 1L;
+
+    PageIterator(Function<PaginationParameters, R> pageFetcher, Function<R, List<T>> entries, Function<R, Meta> meta, int perPage) {
+        this.pageFetcher = pageFetcher;
+        this.entries = entries;
+        this.meta = meta;
+        this.perPage = perPage;
+    }
+
+    /**
+     * Creates a sequential stream over all entries of a paginated list endpoint.
+     *
+     * @param pageFetcher requests a single page
+     * @param entries     extracts the entries from a page
+     * @param meta        extracts the pagination metadata from a page
+     * @return lazily paging stream
+     */
+    static <R, T> Stream<T> stream(Function<PaginationParameters, R> pageFetcher, Function<R, List<T>> entries, Function<R, Meta> meta) {
+        return StreamSupport.stream(
+                Spliterators.spliteratorUnknownSize(
+                        new PageIterator<>(pageFetcher, entries, meta, DEFAULT_PER_PAGE),
+                        Spliterator.ORDERED | Spliterator.NONNULL),
+                false);
+    }
+
+    /**
+     * Continue the iteration at the given page instead of the first one.
+     *
+     * @param page page to be fetched next
+     * @return the current {@link PageIterator} instance
+     */
+    PageIterator<R, T> startAt(long page) {
+        this.nextPage = page;
+        return this;
+    }
+
+    @Override
+    public boolean hasNext() {
+        while (!current.hasNext() && nextPage != null) {
+            fetchNextPage();
+        }
+        return current.hasNext();
+    }
+
+    @Override
+    public T next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        return current.next();
+    }
+
+    private void fetchNextPage() {
+        R page = pageFetcher.apply(new PaginationParameters(nextPage.intValue(), perPage));
+
+        List<T> pageEntries = entries.apply(page);
+        current = pageEntries != null ? pageEntries.iterator() : Collections.emptyIterator();
+
+        Meta pageMeta = meta.apply(page);
+        nextPage = pageMeta != null && pageMeta.getPagination() != null
+                ? pageMeta.getPagination().getNextPage()
+                : null;
+    }
+}
@@ -0,0 +1,166 @@
+package me.tomsdevsn.hetznercloud;
+
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Client-side token bucket which mirrors the rate limit of the Hetzner Cloud API.
+ * <p>
+ * The API reports its rate limit with the {@code RateLimit-Limit}, {@code RateLimit-Remaining} and
+ * {@code RateLimit-Reset} headers on every response. The bucket is re-synchronised from these headers
+ * after each response and refilled in between at the rate derived from them (the API refills one request
+ * per second by default). Requests are delayed once the bucket is empty, so the limit is not exceeded
+ * instead of failing with {@code rate_limit_exceeded}.
+ * <p>
+ * Requests which have been reserved but not answered yet are not part of the reported budget, so they are
+ * deducted from every reported value. A reservation ends with {@link #update(String, String, String)} for its
+ * response or with {@link #release()} if no response has been received.
+ * <p>
+ * Until the first response has been received the limit is unknown and requests are not delayed.
+ * One instance may be shared by several API instances which use the same token.
+ */
+public class RateLimiter {
+
+    static final String LIMIT_HEADER = "RateLimit-Limit";
+    static final String REMAINING_HEADER = "RateLimit-Remaining";
+    static final String RESET_HEADER = "RateLimit-Reset";
+
+    private static final double DEFAULT_REFILL_PER_SECOND = 1.0;
+
+    private long limit = -1;
+    private double tokens;
+    private double refillPerSecond = DEFAULT_REFILL_PER_SECOND;
+    private long lastRefillNanos = System.nanoTime();
+    private long resetEpochSecond;
+    private long inFlight;
+
+    /**
+     * Get the limit of requests reported by the API.
+     *
+     * @return the limit or -1 if no response has been received yet
+     */
+    public synchronized long getLimit() {
+        return limit;
+    }
+
+    /**
+     * Get the estimated amount of requests which can be sent right now without being delayed.
+     * Requests which have been reserved but not answered yet are already deducted.
+     *
+     * @return the remaining budget or -1 if no response has been received yet
+     */
+    public synchronized long getRemaining() {
+        if (limit < 0) {
+            return -1;
+        }
+        refill(System.nanoTime());
+        return Math.max(0, (long) Math.floor(tokens));
+    }
+
+    /**
+     * Get the time at which the API expects the budget to be fully refilled.
+     *
+     * @return the reset time or null if no response has been received yet
+     */
+    public synchronized Instant getReset() {
+        return limit < 0 ? null : Instant.ofEpochSecond(resetEpochSecond);
+    }
+
+    /**
+     * Take one request from the budget and block until it may be sent.
+     *
+     * @throws InterruptedException if the waiting thread has been interrupted
+     */
+    public void acquire() throws InterruptedException {
+        long waitNanos = reserve();
+        if (waitNanos > 0) {
+            TimeUnit.NANOSECONDS.sleep(waitNanos);
+        }
+    }
+
+    /**
+     * Take one request from the budget without blocking.
+     *
+     * @return the time in nanoseconds the caller has to wait before sending the request
+     */
+    public synchronized long reserve() {
+        inFlight++;
+        if (limit < 0) {
+            return 0;
+        }
+
+        long now = System.nanoTime();
+        refill(now);
+        tokens -= 1;
+
+        if (tokens >= 0) {
+            return 0;
+        }
+        return (long) Math.ceil(-tokens / refillPerSecond * TimeUnit.SECONDS.toNanos(1));
+    }
+
+    /**
+     * End a reservation whose request has not been answered, e.g. because of an I/O error or cancellation.
+     */
+    public synchronized void release() {
+        if (inFlight > 0) {
+            inFlight--;
+        }
+    }
+
+    /**
+     * Re-synchronise the bucket with the rate limit headers of a response and end the reservation of its request.
+     * Missing or malformed headers are ignored.
+     *
+     * @param limitHeader     value of the {@code RateLimit-Limit} header
+     * @param remainingHeader value of the {@code RateLimit-Remaining} header
+     * @param resetHeader     value of the {@code RateLimit-Reset} header
+     */
+    public synchronized void update(String limitHeader, String remainingHeader, String resetHeader) {
+        Long newLimit = parse(limitHeader);
+        Long remaining = parse(remainingHeader);
+        Long reset = parse(resetHeader);
+        release();
+        if (newLimit == null || remaining == null) {
+            return;
+        }
+
+        long now = System.nanoTime();
+        // requests which are still in flight are not part of the reported value yet
+        long budget = remaining - inFlight;
+        if (limit < 0 || (reset != null && reset > resetEpochSecond)) {
+            // the API has refilled the budget since the latest response, the local estimate is outdated
+            tokens = budget;
+        } else {
+            refill(now);
+            tokens = Math.min(tokens, budget);
+        }
+        limit = newLimit;
+        lastRefillNanos = now;
+
+        if (reset != null) {
+            resetEpochSecond = reset;
+            long secondsUntilReset = reset - Instant.now().getEpochSecond();
+            if (remaining < newLimit && secondsUntilReset > 0) {
+                refillPerSecond = (double) (newLimit - remaining) / secondsUntilReset;
+            }
+        }
+    }
+
+    private void refill(long now) {
+        double refilled = (now - lastRefillNanos) / (double) TimeUnit.SECONDS.toNanos(1) * refillPerSecond;
+        tokens = Math.min(limit, tokens + refilled);
+        lastRefillNanos = now;
+    }
+
+    private static Long parse(String value) {
+        if (value == null) {
+            return null;
+        }
+        try {
+            return Long.parseLong(value.trim());
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,346 @@
+package me.tomsdevsn.hetznercloud;
+
+import me.tomsdevsn.hetznercloud.transport.TransportRequest;
+import me.tomsdevsn.hetznercloud.transport.TransportResponse;
+
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * In-memory cache of deserialized GET responses.
+ * <p>
+ * A cached response is returned without a request as long as it is fresh according to the
+ * {@code Cache-Control: max-age} of the response, or the default TTL of the cache if the response does not
+ * specify one. Afterwards, it is revalidated with {@code If-None-Match} ({@code ETag}) and
+ * {@code If-Modified-Since} ({@code Last-Modified}) if the response carried these headers. On
+ * {@code 304 Not Modified} the already deserialized object is returned, so the body is neither transferred nor
+ * parsed again. Responses with {@code Cache-Control: no-store} are never cached.
+ * <p>
+ * Requests which modify a resource (POST, PUT, DELETE) evict all cached responses of the same resource type,
+ * e.g. powering off a server evicts all cached {@code /servers} responses. Responses of other resource types are
+ * not evicted, even if the request changed them: attaching a volume also changes the cached {@code /servers}
+ * response of the server, which is served until it expires. Use a TTL which tolerates this or call
+ * {@link #clear()} after such requests. A GET request which is still in flight while a resource is modified
+ * is not cached, as its response may predate the modification.
+ * <p>
+ * Entries are keyed by API token and URL, so one instance may be shared by several API instances.
+ * The least recently used entries are evicted once the cache is full.
+ * All callers of a cached response get the same object, so responses must not be modified.
+ */
+public class ResponseCache {
+
+    static final String ETAG_HEADER = "ETag";
+    static final String LAST_MODIFIED_HEADER = "Last-Modified";
+    static final String CACHE_CONTROL_HEADER = "Cache-Control";
+    static final String IF_NONE_MATCH_HEADER = "If-None-Match";
+    static final String IF_MODIFIED_SINCE_HEADER = "If-Modified-Since";
+
+    private static final int NOT_MODIFIED = 304;
+    private static final int DEFAULT_MAX_ENTRIES = 1000;
+
+    private final int maxEntries;
+    private final long defaultTtlNanos;
+    private final LongSupplier nanoClock;
+    private final Map<String, Entry> entries;
+    /**
+     * Incremented on every eviction, so responses of requests started before it are not cached
+     */
+    private long generation;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder revalidations = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    /**
+     * Create a cache for 1000 responses which only caches responses as allowed by their headers.
+     */
+    public ResponseCache() {
+        this(DEFAULT_MAX_ENTRIES, Duration.ZERO);
+    }
+
+    /**
+     * Create a cache with a custom size and default TTL.
+     *
+     * @param maxEntries maximum amount of cached responses
+     * @param defaultTtl time a response without {@code Cache-Control: max-age} is served without a request,
+     *                   {@link Duration#ZERO} to always revalidate such responses
+     */
+    public ResponseCache(int maxEntries, Duration defaultTtl) {
+        this(maxEntries, defaultTtl, System::nanoTime);
+    }
+
+    ResponseCache(int maxEntries, Duration defaultTtl, LongSupplier nanoClock) {
+        if (maxEntries <= 0) {
+            throw new IllegalArgumentException("maxEntries has to be positive");
+        }
+        if (defaultTtl.isNegative()) {
+            throw new IllegalArgumentException("defaultTtl must not be negative");
+        }
+        this.maxEntries = maxEntries;
+        this.defaultTtlNanos = defaultTtl.toNanos();
+        this.nanoClock = nanoClock;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                return size() > ResponseCache.this.maxEntries;
+            }
+        };
+    }
+
+    /**
+     * @return the amount of responses which have been served without a request
+     */
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    /**
+     * @return the amount of responses which have been revalidated with {@code 304 Not Modified}
+     */
+    public long getRevalidationCount() {
+        return revalidations.sum();
+    }
+
+    /**
+     * @return the amount of responses which have been transferred and deserialized
+     */
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    /**
+     * @return the amount of cached responses
+     */
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    /**
+     * Remove all cached responses.
+     */
+    public synchronized void clear() {
+        generation++;
+        entries.clear();
+    }
+
+    /**
+     * Look up the cached response of a GET request.
+     *
+     * @param tokenDigest {@link #digest(String) digest} of the API token of the request
+     * @param url         URL of the request
+     * @param clazz       type of the response
+     * @return the lookup, which is used to complete the request
+     */
+    Lookup lookup(String tokenDigest, String url, Class<?> clazz) {
+        final String key = tokenDigest + ' ' + clazz.getName() + ' ' + url;
+        final Entry entry;
+        final long lookupGeneration;
+        synchronized (this) {
+            entry = entries.get(key);
+            lookupGeneration = generation;
+        }
+        return new Lookup(key, tokenDigest, url, entry, lookupGeneration);
+    }
+
+    /**
+     * Evict all cached responses of the resource type a request modified.
+     *
+     * @param tokenDigest {@link #digest(String) digest} of the API token of the request
+     * @param url         URL of the modifying request
+     */
+    void invalidate(String tokenDigest, String url) {
+        final String collection = collectionOf(url);
+        synchronized (this) {
+            generation++;
+            entries.values().removeIf(entry -> entry.tokenDigest.equals(tokenDigest)
+                    && collection.equals(collectionOf(entry.url)));
+        }
+    }
+
+    /**
+     * Cache a response unless an eviction happened since its request has been started.
+     */
+    private synchronized void put(String key, Entry entry, long lookupGeneration) {
+        if (generation == lookupGeneration) {
+            entries.put(key, entry);
+        }
+    }
+
+    private synchronized void remove(String key) {
+        entries.remove(key);
+    }
+
+    /**
+     * @return the first path segment after the API version, e.g. {@code servers}
+     */
+    private static String collectionOf(String url) {
+        String path = URI.create(url).getRawPath();
+        String[] segments = path.split("/");
+        // ["", "v1", "servers", ...]
+        return segments.length > 2 ? segments[2] : path;
+    }
+
+    /**
+     * Entries are keyed by a digest of the token, so the cache does not hold the tokens themselves.
+     *
+     * @param token API token
+     * @return the digest of the token
+     */
+    static String digest(String token) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static final class Entry {
+
+        private final String tokenDigest;
+        private final String url;
+        private final Object value;
+        private final String etag;
+        private final String lastModified;
+        private final long expiresNanos;
+
+        Entry(String tokenDigest, String url, Object value, String etag, String lastModified, long expiresNanos) {
+            this.tokenDigest = tokenDigest;
+            this.url = url;
+            this.value = value;
+            this.etag = etag;
+            this.lastModified = lastModified;
+            this.expiresNanos = expiresNanos;
+        }
+    }
+
+    /**
+     * Cache state of one GET request.
+     */
+    final class Lookup {
+
+        private final String key;
+        private final String tokenDigest;
+        private final String url;
+        private final Entry entry;
+        private final long generation;
+
+        private Lookup(String key, String tokenDigest, String url, Entry entry, long generation) {
+            this.key = key;
+            this.tokenDigest = tokenDigest;
+            this.url = url;
+            this.entry = entry;
+            this.generation = generation;
+        }
+
+        /**
+         * @return whether the cached response can be used without a request
+         */
+        boolean isFresh() {
+            return entry != null && entry.expiresNanos - nanoClock.getAsLong() > 0;
+        }
+
+        /**
+         * @return the cached response, which is served without a request
+         */
+        Object getValue() {
+            hits.increment();
+            return entry.value;
+        }
+
+        /**
+         * Add the validators of the cached response to the request.
+         *
+         * @param request request to be sent
+         */
+        void addConditionalHeaders(TransportRequest.TransportRequestBuilder request) {
+            if (entry == null) {
+                return;
+            }
+            if (entry.etag != null) {
+                request.header(IF_NONE_MATCH_HEADER, entry.etag);
+            }
+            if (entry.lastModified != null) {
+                request.header(IF_MODIFIED_SINCE_HEADER, entry.lastModified);
+            }
+        }
+
+        /**
+         * @param response response of the request
+         * @return whether the cached response is still valid
+         */
+        boolean isNotModified(TransportResponse response) {
+            return entry != null && response.code() == NOT_MODIFIED;
+        }
+
+        /**
+         * Extend the lifetime of the cached response after it has been revalidated.
+         *
+         * @param response {@code 304 Not Modified} response
+         * @return the cached response
+         */
+        Object revalidated(TransportResponse response) {
+            revalidations.increment();
+            String etag = response.header(ETAG_HEADER);
+            String lastModified = response.header(LAST_MODIFIED_HEADER);
+            store(entry.value,
+                    etag != null ? etag : entry.etag,
+                    lastModified != null ? lastModified : entry.lastModified,
+                    response.header(CACHE_CONTROL_HEADER));
+            return entry.value;
+        }
+
+        /**
+         * Cache a response if its headers allow it.
+         *
+         * @param value    deserialized response
+         * @param response response of the request
+         */
+        void store(Object value, TransportResponse response) {
+            misses.increment();
+            store(value,
+                    response.header(ETAG_HEADER),
+                    response.header(LAST_MODIFIED_HEADER),
+                    response.header(CACHE_CONTROL_HEADER));
+        }
+
+        private void store(Object value, String etag, String lastModified, String cacheControl) {
+            long ttlNanos = defaultTtlNanos;
+            if (cacheControl != null) {
+                for (String directive : cacheControl.toLowerCase(Locale.ROOT).split(",")) {
+                    directive = directive.trim();
+                    if (directive.equals("no-store")) {
+                        remove(key);
+                        return;
+                    } else if (directive.equals("no-cache")) {
+                        ttlNanos = 0;
+                        break;
+                    } else if (directive.startsWith("max-age=")) {
+                        try {
+                            ttlNanos = Duration.ofSeconds(Long.parseLong(directive.substring(8).trim())).toNanos();
+                        } catch (NumberFormatException ignored) {
+                            ttlNanos = 0;
+                        }
+                    }
+                }
+            }
+
+            if (etag == null && lastModified == null && ttlNanos <= 0) {
+                // could neither be served nor revalidated
+                remove(key);
+                return;
+            }
+            put(key, new Entry(tokenDigest, url, value, etag, lastModified, nanoClock.getAsLong() + ttlNanos),
+                    generation);
+        }
+    }
+}
@@ -0,0 +1,176 @@
+package me.tomsdevsn.hetznercloud;
+
+import lombok.Builder;
+import lombok.Getter;
+import me.tomsdevsn.hetznercloud.objects.general.APIErrorCode;
+
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Defines if and when a failed request is sent again.
+ * <p>
+ * Requests are retried with an exponential backoff ({@code baseDelay * 2^(attempt - 1)}, capped at
+ * {@code maxDelay}) of which up to {@code jitter} percent are randomly subtracted. A {@code Retry-After}
+ * header of the response is honoured as lower bound. Rate limited requests are additionally paced by the
+ * {@link RateLimiter} of the API instance, which knows from the {@code RateLimit-Reset} header when the
+ * budget is refilled.
+ * <p>
+ * POST requests are not idempotent, so they are only retried if the API rejected them before processing
+ * ({@code rate_limit_exceeded}, {@code locked} and {@code conflict}), unless {@code retryNonIdempotent}
+ * is enabled. Transport errors of POST requests (e.g. a connection reset) are not retried either, as the
+ * request may have been processed already.
+ */
+@Getter
+@Builder(toBuilder = true)
+public class RetryPolicy {
+
+    private static final Set<APIErrorCode> REJECTED_ERROR_CODES = EnumSet.of(
+            APIErrorCode.rate_limit_exceeded,
+            APIErrorCode.locked,
+            APIErrorCode.conflict);
+
+    /**
+     * Maximum amount of attempts including the first one
+     */
+    @Builder.Default
+    private final int maxAttempts = 4;
+
+    /**
+     * Delay before the first retry
+     */
+    @Builder.Default
+    private final Duration baseDelay = Duration.ofMillis(500);
+
+    /**
+     * Upper bound of the exponential backoff
+     */
+    @Builder.Default
+    private final Duration maxDelay = Duration.ofSeconds(30);
+
+    /**
+     * Fraction (0.0 - 1.0) of the backoff which is randomly subtracted
+     */
+    @Builder.Default
+    private final double jitter = 0.5;
+
+    /**
+     * API error codes which are retried
+     */
+    @Builder.Default
+    private final Set<APIErrorCode> retryableErrorCodes = EnumSet.of(
+            APIErrorCode.rate_limit_exceeded,
+            APIErrorCode.locked,
+            APIErrorCode.conflict,
+            APIErrorCode.maintenance,
+            APIErrorCode.service_error,
+            APIErrorCode.unavailable,
+            APIErrorCode.server_error);
+
+    /**
+     * HTTP status codes which are retried
+     */
+    @Builder.Default
+    private final Set<Integer> retryableStatusCodes = Set.of(429, 500, 502, 503, 504);
+
+    /**
+     * Retry transport errors like connection resets or timeouts
+     */
+    @Builder.Default
+    private final boolean retryIOExceptions = true;
+
+    /**
+     * Retry POST requests even if they might have been processed already
+     */
+    @Builder.Default
+    private final boolean retryNonIdempotent = false;
+
+    /**
+     * Policy which never retries a request.
+     *
+     * @return the policy
+     */
+    public static RetryPolicy none() {
+        return RetryPolicy.builder().maxAttempts(1).build();
+    }
+
+    /**
+     * Policy with the default settings.
+     *
+     * @return the policy
+     */
+    public static RetryPolicy defaults() {
+        return RetryPolicy.builder().build();
+    }
+
+    /**
+     * Decide whether a request which failed with an API error is retried.
+     *
+     * @param attempt    number of the failed attempt (starting with 1)
+     * @param idempotent whether the request can be replayed safely
+     * @param statusCode HTTP status code of the response
+     * @param errorCode  API error code of the response (may be null)
+     * @param retryAfter value of the {@code Retry-After} header (may be null)
+     * @return the delay before the next attempt or null if the request is not retried
+     */
+    Duration delayAfterError(int attempt, boolean idempotent, int statusCode, APIErrorCode errorCode, String retryAfter) {
+        if (attempt >= maxAttempts) {
+            return null;
+        }
+
+        boolean retryable = retryableStatusCodes.contains(statusCode)
+                || (errorCode != null && retryableErrorCodes.contains(errorCode));
+        boolean rejected = statusCode == 429 || (errorCode != null && REJECTED_ERROR_CODES.contains(errorCode));
+        if (!retryable || (!idempotent && !rejected && !retryNonIdempotent)) {
+            return null;
+        }
+
+        Duration delay = backoff(attempt);
+        Duration requested = parseRetryAfter(retryAfter);
+        return requested != null && requested.compareTo(delay) > 0 ? requested : delay;
+    }
+
+    /**
+     * Decide whether a request which failed with a transport error is retried.
+     *
+     * @param attempt    number of the failed attempt (starting with 1)
+     * @param idempotent whether the request can be replayed safely
+     * @return the delay before the next attempt or null if the request is not retried
+     */
+    Duration delayAfterIOException(int attempt, boolean idempotent) {
+        if (attempt >= maxAttempts || !retryIOExceptions || (!idempotent && !retryNonIdempotent)) {
+            return null;
+        }
+        return backoff(attempt);
+    }
+
+    private Duration backoff(int attempt) {
+        long exponential = baseDelay.toMillis() * (1L << Math.min(attempt - 1, 30));
+        long capped = Math.min(maxDelay.toMillis(), exponential);
+        long jittered = capped - (long) (capped * jitter * ThreadLocalRandom.current().nextDouble());
+        return Duration.ofMillis(Math.max(0, jittered));
+    }
+
+    private static Duration parseRetryAfter(String retryAfter) {
+        if (retryAfter == null || retryAfter.isBlank()) {
+            return null;
+        }
+        try {
+            return Duration.ofSeconds(Long.parseLong(retryAfter.trim()));
+        } catch (NumberFormatException ignored) {
+        }
+        try {
+            Duration until = Duration.between(
+                    ZonedDateTime.now(),
+                    ZonedDateTime.parse(retryAfter.trim(), DateTimeFormatter.RFC_1123_DATE_TIME));
+            return until.isNegative() ? Duration.ZERO : until;
+        } catch (DateTimeParseException ignored) {
+        }
+        return null;
+    }
+}
@@ -3,7 +3,9 @@ package me.tomsdevsn.hetznercloud;
 import lombok.AccessLevel;
 import lombok.RequiredArgsConstructor;
 
+import java.util.Collection;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
@@ -16,7 +18,7 @@ import java.util.stream.Collectors;
 class UrlBuilder {
     private final String url;
 
-    private Map<String, String> queryParams = new HashMap<>();
+    private Map<String, List<String>> queryParams = new HashMap<>();
 
     /**
      * Creates a new {@link UrlBuilder} instance
@@ -40,7 +42,7 @@ class UrlBuilder {
      * @return the current {@link UrlBuilder} instance
      */
     public UrlBuilder queryParamIfPresent(String name, Optional<Object> value) {
-        value.ifPresent((it) -> queryParams.put(name, it.toString()));
+        value.ifPresent((it) -> queryParams.put(name, List.of(it.toString())));
         return this;
     }
 
@@ -54,7 +56,9 @@ class UrlBuilder {
             return url;
         }
 
-        return url + "?" + queryParams.entrySet().stream().map((it) -> it.getKey() + "=" + it.getValue()).collect(Collectors.joining("&"));
+        return url + "?" + queryParams.entrySet().stream()
+                .flatMap((it) -> it.getValue().stream().map((value) -> it.getKey() + "=" + value))
+                .collect(Collectors.joining("&"));
     }
 
     /**
@@ -65,7 +69,20 @@ class UrlBuilder {
      * @return the current {@link UrlBuilder} instance
      */
     public UrlBuilder queryParam(String name, Object value) {
-        queryParams.put(name, Objects.toString(value));
+        queryParams.put(name, List.of(Objects.toString(value)));
+        return this;
+    }
+
+    /**
+     * Add a query parameter which is repeated for every value (e.g. {@code id=1&id=2})
+     * or overwrites an existing one with the same name
+     *
+     * @param name   query parameter name
+     * @param values query parameter values
+     * @return the current {@link UrlBuilder} instance
+     */
+    public UrlBuilder queryParams(String name, Collection<?> values) {
+        queryParams.put(name, values.stream().map(Objects::toString).collect(Collectors.toList()));
         return this;
     }
 }
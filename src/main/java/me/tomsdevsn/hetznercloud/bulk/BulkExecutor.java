@@ -0,0 +1,160 @@
+package me.tomsdevsn.hetznercloud.bulk;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.LongFunction;
+
+/**
+ * Runs a blocking operation on many resources concurrently, e.g. powering off or rebooting a fleet of servers.
+ * <p>
+ * <pre>{@code
+ * try (BulkExecutor executor = new BulkExecutor()) {
+ *     BulkReport<ActionResponse> report = executor.execute(serverIds, api::powerOffServer);
+ *     report.getFailed().forEach(result -> log(result.getId(), result.getError()));
+ * }
+ * }</pre>
+ * At most {@code concurrency} operations run at once. Every request of an operation is additionally paced by
+ * the {@link me.tomsdevsn.hetznercloud.RateLimiter} of the used API instance, so a large bulk operation
+ * waits for the rate limit instead of failing with {@code rate_limit_exceeded}.
+ * <p>
+ * The operations run on virtual threads if the runtime supports them (Java 21 and later), otherwise on a pool
+ * of {@code concurrency} platform threads. A failed operation does not abort the others, its exception is
+ * part of the {@link BulkReport}.
+ */
+public class BulkExecutor implements AutoCloseable {
+
+    private static final int DEFAULT_CONCURRENCY = 16;
+    private static final MethodHandle NEW_VIRTUAL_THREAD_EXECUTOR = findVirtualThreadExecutor();
+
+    private final int concurrency;
+    private final ExecutorService executor;
+
+    /**
+     * Create an executor which runs up to 16 operations at once.
+     */
+    public BulkExecutor() {
+        this(DEFAULT_CONCURRENCY);
+    }
+
+    /**
+     * Create an executor.
+     *
+     * @param concurrency maximum amount of concurrently running operations
+     */
+    public BulkExecutor(int concurrency) {
+        if (concurrency < 1) {
+            throw new IllegalArgumentException("concurrency must be at least 1");
+        }
+        this.concurrency = concurrency;
+        this.executor = newExecutor(concurrency);
+    }
+
+    /**
+     * Run the operation on every resource and wait until all of them are done.
+     *
+     * @param ids       IDs of the resources, duplicates are run once per occurrence
+     * @param operation operation run with each ID, e.g. {@code api::rebootServer}
+     * @param <T>       type returned by the operation
+     * @return the outcome of every resource in the order of the given IDs
+     */
+    public <T> BulkReport<T> execute(Collection<Long> ids, LongFunction<T> operation) {
+        final long[] idArray = ids.stream().mapToLong(Long::longValue).toArray();
+        final AtomicReferenceArray<BulkResult<T>> results = new AtomicReferenceArray<>(idArray.length);
+        final AtomicInteger next = new AtomicInteger();
+
+        // a fixed amount of workers pulls the ids, which bounds the concurrency for both kinds of threads
+        final Runnable worker = () -> {
+            for (int i = next.getAndIncrement(); i < idArray.length; i = next.getAndIncrement()) {
+                if (Thread.currentThread().isInterrupted()) {
+                    return;
+                }
+                results.set(i, run(idArray[i], operation));
+            }
+        };
+
+        final List<Future<?>> workers = new ArrayList<>();
+        for (int i = 0; i < Math.min(concurrency, idArray.length); i++) {
+            workers.add(executor.submit(worker));
+        }
+
+        try {
+            for (Future<?> future : workers) {
+                future.get();
+            }
+        } catch (InterruptedException e) {
+            workers.forEach(future -> future.cancel(true));
+            Thread.currentThread().interrupt();
+            throw new RuntimeException(e);
+        } catch (ExecutionException e) {
+            workers.forEach(future -> future.cancel(true));
+            throw new RuntimeException(e.getCause());
+        }
+
+        final List<BulkResult<T>> report = new ArrayList<>(idArray.length);
+        for (int i = 0; i < idArray.length; i++) {
+            report.add(results.get(i));
+        }
+        return new BulkReport<>(report);
+    }
+
+    /**
+     * @return whether the operations run on virtual threads
+     */
+    public static boolean isVirtualThreadSupported() {
+        return NEW_VIRTUAL_THREAD_EXECUTOR != null;
+    }
+
+    /**
+     * Stop the threads of this executor. Running operations are not interrupted.
+     */
+    @Override
+    public void close() {
+        executor.shutdown();
+    }
+
+    private static <T> BulkResult<T> run(long id, LongFunction<T> operation) {
+        try {
+            return new BulkResult<>(id, operation.apply(id), null);
+        } catch (RuntimeException e) {
+            return new BulkResult<>(id, null, e);
+        }
+    }
+
+    private static ExecutorService newExecutor(int concurrency) {
+        if (NEW_VIRTUAL_THREAD_EXECUTOR != null) {
+            try {
+                return (ExecutorService) NEW_VIRTUAL_THREAD_EXECUTOR.invokeExact();
+            } catch (Throwable ignored) {
+                // fall back to platform threads
+            }
+        }
+        final AtomicInteger threadCount = new AtomicInteger();
+        return Executors.newFixedThreadPool(concurrency, runnable -> {
+            Thread thread = new Thread(runnable, "hcloud-bulk-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * The library targets Java 11, so the virtual thread executor of newer runtimes is looked up reflectively.
+     */
+    private static MethodHandle findVirtualThreadExecutor() {
+        try {
+            return MethodHandles.publicLookup().findStatic(Executors.class, "newVirtualThreadPerTaskExecutor",
+                    MethodType.methodType(ExecutorService.class));
+        } catch (NoSuchMethodException | IllegalAccessException e) {
+            return null;
+        }
+    }
+}
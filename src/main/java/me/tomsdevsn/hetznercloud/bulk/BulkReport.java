@@ -0,0 +1,47 @@
+package me.tomsdevsn.hetznercloud.bulk;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Outcomes of a bulk operation, in the order of the given IDs.
+ *
+ * @param <T> type returned by the operation
+ */
+public class BulkReport<T> {
+
+    private final List<BulkResult<T>> results;
+
+    BulkReport(List<BulkResult<T>> results) {
+        this.results = Collections.unmodifiableList(results);
+    }
+
+    /**
+     * @return the outcome of every resource
+     */
+    public List<BulkResult<T>> getResults() {
+        return results;
+    }
+
+    /**
+     * @return the outcomes of the resources on which the operation succeeded
+     */
+    public List<BulkResult<T>> getSucceeded() {
+        return results.stream().filter(BulkResult::isSuccessful).collect(Collectors.toList());
+    }
+
+    /**
+     * @return the outcomes of the resources on which the operation failed
+     */
+    public List<BulkResult<T>> getFailed() {
+        return results.stream().filter(result -> !result.isSuccessful()).collect(Collectors.toList());
+    }
+
+    /**
+     * @return whether the operation succeeded on all resources
+     */
+    public boolean isSuccessful() {
+        return results.stream().allMatch(BulkResult::isSuccessful);
+    }
+}
@@ -0,0 +1,28 @@
+package me.tomsdevsn.hetznercloud.bulk;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Outcome of the operation on one resource run by the {@link BulkExecutor}.
+ * Either the result or the error of the failed operation is set.
+ *
+ * @param <T> type returned by the operation
+ */
+@Getter
+@AllArgsConstructor
+public class BulkResult<T> {
+
+    /**
+     * ID of the resource
+     */
+    private final long id;
+
+    private final T result;
+
+    private final RuntimeException error;
+
+    public boolean isSuccessful() {
+        return error == null;
+    }
+}
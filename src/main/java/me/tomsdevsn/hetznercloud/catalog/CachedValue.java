@@ -0,0 +1,127 @@
+package me.tomsdevsn.hetznercloud.catalog;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+/**
+ * Value which is loaded on first use and reloaded once its TTL has expired.
+ * <p>
+ * A value read within the last {@code refreshAhead} fraction of its TTL is reloaded in the background while
+ * the current value is still returned, so frequently read values do not block on a reload. If a background
+ * reload fails, the current value is kept until it expires.
+ *
+ * @param <T> type of the value
+ */
+class CachedValue<T> {
+
+    private final Supplier<T> loader;
+    private final Duration ttl;
+    private final Duration refreshAfter;
+    private final Clock clock;
+    private final Executor refreshExecutor;
+    private final AtomicBoolean refreshing = new AtomicBoolean();
+    private final Object stateLock = new Object();
+
+    private volatile Entry<T> entry;
+    /**
+     * Incremented on every invalidation, so loads which started before are not stored
+     */
+    private long generation;
+
+    CachedValue(Supplier<T> loader, Duration ttl, double refreshAhead, Clock clock, Executor refreshExecutor) {
+        if (ttl.isNegative() || ttl.isZero()) {
+            throw new IllegalArgumentException("ttl has to be positive");
+        }
+        this.loader = loader;
+        this.ttl = ttl;
+        this.refreshAfter = Duration.ofNanos((long) (ttl.toNanos() * (1 - refreshAhead)));
+        this.clock = clock;
+        this.refreshExecutor = refreshExecutor;
+    }
+
+    T get() {
+        Entry<T> current = entry;
+        Instant now = clock.instant();
+        if (current == null || !now.isBefore(current.loadedAt.plus(ttl))) {
+            return load(current);
+        }
+        if (!now.isBefore(current.loadedAt.plus(refreshAfter)) && refreshing.compareAndSet(false, true)) {
+            refreshInBackground();
+        }
+        return current.value;
+    }
+
+    private void refreshInBackground() {
+        try {
+            refreshExecutor.execute(() -> {
+                try {
+                    reload();
+                } catch (RuntimeException ignored) {
+                    // the current value is used until it expires
+                } finally {
+                    refreshing.set(false);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            // the cache has been closed
+            refreshing.set(false);
+        }
+    }
+
+    /**
+     * @return the value if it is loaded and not expired, otherwise null
+     */
+    T getIfPresent() {
+        Entry<T> current = entry;
+        return current != null && clock.instant().isBefore(current.loadedAt.plus(ttl)) ? current.value : null;
+    }
+
+    void invalidate() {
+        synchronized (stateLock) {
+            generation++;
+            entry = null;
+        }
+    }
+
+    /**
+     * Load the value unless another thread has loaded it in the meantime.
+     */
+    private synchronized T load(Entry<T> expired) {
+        Entry<T> current = entry;
+        if (current != expired && current != null) {
+            return current.value;
+        }
+        return reload();
+    }
+
+    private synchronized T reload() {
+        final long loadedGeneration;
+        synchronized (stateLock) {
+            loadedGeneration = generation;
+        }
+        Instant loadedAt = clock.instant();
+        T value = loader.get();
+        synchronized (stateLock) {
+            if (generation == loadedGeneration) {
+                entry = new Entry<>(value, loadedAt);
+            }
+        }
+        return value;
+    }
+
+    private static final class Entry<T> {
+
+        private final T value;
+        private final Instant loadedAt;
+
+        Entry(T value, Instant loadedAt) {
+            this.value = value;
+            this.loadedAt = loadedAt;
+        }
+    }
+}
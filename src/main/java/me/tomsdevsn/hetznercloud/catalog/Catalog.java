@@ -0,0 +1,30 @@
+package me.tomsdevsn.hetznercloud.catalog;
+
+import java.time.Duration;
+
+/**
+ * Catalogs held by the {@link CatalogCache}.
+ */
+public enum Catalog {
+    SERVER_TYPES(Duration.ofHours(1)),
+    LOCATIONS(Duration.ofHours(1)),
+    DATACENTERS(Duration.ofHours(1)),
+    LOAD_BALANCER_TYPES(Duration.ofHours(1)),
+    ISOS(Duration.ofHours(1)),
+    PRICING(Duration.ofMinutes(15)),
+    IMAGES(Duration.ofMinutes(10)),
+    SSH_KEYS(Duration.ofMinutes(5));
+
+    private final Duration defaultTtl;
+
+    Catalog(Duration defaultTtl) {
+        this.defaultTtl = defaultTtl;
+    }
+
+    /**
+     * @return the time a loaded catalog is used if no other TTL has been configured
+     */
+    public Duration getDefaultTtl() {
+        return defaultTtl;
+    }
+}
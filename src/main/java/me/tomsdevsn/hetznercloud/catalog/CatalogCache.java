@@ -0,0 +1,255 @@
+package me.tomsdevsn.hetznercloud.catalog;
+
+import me.tomsdevsn.hetznercloud.HetznerCloudAPI;
+import me.tomsdevsn.hetznercloud.objects.enums.Architecture;
+import me.tomsdevsn.hetznercloud.objects.general.Datacenter;
+import me.tomsdevsn.hetznercloud.objects.general.ISO;
+import me.tomsdevsn.hetznercloud.objects.general.Image;
+import me.tomsdevsn.hetznercloud.objects.general.LoadBalancerType;
+import me.tomsdevsn.hetznercloud.objects.general.Location;
+import me.tomsdevsn.hetznercloud.objects.general.SSHKey;
+import me.tomsdevsn.hetznercloud.objects.general.ServerType;
+import me.tomsdevsn.hetznercloud.objects.pricing.Pricing;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * Cache for catalogs which rarely change, like server types, locations or the pricing.
+ * <p>
+ * Each catalog is loaded on first use and kept for its TTL (see {@link Catalog#getDefaultTtl()}). Catalogs read
+ * within the last 20% of their TTL are reloaded in the background, so the hot path never waits for a request
+ * once a catalog has been loaded. {@link #invalidate(Catalog)} drops a catalog, e.g. after a new server type
+ * has been announced.
+ * <p>
+ * Every loaded catalog is indexed by ID and name (images additionally by OS flavor, SSH keys by fingerprint),
+ * so lookups like {@link #getServerTypeByName(String)} are map lookups instead of requests.
+ * <p>
+ * The returned objects are shared between all callers and must not be modified.
+ */
+public class CatalogCache implements AutoCloseable {
+
+    private static final double REFRESH_AHEAD = 0.2;
+
+    private final ExecutorService refreshExecutor;
+    private final Map<Catalog, CachedValue<?>> catalogs = new EnumMap<>(Catalog.class);
+
+    /**
+     * Create a cache with the default TTLs.
+     *
+     * @param api API instance used to load the catalogs
+     */
+    public CatalogCache(HetznerCloudAPI api) {
+        this(api, Collections.emptyMap());
+    }
+
+    /**
+     * Create a cache with custom TTLs.
+     *
+     * @param api  API instance used to load the catalogs
+     * @param ttls TTL per catalog, catalogs without an entry use their default TTL
+     */
+    public CatalogCache(HetznerCloudAPI api, Map<Catalog, Duration> ttls) {
+        this(api, ttls, Clock.systemUTC());
+    }
+
+    CatalogCache(HetznerCloudAPI api, Map<Catalog, Duration> ttls, Clock clock) {
+        this.refreshExecutor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "hcloud-catalog-refresh");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        register(Catalog.SERVER_TYPES, ttls, clock, () -> new CatalogIndex<>(
+                api.streamServerTypes().collect(Collectors.toList()),
+                ServerType::getId, ServerType::getName));
+        register(Catalog.LOCATIONS, ttls, clock, () -> new CatalogIndex<>(
+                api.getLocations().getLocations(), Location::getId, Location::getName));
+        register(Catalog.DATACENTERS, ttls, clock, () -> new CatalogIndex<>(
+                api.getDatacenters().getDatacenters(), Datacenter::getId, Datacenter::getName));
+        register(Catalog.LOAD_BALANCER_TYPES, ttls, clock, () -> new CatalogIndex<>(
+                api.getLoadBalancerTypes().getLoadBalancerTypes(), LoadBalancerType::getId, LoadBalancerType::getName));
+        register(Catalog.ISOS, ttls, clock, () -> new CatalogIndex<>(
+                api.streamISOS(null).collect(Collectors.toList()), ISO::getId, ISO::getName));
+        register(Catalog.PRICING, ttls, clock, () -> api.getPricing().getPricing());
+        register(Catalog.IMAGES, ttls, clock, () -> new ImageIndex(
+                api.streamImages(null, null).collect(Collectors.toList())));
+        register(Catalog.SSH_KEYS, ttls, clock, () -> new SSHKeyIndex(
+                api.streamSSHKeys(null).collect(Collectors.toList())));
+    }
+
+    /**
+     * @return all server types
+     */
+    public List<ServerType> getServerTypes() {
+        return getServerTypeIndex().getAll();
+    }
+
+    /**
+     * @param name name of the server type, e.g. {@code cx22}
+     * @return the server type with the name
+     */
+    public Optional<ServerType> getServerTypeByName(String name) {
+        return getServerTypeIndex().getByName(name);
+    }
+
+    /**
+     * @return server types indexed by ID and name
+     */
+    public CatalogIndex<ServerType> getServerTypeIndex() {
+        return get(Catalog.SERVER_TYPES);
+    }
+
+    /**
+     * @return all locations
+     */
+    public List<Location> getLocations() {
+        return getLocationIndex().getAll();
+    }
+
+    /**
+     * @param name name of the location, e.g. {@code fsn1}
+     * @return the location with the name
+     */
+    public Optional<Location> getLocationByName(String name) {
+        return getLocationIndex().getByName(name);
+    }
+
+    /**
+     * @return locations indexed by ID and name
+     */
+    public CatalogIndex<Location> getLocationIndex() {
+        return get(Catalog.LOCATIONS);
+    }
+
+    /**
+     * @return all datacenters
+     */
+    public List<Datacenter> getDatacenters() {
+        return getDatacenterIndex().getAll();
+    }
+
+    /**
+     * @return datacenters indexed by ID and name
+     */
+    public CatalogIndex<Datacenter> getDatacenterIndex() {
+        return get(Catalog.DATACENTERS);
+    }
+
+    /**
+     * @return all load balancer types
+     */
+    public List<LoadBalancerType> getLoadBalancerTypes() {
+        return getLoadBalancerTypeIndex().getAll();
+    }
+
+    /**
+     * @param name name of the load balancer type, e.g. {@code lb11}
+     * @return the load balancer type with the name
+     */
+    public Optional<LoadBalancerType> getLoadBalancerTypeByName(String name) {
+        return getLoadBalancerTypeIndex().getByName(name);
+    }
+
+    /**
+     * @return load balancer types indexed by ID and name
+     */
+    public CatalogIndex<LoadBalancerType> getLoadBalancerTypeIndex() {
+        return get(Catalog.LOAD_BALANCER_TYPES);
+    }
+
+    /**
+     * @return all ISOs
+     */
+    public List<ISO> getISOs() {
+        return getISOIndex().getAll();
+    }
+
+    /**
+     * @return ISOs indexed by ID and name
+     */
+    public CatalogIndex<ISO> getISOIndex() {
+        return get(Catalog.ISOS);
+    }
+
+    /**
+     * @return the pricing of the project
+     */
+    public Pricing getPricing() {
+        return get(Catalog.PRICING);
+    }
+
+    /**
+     * @param name         name of the image, e.g. {@code ubuntu-24.04}
+     * @param architecture architecture of the image
+     * @return the image with the name for the architecture
+     */
+    public Optional<Image> getImageByName(String name, Architecture architecture) {
+        return getImageIndex().getByName(name, architecture);
+    }
+
+    /**
+     * @return images indexed by ID, name and OS flavor
+     */
+    public ImageIndex getImageIndex() {
+        return get(Catalog.IMAGES);
+    }
+
+    /**
+     * @param fingerprint fingerprint of the SSH key
+     * @return the SSH key with the fingerprint
+     */
+    public Optional<SSHKey> getSSHKeyByFingerprint(String fingerprint) {
+        return getSSHKeyIndex().getByFingerprint(fingerprint);
+    }
+
+    /**
+     * @return SSH keys indexed by ID, name and fingerprint
+     */
+    public SSHKeyIndex getSSHKeyIndex() {
+        return get(Catalog.SSH_KEYS);
+    }
+
+    /**
+     * Drop a catalog, so it is loaded again on the next access.
+     *
+     * @param catalog catalog to drop
+     */
+    public void invalidate(Catalog catalog) {
+        catalogs.get(catalog).invalidate();
+    }
+
+    /**
+     * Drop all catalogs.
+     */
+    public void invalidateAll() {
+        catalogs.values().forEach(CachedValue::invalidate);
+    }
+
+    /**
+     * Stop the background refreshes.
+     */
+    @Override
+    public void close() {
+        refreshExecutor.shutdownNow();
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> T get(Catalog catalog) {
+        return ((CachedValue<T>) catalogs.get(catalog)).get();
+    }
+
+    private <T> void register(Catalog catalog, Map<Catalog, Duration> ttls, Clock clock, Supplier<T> loader) {
+        Duration ttl = ttls.getOrDefault(catalog, catalog.getDefaultTtl());
+        catalogs.put(catalog, new CachedValue<>(loader, ttl, REFRESH_AHEAD, clock, refreshExecutor));
+    }
+}
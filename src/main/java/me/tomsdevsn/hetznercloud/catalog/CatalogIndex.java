@@ -0,0 +1,64 @@
+package me.tomsdevsn.hetznercloud.catalog;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * Entries of a catalog with hash indexes by ID and name.
+ * The indexes are built once when the catalog is loaded, so lookups do not scan the entries.
+ *
+ * @param <T> type of the entries
+ */
+public class CatalogIndex<T> {
+
+    private final List<T> entries;
+    private final Map<Long, T> byId;
+    private final Map<String, T> byName;
+
+    CatalogIndex(List<T> entries, Function<T, Long> id, Function<T, String> name) {
+        this.entries = entries != null ? Collections.unmodifiableList(entries) : Collections.emptyList();
+        this.byId = index(this.entries, id);
+        this.byName = index(this.entries, name);
+    }
+
+    /**
+     * @return all entries in the order returned by the API
+     */
+    public List<T> getAll() {
+        return entries;
+    }
+
+    /**
+     * @param id ID of the entry
+     * @return the entry with the ID
+     */
+    public Optional<T> get(long id) {
+        return Optional.ofNullable(byId.get(id));
+    }
+
+    /**
+     * @param name name of the entry
+     * @return the entry with the name, the first one if several entries have the same name
+     */
+    public Optional<T> getByName(String name) {
+        return Optional.ofNullable(byName.get(name));
+    }
+
+    /**
+     * Build an index over the entries. Entries without a key are skipped, the first entry wins on duplicate keys.
+     */
+    static <K, T> Map<K, T> index(List<T> entries, Function<T, K> key) {
+        Map<K, T> index = new HashMap<>(entries.size() * 4 / 3 + 1);
+        for (T entry : entries) {
+            K value = key.apply(entry);
+            if (value != null) {
+                index.putIfAbsent(value, entry);
+            }
+        }
+        return index;
+    }
+}
@@ -0,0 +1,60 @@
+package me.tomsdevsn.hetznercloud.catalog;
+
+import me.tomsdevsn.hetznercloud.objects.enums.Architecture;
+import me.tomsdevsn.hetznercloud.objects.general.Image;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Images with additional indexes by name and by OS flavor, both per architecture.
+ * System images of different architectures share the same name (e.g. {@code ubuntu-24.04}), so
+ * {@link #getByName(String)} returns the first image with the name regardless of its architecture.
+ */
+public class ImageIndex extends CatalogIndex<Image> {
+
+    private final Map<String, Image> byNameAndArchitecture;
+    private final Map<String, List<Image>> byOsFlavorAndArchitecture;
+
+    ImageIndex(List<Image> images) {
+        super(images, Image::getId, Image::getName);
+        this.byNameAndArchitecture = index(getAll(),
+                image -> image.getName() != null ? key(image.getName(), image.getArchitecture()) : null);
+
+        Map<String, List<Image>> byOsFlavor = new HashMap<>();
+        for (Image image : getAll()) {
+            if (image.getOsFlavor() != null) {
+                byOsFlavor.computeIfAbsent(key(image.getOsFlavor(), image.getArchitecture()), key -> new ArrayList<>())
+                        .add(image);
+            }
+        }
+        byOsFlavor.replaceAll((key, list) -> Collections.unmodifiableList(list));
+        this.byOsFlavorAndArchitecture = byOsFlavor;
+    }
+
+    /**
+     * @param name         name of the image, e.g. {@code ubuntu-24.04}
+     * @param architecture architecture of the image
+     * @return the image with the name for the architecture
+     */
+    public Optional<Image> getByName(String name, Architecture architecture) {
+        return Optional.ofNullable(byNameAndArchitecture.get(key(name, architecture)));
+    }
+
+    /**
+     * @param osFlavor     flavor of the operating system, e.g. {@code ubuntu} or {@code debian}
+     * @param architecture architecture of the images
+     * @return all images with the OS flavor for the architecture in the order returned by the API
+     */
+    public List<Image> getByOsFlavor(String osFlavor, Architecture architecture) {
+        return byOsFlavorAndArchitecture.getOrDefault(key(osFlavor, architecture), Collections.emptyList());
+    }
+
+    private static String key(String name, Architecture architecture) {
+        return name + '/' + architecture;
+    }
+}
@@ -0,0 +1,28 @@
+package me.tomsdevsn.hetznercloud.catalog;
+
+import me.tomsdevsn.hetznercloud.objects.general.SSHKey;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * SSH keys with an additional index by fingerprint.
+ */
+public class SSHKeyIndex extends CatalogIndex<SSHKey> {
+
+    private final Map<String, SSHKey> byFingerprint;
+
+    SSHKeyIndex(List<SSHKey> sshKeys) {
+        super(sshKeys, SSHKey::getId, SSHKey::getName);
+        this.byFingerprint = index(getAll(), SSHKey::getFingerprint);
+    }
+
+    /**
+     * @param fingerprint fingerprint of the SSH key
+     * @return the SSH key with the fingerprint
+     */
+    public Optional<SSHKey> getByFingerprint(String fingerprint) {
+        return Optional.ofNullable(byFingerprint.get(fingerprint));
+    }
+}
@@ -5,31 +5,36 @@ import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
 
 import java.io.IOException;
-import java.text.ParseException;
-import java.text.SimpleDateFormat;
+import java.time.DateTimeException;
 import java.util.Date;
 
+/**
+ * Deserializes the timestamps of the API to a {@link Date}.
+ *
+ * @see InstantDeserializer#parse(CharSequence)
+ */
 public class DateDeserializer extends StdDeserializer<Date> {
 
     private static final long serialVersionUID = 1L;
 
-    private final ThreadLocal<SimpleDateFormat> dateFormatThreadLocal = ThreadLocal.withInitial(() ->
-            new SimpleDateFormat("yyyy-MM-dd'T'HH:mm:ssXXX"));
-
     public DateDeserializer() {
         this(null);
     }
 
     public DateDeserializer(Class<?> vc) {
-        super(vc);
+        super(vc == null ? Date.class : vc);
     }
 
     @Override
-    public Date deserialize(JsonParser jsonParser, DeserializationContext context) {
+    public Date deserialize(JsonParser jsonParser, DeserializationContext context) throws IOException {
+        String text = jsonParser.getText();
+        if (text == null || text.isBlank()) {
+            return null;
+        }
         try {
-            String date = jsonParser.getText();
-            return dateFormatThreadLocal.get().parse(date);
-        } catch (IOException | ParseException ignored) {}
-        return null;
+            return Date.from(InstantDeserializer.parse(text));
+        } catch (DateTimeException e) {
+            return (Date) context.handleWeirdStringValue(Date.class, text, e.getMessage());
+        }
     }
 }
@@ -0,0 +1,144 @@
+package me.tomsdevsn.hetznercloud.deserialize;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+
+import java.io.IOException;
+import java.time.DateTimeException;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+
+/**
+ * Deserializes the timestamps of the API (e.g. {@code 2016-01-30T23:55:00+00:00}) to an {@link Instant}.
+ * <p>
+ * The fixed layout the API uses is parsed by hand without allocating intermediate objects, anything else
+ * is passed to {@link DateTimeFormatter#ISO_OFFSET_DATE_TIME}. Timestamps which cannot be parsed are reported
+ * as {@link com.fasterxml.jackson.databind.exc.InvalidFormatException}.
+ */
+public class InstantDeserializer extends StdDeserializer<Instant> {
+
+    private static final long serialVersionUID = 1L;
+
+    public InstantDeserializer() {
+        this(null);
+    }
+
+    public InstantDeserializer(Class<?> vc) {
+        super(vc == null ? Instant.class : vc);
+    }
+
+    @Override
+    public Instant deserialize(JsonParser jsonParser, DeserializationContext context) throws IOException {
+        String text = jsonParser.getText();
+        if (text == null || text.isBlank()) {
+            return null;
+        }
+        try {
+            return parse(text);
+        } catch (DateTimeException e) {
+            return (Instant) context.handleWeirdStringValue(Instant.class, text, e.getMessage());
+        }
+    }
+
+    /**
+     * Parse an ISO-8601 timestamp with offset, e.g. {@code 2016-01-30T23:55:00+00:00},
+     * {@code 2016-01-30T23:55:00Z} or {@code 2016-01-30T23:55:00.123+02:00}.
+     *
+     * @param text timestamp
+     * @return the parsed instant
+     * @throws DateTimeException if the text is not a valid timestamp
+     */
+    public static Instant parse(CharSequence text) {
+        Instant instant = parseFast(text);
+        if (instant != null) {
+            return instant;
+        }
+        try {
+            return OffsetDateTime.parse(text, DateTimeFormatter.ISO_OFFSET_DATE_TIME).toInstant();
+        } catch (DateTimeParseException e) {
+            throw new DateTimeException("Invalid timestamp '" + text + "'", e);
+        }
+    }
+
+    /**
+     * Parse {@code yyyy-MM-ddTHH:mm:ss[.fraction](Z|+HH:MM|-HH:MM)}.
+     *
+     * @return the instant or null if the text has a different layout
+     */
+    private static Instant parseFast(CharSequence text) {
+        int length = text.length();
+        if (length < 20 || text.charAt(4) != '-' || text.charAt(7) != '-' || text.charAt(10) != 'T'
+                || text.charAt(13) != ':' || text.charAt(16) != ':') {
+            return null;
+        }
+
+        int year = digits(text, 0, 4);
+        int month = digits(text, 5, 2);
+        int day = digits(text, 8, 2);
+        int hour = digits(text, 11, 2);
+        int minute = digits(text, 14, 2);
+        int second = digits(text, 17, 2);
+        if (year < 0 || month < 0 || day < 0 || hour < 0 || hour > 23 || minute < 0 || minute > 59
+                || second < 0 || second > 59) {
+            return null;
+        }
+
+        int position = 19;
+        int nanos = 0;
+        if (text.charAt(position) == '.') {
+            int scale = 100_000_000;
+            position++;
+            int start = position;
+            char c;
+            while (position < length && (c = text.charAt(position)) >= '0' && c <= '9') {
+                if (position - start < 9) {
+                    nanos += (c - '0') * scale;
+                    scale /= 10;
+                }
+                position++;
+            }
+            if (position == start) {
+                return null;
+            }
+        }
+
+        int offsetSeconds;
+        if (position == length - 1 && text.charAt(position) == 'Z') {
+            offsetSeconds = 0;
+        } else if (position == length - 6 && text.charAt(position + 3) == ':'
+                && (text.charAt(position) == '+' || text.charAt(position) == '-')) {
+            int offsetHours = digits(text, position + 1, 2);
+            int offsetMinutes = digits(text, position + 4, 2);
+            if (offsetHours < 0 || offsetHours > 18 || offsetMinutes < 0 || offsetMinutes > 59) {
+                return null;
+            }
+            offsetSeconds = (offsetHours * 3600 + offsetMinutes * 60) * (text.charAt(position) == '-' ? -1 : 1);
+        } else {
+            return null;
+        }
+
+        long epochDay;
+        try {
+            epochDay = LocalDate.of(year, month, day).toEpochDay();
+        } catch (DateTimeException e) {
+            return null;
+        }
+        return Instant.ofEpochSecond(epochDay * 86400 + hour * 3600 + minute * 60 + second - offsetSeconds, nanos);
+    }
+
+    private static int digits(CharSequence text, int start, int count) {
+        int value = 0;
+        for (int i = start; i < start + count; i++) {
+            char c = text.charAt(i);
+            if (c < '0' || c > '9') {
+                return -1;
+            }
+            value = value * 10 + (c - '0');
+        }
+        return value;
+    }
+}
@@ -0,0 +1,141 @@
+package me.tomsdevsn.hetznercloud.deserialize;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import me.tomsdevsn.hetznercloud.objects.general.TimeSeries;
+
+import java.io.IOException;
+import java.util.Arrays;
+
+/**
+ * Streams a time series of the form {@code {"values": [[1435781470.622, "42"], ...]}} straight into
+ * primitive arrays, without building a tree of boxed values first.
+ */
+public class TimeSeriesDeserializer extends StdDeserializer<TimeSeries> {
+
+    private static final long serialVersionUID = 1L;
+    private static final int INITIAL_CAPACITY = 64;
+    private static final double[] POWERS_OF_TEN = {
+            1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10,
+            1e11, 1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22};
+
+    public TimeSeriesDeserializer() {
+        super(TimeSeries.class);
+    }
+
+    @Override
+    public TimeSeries deserialize(JsonParser jsonParser, DeserializationContext context) throws IOException {
+        if (!jsonParser.isExpectedStartObjectToken()) {
+            return (TimeSeries) context.handleUnexpectedToken(TimeSeries.class, jsonParser);
+        }
+
+        TimeSeries timeSeries = new TimeSeries(new long[0], new double[0]);
+        for (String field = jsonParser.nextFieldName(); field != null; field = jsonParser.nextFieldName()) {
+            JsonToken token = jsonParser.nextToken();
+            if ("values".equals(field) && token == JsonToken.START_ARRAY) {
+                timeSeries = readValues(jsonParser, context);
+            } else {
+                jsonParser.skipChildren();
+            }
+        }
+        return timeSeries;
+    }
+
+    private TimeSeries readValues(JsonParser jsonParser, DeserializationContext context) throws IOException {
+        long[] timestamps = new long[INITIAL_CAPACITY];
+        double[] values = new double[INITIAL_CAPACITY];
+        int size = 0;
+
+        while (jsonParser.nextToken() == JsonToken.START_ARRAY) {
+            if (size == timestamps.length) {
+                timestamps = Arrays.copyOf(timestamps, size * 2);
+                values = Arrays.copyOf(values, size * 2);
+            }
+
+            jsonParser.nextToken();
+            if (!jsonParser.currentToken().isNumeric()) {
+                return (TimeSeries) context.handleUnexpectedToken(TimeSeries.class, jsonParser);
+            }
+            timestamps[size] = jsonParser.currentToken() == JsonToken.VALUE_NUMBER_INT
+                    ? jsonParser.getLongValue()
+                    : (long) parseDouble(jsonParser.getTextCharacters(), jsonParser.getTextOffset(), jsonParser.getTextLength());
+            JsonToken valueToken = jsonParser.nextToken();
+            if (valueToken == JsonToken.END_ARRAY || valueToken == JsonToken.START_ARRAY
+                    || valueToken == JsonToken.START_OBJECT) {
+                // a sample without value or with a structured value
+                return (TimeSeries) context.handleUnexpectedToken(TimeSeries.class, jsonParser);
+            }
+            values[size] = readValue(jsonParser, valueToken);
+            size++;
+
+            // ignore additional entries of the sample
+            while (jsonParser.nextToken() != JsonToken.END_ARRAY) {
+                jsonParser.skipChildren();
+            }
+        }
+
+        if (jsonParser.currentToken() != JsonToken.END_ARRAY) {
+            return (TimeSeries) context.handleUnexpectedToken(TimeSeries.class, jsonParser);
+        }
+        return new TimeSeries(Arrays.copyOf(timestamps, size), Arrays.copyOf(values, size));
+    }
+
+    private static double readValue(JsonParser jsonParser, JsonToken token) throws IOException {
+        if (token == JsonToken.VALUE_STRING) {
+            return parseDouble(jsonParser.getTextCharacters(), jsonParser.getTextOffset(), jsonParser.getTextLength());
+        }
+        if (token != null && token.isNumeric()) {
+            return jsonParser.getDoubleValue();
+        }
+        return Double.NaN;
+    }
+
+    /**
+     * Parse a decimal like {@code -12.5} without creating a String. Numbers which cannot be converted exactly
+     * this way (more than 15 digits or an exponent) are passed to {@link Double#parseDouble(String)}.
+     */
+    static double parseDouble(char[] chars, int offset, int length) {
+        int end = offset + length;
+        int position = offset;
+        boolean negative = position < end && chars[position] == '-';
+        if (negative) {
+            position++;
+        }
+
+        long mantissa = 0;
+        int digits = 0;
+        int fractionDigits = 0;
+        boolean fraction = false;
+        boolean anyDigit = false;
+        for (; position < end; position++) {
+            char c = chars[position];
+            if (c >= '0' && c <= '9') {
+                mantissa = mantissa * 10 + (c - '0');
+                anyDigit = true;
+                if (fraction) {
+                    fractionDigits++;
+                }
+                if (mantissa != 0 && ++digits > 15) {
+                    break;
+                }
+            } else if (c == '.' && !fraction) {
+                fraction = true;
+            } else {
+                break;
+            }
+        }
+
+        if (position < end || !anyDigit) {
+            String text = new String(chars, offset, length).trim();
+            return text.isEmpty() ? Double.NaN : Double.parseDouble(text);
+        }
+
+        // mantissa < 10^15 and fractionDigits <= 22 are both exact, so the division is correctly rounded
+        double value = fractionDigits < POWERS_OF_TEN.length
+                ? mantissa / POWERS_OF_TEN[fractionDigits]
+                : Double.parseDouble(new String(chars, offset, length));
+        return negative ? -value : value;
+    }
+}
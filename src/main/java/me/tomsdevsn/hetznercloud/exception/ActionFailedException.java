@@ -0,0 +1,28 @@
+package me.tomsdevsn.hetznercloud.exception;
+
+import lombok.Getter;
+import me.tomsdevsn.hetznercloud.objects.general.Action;
+
+public class ActionFailedException extends RuntimeException {
+
+    private static final long serialVersionUID = 3125417436417235874L;
+    private static final String DEFAULT_EXCEPTION_MSG = "Action %d (%s) failed: [%s] %s";
+
+    @Getter
+    private final Action action;
+
+    public ActionFailedException(Action action) {
+        this(String.format(DEFAULT_EXCEPTION_MSG,
+                action.getId(),
+                action.getCommand(),
+                action.getError() != null ? action.getError().getCode() : null,
+                action.getError() != null ? action.getError().getMessage() : null), action);
+    }
+
+    public ActionFailedException(String message, Action action) {
+        super(message);
+
+        this.action = action;
+    }
+
+}
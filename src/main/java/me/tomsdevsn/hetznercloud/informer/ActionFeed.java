@@ -0,0 +1,204 @@
+package me.tomsdevsn.hetznercloud.informer;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import me.tomsdevsn.hetznercloud.HetznerCloudAPI;
+import me.tomsdevsn.hetznercloud.objects.enums.ActionStatus;
+import me.tomsdevsn.hetznercloud.objects.general.Action;
+import me.tomsdevsn.hetznercloud.objects.pagination.PaginationParameters;
+import me.tomsdevsn.hetznercloud.objects.response.ActionsResponse;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * Detects changed resources of one type from the actions the API records for them.
+ * <p>
+ * Every change made through the API (creating, powering off, attaching, deleting ...) creates an action which
+ * references the affected resources. The feed reads the actions of a resource type newest first and stops at the
+ * newest action of the previous poll, so a poll without changes costs a single request. Actions which are still
+ * running are checked again (with one {@code GET /actions?id=...} per 50 actions) until they have finished,
+ * as the resource changes again when they do.
+ * <p>
+ * Changes which do not create an action, e.g. renaming a resource or changing its labels, are not detected.
+ * Combine the feed with a periodic full listing, see {@link ActionFeedSync}.
+ */
+public class ActionFeed {
+
+    static final int PAGE_SIZE = 50;
+    static final int MAX_PAGES = 10;
+
+    private final String resourceType;
+    private final Function<PaginationParameters, ActionsResponse> actionsPage;
+    private final Function<Collection<Long>, ActionsResponse> actionsById;
+    private final Set<Long> runningActions = new LinkedHashSet<>();
+    private long lastActionId = -1;
+
+    /**
+     * @param resourceType type of the resources as referenced by the actions, e.g. {@code server}
+     * @param actionsPage  fetches a page of the actions of the resource type, newest first
+     * @param actionsById  fetches actions by their IDs
+     */
+    ActionFeed(String resourceType,
+               Function<PaginationParameters, ActionsResponse> actionsPage,
+               Function<Collection<Long>, ActionsResponse> actionsById) {
+        this.resourceType = resourceType;
+        this.actionsPage = actionsPage;
+        this.actionsById = actionsById;
+    }
+
+    /**
+     * @param api API instance used for the requests
+     * @return a feed of the changed servers
+     */
+    public static ActionFeed servers(HetznerCloudAPI api) {
+        return new ActionFeed("server", api::getServerActions, api::getActions);
+    }
+
+    /**
+     * @param api API instance used for the requests
+     * @return a feed of the changed volumes
+     */
+    public static ActionFeed volumes(HetznerCloudAPI api) {
+        return new ActionFeed("volume", api::getVolumeActions, api::getActions);
+    }
+
+    /**
+     * @param api API instance used for the requests
+     * @return a feed of the changed networks
+     */
+    public static ActionFeed networks(HetznerCloudAPI api) {
+        return new ActionFeed("network", api::getNetworkActions, api::getActions);
+    }
+
+    /**
+     * @param api API instance used for the requests
+     * @return a feed of the changed load balancers
+     */
+    public static ActionFeed loadBalancers(HetznerCloudAPI api) {
+        return new ActionFeed("load_balancer", api::getLoadBalancerActions, api::getActions);
+    }
+
+    /**
+     * @param api API instance used for the requests
+     * @return a feed of the changed firewalls
+     */
+    public static ActionFeed firewalls(HetznerCloudAPI api) {
+        return new ActionFeed("firewall", api::getFirewallActions, api::getActions);
+    }
+
+    /**
+     * Read the actions since the previous poll.
+     * The first poll only remembers the newest action, as the resources are expected to be listed anyway.
+     *
+     * @return the resources changed since the previous poll
+     * @throws RuntimeException if the actions could not be fetched, the next poll starts from the same point
+     */
+    public synchronized Changes poll() {
+        final Set<Long> resourceIds = new LinkedHashSet<>();
+
+        final List<Long> previouslyRunning = new ArrayList<>(runningActions);
+        final Map<Long, Action> rechecked = new HashMap<>();
+        for (int i = 0; i < previouslyRunning.size(); i += PAGE_SIZE) {
+            List<Long> batch = previouslyRunning.subList(i, Math.min(previouslyRunning.size(), i + PAGE_SIZE));
+            List<Action> actions = actionsById.apply(batch).getActions();
+            if (actions != null) {
+                actions.forEach(action -> rechecked.put(action.getId(), action));
+            }
+        }
+
+        final List<Action> newActions = new ArrayList<>();
+        boolean complete = false;
+        for (int page = 1; page <= MAX_PAGES && !complete; page++) {
+            ActionsResponse response = actionsPage.apply(new PaginationParameters(page, PAGE_SIZE));
+            List<Action> actions = response.getActions() != null ? response.getActions() : Collections.emptyList();
+            for (Action action : actions) {
+                if (action.getId() <= lastActionId) {
+                    complete = true;
+                    break;
+                }
+                newActions.add(action);
+            }
+            complete |= lastActionId < 0 || actions.size() < PAGE_SIZE || !hasNextPage(response);
+        }
+
+        // nothing is applied before all requests succeeded
+        for (Long id : previouslyRunning) {
+            Action action = rechecked.get(id);
+            if (action == null || !isRunning(action)) {
+                runningActions.remove(id);
+                if (action != null) {
+                    collectResources(action, resourceIds);
+                }
+            }
+        }
+        final boolean baseline = lastActionId < 0;
+        for (Action action : newActions) {
+            lastActionId = Math.max(lastActionId, action.getId());
+            if (isRunning(action)) {
+                runningActions.add(action.getId());
+            }
+            if (!baseline) {
+                collectResources(action, resourceIds);
+            }
+        }
+        if (baseline) {
+            lastActionId = Math.max(lastActionId, 0);
+        }
+        return new Changes(resourceIds, !complete);
+    }
+
+    /**
+     * @return the amount of running actions which are checked again on the next poll
+     */
+    public synchronized int getRunningCount() {
+        return runningActions.size();
+    }
+
+    private void collectResources(Action action, Set<Long> resourceIds) {
+        if (action.getResources() == null) {
+            return;
+        }
+        for (Action.Resources resource : action.getResources()) {
+            if (resourceType.equals(resource.getType()) && resource.getId() != null) {
+                resourceIds.add(resource.getId());
+            }
+        }
+    }
+
+    private static boolean isRunning(Action action) {
+        return ActionStatus.running.name().equals(action.getStatus());
+    }
+
+    private static boolean hasNextPage(ActionsResponse response) {
+        return response.getMeta() == null
+                || response.getMeta().getPagination() == null
+                || response.getMeta().getPagination().getNextPage() != null;
+    }
+
+    /**
+     * Result of a poll.
+     */
+    @Getter
+    @AllArgsConstructor
+    public static class Changes {
+
+        /**
+         * IDs of the changed resources
+         */
+        private final Set<Long> resourceIds;
+
+        /**
+         * Whether more actions happened since the previous poll than the feed reads at once,
+         * the resources have to be listed again
+         */
+        private final boolean resyncRequired;
+    }
+}
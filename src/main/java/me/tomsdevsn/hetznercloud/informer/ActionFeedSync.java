@@ -0,0 +1,107 @@
+package me.tomsdevsn.hetznercloud.informer;
+
+import java.time.Duration;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Keeps a {@link ResourceInformer} fresh between its full listings by polling an {@link ActionFeed}.
+ * <p>
+ * Only the resources referenced by new or finished actions are fetched again, so the amount of requests
+ * follows the amount of changes instead of the amount of resources. The informer should still be started with a
+ * (long) interval, as changes without an action, e.g. label updates, are only seen by a full listing.
+ *
+ * <pre>{@code
+ * ServerInformer informer = new ServerInformer(api, Duration.ofMinutes(10));
+ * informer.start();
+ * ActionFeedSync sync = new ActionFeedSync(ActionFeed.servers(api), informer, Duration.ofSeconds(5));
+ * sync.start();
+ * }</pre>
+ */
+public class ActionFeedSync implements AutoCloseable {
+
+    private final ActionFeed feed;
+    private final ResourceInformer<?> informer;
+    private final Duration interval;
+    private final ScheduledExecutorService scheduler;
+    private final Set<Long> pendingIds = new LinkedHashSet<>();
+    private boolean pendingResync;
+
+    private volatile RuntimeException lastError;
+
+    /**
+     * @param feed     feed of the changed resources
+     * @param informer informer to be updated, it has to mirror the resource type of the feed
+     * @param interval time between two polls of the feed
+     */
+    public ActionFeedSync(ActionFeed feed, ResourceInformer<?> informer, Duration interval) {
+        if (interval.isNegative() || interval.isZero()) {
+            throw new IllegalArgumentException("interval has to be positive");
+        }
+        this.feed = feed;
+        this.informer = informer;
+        this.interval = interval;
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "hcloud-action-feed-sync");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Start polling in the background. The first poll is run immediately.
+     */
+    public void start() {
+        scheduler.scheduleWithFixedDelay(() -> {
+            try {
+                sync();
+            } catch (RuntimeException ignored) {
+                // kept in lastError, the next poll is scheduled anyway
+            }
+        }, 0, interval.toNanos(), TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Poll the feed now and refetch the changed resources.
+     * If the feed could not read all actions since the previous poll, all resources are listed again.
+     * Resources which could not be fetched are fetched again on the next sync.
+     *
+     * @throws RuntimeException if the feed could not be polled or the resources could not be fetched
+     */
+    public synchronized void sync() {
+        try {
+            ActionFeed.Changes changes = feed.poll();
+            pendingIds.addAll(changes.getResourceIds());
+            pendingResync |= changes.isResyncRequired();
+            if (pendingResync) {
+                informer.refresh();
+                pendingResync = false;
+            } else if (!pendingIds.isEmpty()) {
+                informer.refresh(pendingIds);
+            }
+            pendingIds.clear();
+            lastError = null;
+        } catch (RuntimeException e) {
+            lastError = e;
+            throw e;
+        }
+    }
+
+    /**
+     * @return the error of the latest poll or null if it was successful
+     */
+    public RuntimeException getLastError() {
+        return lastError;
+    }
+
+    /**
+     * Stop polling. The informer is not closed.
+     */
+    @Override
+    public void close() {
+        scheduler.shutdownNow();
+    }
+}
@@ -0,0 +1,35 @@
+package me.tomsdevsn.hetznercloud.informer;
+
+/**
+ * Receives the changes detected by an informer.
+ * All methods are called from the refreshing thread, never concurrently, and default to doing nothing.
+ *
+ * @param <T> type of the resources
+ */
+public interface InformerListener<T> {
+
+    /**
+     * A resource has been created (or seen for the first time).
+     *
+     * @param resource the new resource
+     */
+    default void onAdded(T resource) {
+    }
+
+    /**
+     * A resource has been changed.
+     *
+     * @param oldResource the resource as seen by the previous refresh
+     * @param newResource the resource as seen now
+     */
+    default void onUpdated(T oldResource, T newResource) {
+    }
+
+    /**
+     * A resource has been deleted (or does not match the label selector anymore).
+     *
+     * @param resource the resource as seen by the previous refresh
+     */
+    default void onDeleted(T resource) {
+    }
+}
@@ -0,0 +1,41 @@
+package me.tomsdevsn.hetznercloud.informer;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.ser.std.ToStringSerializer;
+import lombok.Data;
+import me.tomsdevsn.hetznercloud.deserialize.InstantDeserializer;
+import me.tomsdevsn.hetznercloud.objects.general.Firewall;
+import me.tomsdevsn.hetznercloud.objects.general.LoadBalancer;
+import me.tomsdevsn.hetznercloud.objects.general.Network;
+import me.tomsdevsn.hetznercloud.objects.general.PrimaryIP;
+import me.tomsdevsn.hetznercloud.objects.general.Server;
+import me.tomsdevsn.hetznercloud.objects.general.Volume;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Resources of a project at a point in time, persisted by the {@link SnapshotStore}.
+ */
+@Data
+public class InventorySnapshot {
+
+    /**
+     * Time the resources have been listed
+     */
+    @JsonSerialize(using = ToStringSerializer.class)
+    @JsonDeserialize(using = InstantDeserializer.class)
+    private Instant created;
+
+    private List<Server> servers = new ArrayList<>();
+    private List<Volume> volumes = new ArrayList<>();
+    private List<Network> networks = new ArrayList<>();
+    private List<Firewall> firewalls = new ArrayList<>();
+    @JsonProperty("load_balancers")
+    private List<LoadBalancer> loadBalancers = new ArrayList<>();
+    @JsonProperty("primary_ips")
+    private List<PrimaryIP> primaryIPs = new ArrayList<>();
+}
@@ -0,0 +1,129 @@
+package me.tomsdevsn.hetznercloud.informer;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Inverted index from labels to resources for evaluating {@link LabelSelector}s without scanning all resources.
+ * <p>
+ * Every resource gets a position, and every label key and key/value pair maps to a {@link BitSet} of the
+ * positions of the resources carrying it. A selector is evaluated by intersecting these sets, so its cost
+ * depends on the amount of expressions and resources, but not on the amount of labels per resource.
+ * The index is immutable, it is built once for a snapshot of the resources.
+ *
+ * @param <T> type of the resources
+ */
+public class LabelIndex<T> {
+
+    private static final BitSet EMPTY = new BitSet();
+
+    private final List<T> resources;
+    private final Map<String, BitSet> byKey = new HashMap<>();
+    private final Map<String, Map<String, BitSet>> byKeyAndValue = new HashMap<>();
+
+    /**
+     * Build the index.
+     *
+     * @param resources resources to be indexed
+     * @param labels    extracts the labels of a resource (may return null)
+     */
+    public LabelIndex(Collection<T> resources, Function<T, Map<String, String>> labels) {
+        this.resources = Collections.unmodifiableList(new ArrayList<>(resources));
+        for (int i = 0; i < this.resources.size(); i++) {
+            Map<String, String> resourceLabels = labels.apply(this.resources.get(i));
+            if (resourceLabels == null) {
+                continue;
+            }
+            for (Map.Entry<String, String> label : resourceLabels.entrySet()) {
+                byKey.computeIfAbsent(label.getKey(), key -> new BitSet()).set(i);
+                byKeyAndValue.computeIfAbsent(label.getKey(), key -> new HashMap<>())
+                        .computeIfAbsent(label.getValue(), value -> new BitSet())
+                        .set(i);
+            }
+        }
+    }
+
+    /**
+     * @param labelSelector label selector, e.g. {@code env=prod,role in (web,worker)}
+     * @return the matching resources in the order they have been indexed
+     * @throws IllegalArgumentException if the selector is malformed
+     */
+    public List<T> select(String labelSelector) {
+        return select(LabelSelector.parse(labelSelector));
+    }
+
+    /**
+     * @param labelSelector parsed label selector
+     * @return the matching resources in the order they have been indexed
+     */
+    public List<T> select(LabelSelector labelSelector) {
+        BitSet matches = evaluate(labelSelector);
+        List<T> selected = new ArrayList<>(matches.cardinality());
+        for (int i = matches.nextSetBit(0); i >= 0; i = matches.nextSetBit(i + 1)) {
+            selected.add(resources.get(i));
+        }
+        return selected;
+    }
+
+    /**
+     * @param labelSelector parsed label selector
+     * @return the amount of matching resources
+     */
+    public int count(LabelSelector labelSelector) {
+        return evaluate(labelSelector).cardinality();
+    }
+
+    /**
+     * @return the amount of indexed resources
+     */
+    public int size() {
+        return resources.size();
+    }
+
+    private BitSet evaluate(LabelSelector labelSelector) {
+        BitSet matches = new BitSet(resources.size());
+        matches.set(0, resources.size());
+        for (LabelSelector.Requirement requirement : labelSelector.getRequirements()) {
+            if (matches.isEmpty()) {
+                break;
+            }
+            switch (requirement.getOperator()) {
+                case EXISTS:
+                    matches.and(byKey.getOrDefault(requirement.getKey(), EMPTY));
+                    break;
+                case NOT_EXISTS:
+                    matches.andNot(byKey.getOrDefault(requirement.getKey(), EMPTY));
+                    break;
+                case EQUALS:
+                case IN:
+                    matches.and(withAnyValue(requirement));
+                    break;
+                case NOT_EQUALS:
+                case NOT_IN:
+                    matches.andNot(withAnyValue(requirement));
+                    break;
+                default:
+                    throw new IllegalStateException("Unknown operator " + requirement.getOperator());
+            }
+        }
+        return matches;
+    }
+
+    private BitSet withAnyValue(LabelSelector.Requirement requirement) {
+        Map<String, BitSet> values = byKeyAndValue.getOrDefault(requirement.getKey(), Collections.emptyMap());
+        if (requirement.getValues().size() == 1) {
+            return values.getOrDefault(requirement.getValues().iterator().next(), EMPTY);
+        }
+        BitSet union = new BitSet();
+        for (String value : requirement.getValues()) {
+            union.or(values.getOrDefault(value, EMPTY));
+        }
+        return union;
+    }
+}
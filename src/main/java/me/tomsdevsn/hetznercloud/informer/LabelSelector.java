@@ -0,0 +1,235 @@
+package me.tomsdevsn.hetznercloud.informer;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Label selector as accepted by the {@code label_selector} parameter of the API, evaluated locally.
+ * <p>
+ * A selector consists of comma separated expressions which all have to match:
+ * <ul>
+ *     <li>{@code key} - the label exists</li>
+ *     <li>{@code !key} - the label does not exist</li>
+ *     <li>{@code key=value} or {@code key==value} - the label has the value</li>
+ *     <li>{@code key!=value} - the label does not have the value (or does not exist)</li>
+ *     <li>{@code key in (value1,value2)} - the label has one of the values</li>
+ *     <li>{@code key notin (value1,value2)} - the label has none of the values (or does not exist)</li>
+ * </ul>
+ */
+public class LabelSelector {
+
+    private final String selector;
+    private final List<Requirement> requirements;
+
+    private LabelSelector(String selector, List<Requirement> requirements) {
+        this.selector = selector;
+        this.requirements = Collections.unmodifiableList(requirements);
+    }
+
+    /**
+     * Parse a label selector.
+     *
+     * @param selector the label selector, an empty selector matches everything
+     * @return the parsed selector
+     * @throws IllegalArgumentException if the selector is malformed
+     */
+    public static LabelSelector parse(String selector) {
+        return new LabelSelector(selector, new Parser(selector).parse());
+    }
+
+    /**
+     * @param labels labels of a resource (may be null)
+     * @return whether the labels match all expressions of the selector
+     */
+    public boolean matches(Map<String, String> labels) {
+        Map<String, String> actual = labels != null ? labels : Collections.emptyMap();
+        for (Requirement requirement : requirements) {
+            if (!requirement.matches(actual)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    List<Requirement> getRequirements() {
+        return requirements;
+    }
+
+    @Override
+    public String toString() {
+        return selector;
+    }
+
+    enum Operator {
+        EXISTS, NOT_EXISTS, EQUALS, NOT_EQUALS, IN, NOT_IN
+    }
+
+    static final class Requirement {
+
+        private final String key;
+        private final Operator operator;
+        private final Set<String> values;
+
+        Requirement(String key, Operator operator, Set<String> values) {
+            this.key = key;
+            this.operator = operator;
+            this.values = values;
+        }
+
+        String getKey() {
+            return key;
+        }
+
+        Operator getOperator() {
+            return operator;
+        }
+
+        Set<String> getValues() {
+            return values;
+        }
+
+        boolean matches(Map<String, String> labels) {
+            String value = labels.get(key);
+            switch (operator) {
+                case EXISTS:
+                    return value != null;
+                case NOT_EXISTS:
+                    return value == null;
+                case EQUALS:
+                case IN:
+                    return value != null && values.contains(value);
+                case NOT_EQUALS:
+                case NOT_IN:
+                    return value == null || !values.contains(value);
+                default:
+                    throw new IllegalStateException("Unknown operator " + operator);
+            }
+        }
+    }
+
+    private static final class Parser {
+
+        private final String input;
+        private int position;
+
+        Parser(String input) {
+            this.input = input == null ? "" : input;
+        }
+
+        List<Requirement> parse() {
+            List<Requirement> requirements = new ArrayList<>();
+            skipWhitespace();
+            if (position == input.length()) {
+                return requirements;
+            }
+            while (true) {
+                requirements.add(requirement());
+                skipWhitespace();
+                if (position == input.length()) {
+                    return requirements;
+                }
+                expect(',');
+            }
+        }
+
+        private Requirement requirement() {
+            skipWhitespace();
+            if (consume('!')) {
+                return new Requirement(word("key"), Operator.NOT_EXISTS, Collections.emptySet());
+            }
+
+            String key = word("key");
+            skipWhitespace();
+            if (position == input.length() || peek() == ',') {
+                return new Requirement(key, Operator.EXISTS, Collections.emptySet());
+            }
+            if (consume('!')) {
+                expect('=');
+                return new Requirement(key, Operator.NOT_EQUALS, Set.of(value()));
+            }
+            if (consume('=')) {
+                consume('=');
+                return new Requirement(key, Operator.EQUALS, Set.of(value()));
+            }
+
+            String operator = word("operator");
+            if ("in".equals(operator)) {
+                return new Requirement(key, Operator.IN, valueSet());
+            }
+            if ("notin".equals(operator)) {
+                return new Requirement(key, Operator.NOT_IN, valueSet());
+            }
+            throw error("unknown operator '" + operator + "'");
+        }
+
+        private Set<String> valueSet() {
+            skipWhitespace();
+            expect('(');
+            Set<String> values = new LinkedHashSet<>();
+            do {
+                values.add(value());
+                skipWhitespace();
+            } while (consume(','));
+            expect(')');
+            return Collections.unmodifiableSet(values);
+        }
+
+        private String value() {
+            skipWhitespace();
+            int start = position;
+            while (position < input.length() && isValueChar(peek())) {
+                position++;
+            }
+            return input.substring(start, position);
+        }
+
+        private String word(String name) {
+            skipWhitespace();
+            int start = position;
+            while (position < input.length() && (isValueChar(peek()) || peek() == '/')) {
+                position++;
+            }
+            if (start == position) {
+                throw error("expected " + name);
+            }
+            return input.substring(start, position);
+        }
+
+        private static boolean isValueChar(char c) {
+            return Character.isLetterOrDigit(c) || c == '-' || c == '_' || c == '.';
+        }
+
+        private char peek() {
+            return input.charAt(position);
+        }
+
+        private boolean consume(char c) {
+            if (position < input.length() && peek() == c) {
+                position++;
+                return true;
+            }
+            return false;
+        }
+
+        private void expect(char c) {
+            skipWhitespace();
+            if (!consume(c)) {
+                throw error("expected '" + c + "'");
+            }
+        }
+
+        private void skipWhitespace() {
+            while (position < input.length() && Character.isWhitespace(peek())) {
+                position++;
+            }
+        }
+
+        private IllegalArgumentException error(String message) {
+            return new IllegalArgumentException("Invalid label selector '" + input + "' at position " + position + ": " + message);
+        }
+    }
+}
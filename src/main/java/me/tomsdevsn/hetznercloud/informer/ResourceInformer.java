@@ -0,0 +1,391 @@
+package me.tomsdevsn.hetznercloud.informer;
+
+import me.tomsdevsn.hetznercloud.HetznerCloudAPI;
+import me.tomsdevsn.hetznercloud.exception.APIRequestException;
+import me.tomsdevsn.hetznercloud.objects.general.APIErrorCode;
+import me.tomsdevsn.hetznercloud.objects.general.Firewall;
+import me.tomsdevsn.hetznercloud.objects.general.LoadBalancer;
+import me.tomsdevsn.hetznercloud.objects.general.Network;
+import me.tomsdevsn.hetznercloud.objects.general.Volume;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.LongFunction;
+import java.util.function.Supplier;
+
+/**
+ * Local mirror of the resources of one type, e.g. all volumes of a project.
+ * <p>
+ * The informer lists all resources (optionally filtered by a label selector) on a fixed interval, compares them
+ * with the previous state and notifies the registered {@link InformerListener}s about added, updated and deleted
+ * resources. Consumers read from the mirror with {@link #get(long)}, {@link #list()} and {@link #select(String)}
+ * instead of requesting the resources again. Single resources can be refetched with {@link #refresh(Collection)},
+ * which the {@link ActionFeedSync} uses to keep the mirror fresh between two full listings.
+ * <p>
+ * A failed refresh keeps the previous state, the resources are listed again after the interval.
+ * The returned resources are shared between all readers and must not be modified.
+ *
+ * @param <T> type of the resources
+ * @see ServerInformer
+ */
+public class ResourceInformer<T> implements AutoCloseable {
+
+    static final int DEFAULT_PARALLELISM = 4;
+
+    private final LabelSelector labelSelector;
+    private final Supplier<List<T>> lister;
+    private final LongFunction<T> fetcher;
+    private final Function<T, Long> idOf;
+    private final Function<T, Map<String, String>> labelsOf;
+    private final Duration interval;
+    private final List<InformerListener<T>> listeners = new CopyOnWriteArrayList<>();
+    private final ScheduledExecutorService scheduler;
+
+    private volatile Snapshot<T> snapshot;
+    private volatile Instant lastSync;
+    private volatile RuntimeException lastError;
+
+    /**
+     * @param name          name of the resource type, used for the thread name
+     * @param labelSelector label selector the lister filters by (may be null)
+     * @param lister        lists all resources
+     * @param fetcher       fetches a single resource by ID and returns null if it does not exist anymore
+     * @param idOf          extracts the ID of a resource
+     * @param labelsOf      extracts the labels of a resource
+     * @param interval      time between two listings
+     * @throws IllegalArgumentException if the label selector is malformed
+     */
+    ResourceInformer(String name,
+                     String labelSelector,
+                     Supplier<List<T>> lister,
+                     LongFunction<T> fetcher,
+                     Function<T, Long> idOf,
+                     Function<T, Map<String, String>> labelsOf,
+                     Duration interval) {
+        if (interval.isNegative() || interval.isZero()) {
+            throw new IllegalArgumentException("interval has to be positive");
+        }
+        this.labelSelector = labelSelector == null || labelSelector.isBlank() ? null : LabelSelector.parse(labelSelector);
+        this.lister = Objects.requireNonNull(lister);
+        this.fetcher = Objects.requireNonNull(fetcher);
+        this.idOf = idOf;
+        this.labelsOf = labelsOf;
+        this.interval = interval;
+        this.snapshot = new Snapshot<>(Collections.emptyMap(), labelsOf);
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "hcloud-" + name + "-informer");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Create an informer for the volumes matching a label selector.
+     *
+     * @param api           API instance used for the requests
+     * @param labelSelector Label selector filter (may be null)
+     * @param interval      time between two listings
+     * @return the informer
+     */
+    public static ResourceInformer<Volume> volumes(HetznerCloudAPI api, String labelSelector, Duration interval) {
+        return new ResourceInformer<>("volume", labelSelector,
+                () -> api.getAllVolumes(labelSelector, DEFAULT_PARALLELISM),
+                fetchOrNull(id -> api.getVolume(id).getVolume()),
+                Volume::getId, Volume::getLabels, interval);
+    }
+
+    /**
+     * Create an informer for the networks matching a label selector.
+     *
+     * @param api           API instance used for the requests
+     * @param labelSelector Label selector filter (may be null)
+     * @param interval      time between two listings
+     * @return the informer
+     */
+    public static ResourceInformer<Network> networks(HetznerCloudAPI api, String labelSelector, Duration interval) {
+        return new ResourceInformer<>("network", labelSelector,
+                () -> api.getAllNetworks(labelSelector, DEFAULT_PARALLELISM),
+                fetchOrNull(id -> api.getNetwork(id).getNetwork()),
+                Network::getId, Network::getLabels, interval);
+    }
+
+    /**
+     * Create an informer for the load balancers matching a label selector.
+     *
+     * @param api           API instance used for the requests
+     * @param labelSelector Label selector filter (may be null)
+     * @param interval      time between two listings
+     * @return the informer
+     */
+    public static ResourceInformer<LoadBalancer> loadBalancers(HetznerCloudAPI api, String labelSelector, Duration interval) {
+        return new ResourceInformer<>("load-balancer", labelSelector,
+                () -> api.getAllLoadBalancers(labelSelector, DEFAULT_PARALLELISM),
+                fetchOrNull(id -> api.getLoadBalancer(id).getLoadBalancer()),
+                LoadBalancer::getId, LoadBalancer::getLabels, interval);
+    }
+
+    /**
+     * Create an informer for the firewalls matching a label selector.
+     *
+     * @param api           API instance used for the requests
+     * @param labelSelector Label selector filter (may be null)
+     * @param interval      time between two listings
+     * @return the informer
+     */
+    public static ResourceInformer<Firewall> firewalls(HetznerCloudAPI api, String labelSelector, Duration interval) {
+        return new ResourceInformer<>("firewall", labelSelector,
+                () -> api.getAllFirewalls(labelSelector, DEFAULT_PARALLELISM),
+                fetchOrNull(id -> api.getFirewall(id).getFirewall()),
+                Firewall::getId, Firewall::getLabels, interval);
+    }
+
+    /**
+     * Wrap a fetcher, so resources which do not exist anymore are returned as null.
+     */
+    static <T> LongFunction<T> fetchOrNull(LongFunction<T> fetcher) {
+        return id -> {
+            try {
+                return fetcher.apply(id);
+            } catch (APIRequestException e) {
+                if (e.getApiErrorResponse() != null && e.getApiErrorResponse().getError() != null
+                        && e.getApiErrorResponse().getError().getCode() == APIErrorCode.not_found) {
+                    return null;
+                }
+                throw e;
+            }
+        };
+    }
+
+    /**
+     * Start listing in the background. The first listing is run immediately.
+     */
+    public void start() {
+        scheduler.scheduleWithFixedDelay(() -> {
+            try {
+                refresh();
+            } catch (RuntimeException ignored) {
+                // kept in lastError, the next refresh is scheduled anyway
+            }
+        }, 0, interval.toNanos(), TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Serve previously persisted resources (e.g. from an {@link InventorySnapshot}) until the first refresh.
+     * The first refresh then only reports the changes since the snapshot. Does nothing if the informer has
+     * already been refreshed.
+     *
+     * @param resources resources to be mirrored
+     */
+    public synchronized void restore(Collection<T> resources) {
+        if (hasSynced()) {
+            return;
+        }
+        snapshot = new Snapshot<>(byId(resources), labelsOf);
+    }
+
+    /**
+     * List the resources now and notify the listeners about the changes.
+     *
+     * @throws RuntimeException if the resources could not be listed
+     */
+    public synchronized void refresh() {
+        final List<T> listed;
+        try {
+            listed = lister.get();
+        } catch (RuntimeException e) {
+            lastError = e;
+            throw e;
+        }
+
+        final Map<Long, T> previous = snapshot.resources;
+        final Map<Long, T> current = byId(listed);
+        snapshot = new Snapshot<>(current, labelsOf);
+        lastSync = Instant.now();
+        lastError = null;
+
+        for (T resource : current.values()) {
+            T old = previous.get(idOf.apply(resource));
+            if (old == null) {
+                notifyListeners(listener -> listener.onAdded(resource));
+            } else if (!Objects.equals(old, resource)) {
+                notifyListeners(listener -> listener.onUpdated(old, resource));
+            }
+        }
+        for (T old : previous.values()) {
+            if (!current.containsKey(idOf.apply(old))) {
+                notifyListeners(listener -> listener.onDeleted(old));
+            }
+        }
+    }
+
+    /**
+     * Fetch single resources now and notify the listeners about the changes.
+     * Resources which do not exist anymore or do not match the label selector of the informer anymore are
+     * removed from the mirror.
+     *
+     * @param ids IDs of the resources
+     * @throws RuntimeException if a resource could not be fetched, the resources fetched before are applied
+     */
+    public synchronized void refresh(Collection<Long> ids) {
+        final Map<Long, T> current = new LinkedHashMap<>(snapshot.resources);
+        final List<Consumer<InformerListener<T>>> events = new ArrayList<>();
+        try {
+            for (Long id : ids) {
+                T old = current.get(id);
+                T fetched = selected(fetcher.apply(id));
+                if (fetched == null) {
+                    if (old != null) {
+                        current.remove(id);
+                        events.add(listener -> listener.onDeleted(old));
+                    }
+                } else {
+                    current.put(id, fetched);
+                    if (old == null) {
+                        events.add(listener -> listener.onAdded(fetched));
+                    } else if (!Objects.equals(old, fetched)) {
+                        events.add(listener -> listener.onUpdated(old, fetched));
+                    }
+                }
+            }
+        } finally {
+            snapshot = new Snapshot<>(current, labelsOf);
+            events.forEach(this::notifyListeners);
+        }
+    }
+
+    /**
+     * @param id ID of the resource
+     * @return the resource as seen by the latest refresh
+     */
+    public Optional<T> get(long id) {
+        return Optional.ofNullable(snapshot.resources.get(id));
+    }
+
+    /**
+     * @return all resources as seen by the latest refresh
+     */
+    public List<T> list() {
+        return new ArrayList<>(snapshot.resources.values());
+    }
+
+    /**
+     * Select resources of the mirror by a label selector without a request.
+     *
+     * @param labelSelector label selector, e.g. {@code env=prod,role in (web,worker)}
+     * @return the matching resources as seen by the latest refresh
+     * @throws IllegalArgumentException if the selector is malformed
+     * @see LabelSelector
+     */
+    public List<T> select(String labelSelector) {
+        return snapshot.labelIndex.select(labelSelector);
+    }
+
+    /**
+     * @return the amount of resources
+     */
+    public int size() {
+        return snapshot.resources.size();
+    }
+
+    /**
+     * @return whether the resources have been listed successfully at least once, restored resources do not count
+     */
+    public boolean hasSynced() {
+        return lastSync != null;
+    }
+
+    /**
+     * @return the time of the latest successful listing or null if there has been none
+     */
+    public Instant getLastSync() {
+        return lastSync;
+    }
+
+    /**
+     * @return the error of the latest listing or null if it was successful
+     */
+    public RuntimeException getLastError() {
+        return lastError;
+    }
+
+    /**
+     * Register a listener. It is notified about the changes of all following refreshes, so resources which are
+     * already mirrored are not reported as added.
+     *
+     * @param listener listener to be notified
+     */
+    public void addListener(InformerListener<T> listener) {
+        listeners.add(Objects.requireNonNull(listener));
+    }
+
+    /**
+     * @param listener listener to be removed
+     */
+    public void removeListener(InformerListener<T> listener) {
+        listeners.remove(listener);
+    }
+
+    /**
+     * Stop refreshing. The mirror can still be read.
+     */
+    @Override
+    public void close() {
+        scheduler.shutdownNow();
+    }
+
+    /**
+     * @return the resource or null if it does not match the label selector
+     */
+    private T selected(T resource) {
+        if (resource == null || labelSelector == null || labelSelector.matches(labelsOf.apply(resource))) {
+            return resource;
+        }
+        return null;
+    }
+
+    private Map<Long, T> byId(Collection<T> resources) {
+        final Map<Long, T> byId = new LinkedHashMap<>();
+        for (T resource : resources) {
+            byId.put(idOf.apply(resource), resource);
+        }
+        return byId;
+    }
+
+    private void notifyListeners(Consumer<InformerListener<T>> event) {
+        for (InformerListener<T> listener : listeners) {
+            try {
+                event.accept(listener);
+            } catch (RuntimeException ignored) {
+                // a failing listener must not prevent the others from being notified
+            }
+        }
+    }
+
+    /**
+     * Resources and their label index of one refresh, replaced together so readers always see a consistent state.
+     */
+    private static final class Snapshot<T> {
+
+        private final Map<Long, T> resources;
+        private final LabelIndex<T> labelIndex;
+
+        Snapshot(Map<Long, T> resources, Function<T, Map<String, String>> labelsOf) {
+            this.resources = Collections.unmodifiableMap(resources);
+            this.labelIndex = new LabelIndex<>(resources.values(), labelsOf);
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package me.tomsdevsn.hetznercloud.informer;
+
+import me.tomsdevsn.hetznercloud.HetznerCloudAPI;
+import me.tomsdevsn.hetznercloud.objects.general.Server;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.function.LongFunction;
+import java.util.function.Supplier;
+
+/**
+ * {@link ResourceInformer} for the servers of a project. Pages are fetched concurrently with
+ * {@link HetznerCloudAPI#getAllServers(String, int)}.
+ */
+public class ServerInformer extends ResourceInformer<Server> {
+
+    /**
+     * Create an informer for all servers.
+     *
+     * @param api      API instance used for the requests
+     * @param interval time between two refreshes
+     */
+    public ServerInformer(HetznerCloudAPI api, Duration interval) {
+        this(api, null, interval);
+    }
+
+    /**
+     * Create an informer for the servers matching a label selector.
+     *
+     * @param api           API instance used for the requests
+     * @param labelSelector Label selector filter (may be null)
+     * @param interval      time between two refreshes
+     */
+    public ServerInformer(HetznerCloudAPI api, String labelSelector, Duration interval) {
+        this(labelSelector,
+                () -> api.getAllServers(labelSelector, DEFAULT_PARALLELISM),
+                fetchOrNull(id -> api.getServer(id).getServer()),
+                interval);
+    }
+
+    ServerInformer(String labelSelector, Supplier<List<Server>> lister, LongFunction<Server> fetcher,
+                   Duration interval) {
+        super("server", labelSelector, lister, fetcher, Server::getId, Server::getLabels, interval);
+    }
+}
@@ -0,0 +1,112 @@
+package me.tomsdevsn.hetznercloud.informer;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Optional;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Persists an {@link InventorySnapshot} as gzip compressed JSON in a local file.
+ * <p>
+ * On startup the snapshot is read to serve the mirrored resources immediately (e.g. with
+ * {@link ServerInformer#restore(java.util.Collection)}), while the informers reconcile it with the API in the
+ * background. The file is replaced atomically, so a crash while writing leaves the previous snapshot intact.
+ */
+public class SnapshotStore {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper()
+            .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false)
+            .configure(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS, false)
+            .configure(JsonGenerator.Feature.AUTO_CLOSE_TARGET, false);
+    private static final ObjectReader READER = MAPPER.readerFor(InventorySnapshot.class);
+    private static final ObjectWriter WRITER = MAPPER.writerFor(InventorySnapshot.class);
+
+    private final Path file;
+
+    /**
+     * @param file file the snapshot is stored in
+     */
+    public SnapshotStore(Path file) {
+        this.file = file.toAbsolutePath();
+    }
+
+    /**
+     * Read the stored snapshot.
+     *
+     * @return the snapshot or an empty Optional if none has been written yet
+     * @throws RuntimeException if the file cannot be read or is corrupted
+     */
+    public Optional<InventorySnapshot> read() {
+        try (InputStream inputStream = new GZIPInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+            return Optional.of(READER.readValue(inputStream));
+        } catch (NoSuchFileException e) {
+            return Optional.empty();
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    /**
+     * Replace the stored snapshot.
+     * The snapshot is written to a temporary file in the same directory which is then moved over the old one.
+     *
+     * @param snapshot snapshot to be stored
+     * @throws RuntimeException if the file cannot be written
+     */
+    public void write(InventorySnapshot snapshot) {
+        Path temporary = null;
+        try {
+            Path directory = file.getParent();
+            Files.createDirectories(directory);
+            temporary = Files.createTempFile(directory, file.getFileName().toString(), ".tmp");
+            try (FileChannel channel = FileChannel.open(temporary, StandardOpenOption.WRITE)) {
+                GZIPOutputStream outputStream = new GZIPOutputStream(new BufferedOutputStream(Channels.newOutputStream(channel)));
+                WRITER.writeValue(outputStream, snapshot);
+                outputStream.finish();
+                outputStream.flush();
+                // the data has to be on disk before the rename, otherwise a crash may leave an empty file
+                channel.force(true);
+            }
+            try {
+                Files.move(temporary, file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temporary, file, StandardCopyOption.REPLACE_EXISTING);
+            }
+            temporary = null;
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        } finally {
+            if (temporary != null) {
+                try {
+                    Files.deleteIfExists(temporary);
+                } catch (IOException ignored) {
+                }
+            }
+        }
+    }
+
+    /**
+     * @return the file the snapshot is stored in
+     */
+    public Path getFile() {
+        return file;
+    }
+}
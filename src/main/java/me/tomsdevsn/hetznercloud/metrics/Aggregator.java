@@ -0,0 +1,102 @@
+package me.tomsdevsn.hetznercloud.metrics;
+
+import java.util.Arrays;
+
+/**
+ * Reduces a range of sample values to one value. {@link Double#NaN} values (missing samples) are ignored,
+ * a range without any value results in {@link Double#NaN}.
+ */
+@FunctionalInterface
+public interface Aggregator {
+
+    Aggregator MIN = (values, from, to) -> {
+        double min = Double.NaN;
+        for (int i = from; i < to; i++) {
+            if (!(values[i] >= min) && !Double.isNaN(values[i])) {
+                min = values[i];
+            }
+        }
+        return min;
+    };
+
+    Aggregator MAX = (values, from, to) -> {
+        double max = Double.NaN;
+        for (int i = from; i < to; i++) {
+            if (!(values[i] <= max) && !Double.isNaN(values[i])) {
+                max = values[i];
+            }
+        }
+        return max;
+    };
+
+    Aggregator SUM = (values, from, to) -> {
+        double sum = 0;
+        int count = 0;
+        for (int i = from; i < to; i++) {
+            if (!Double.isNaN(values[i])) {
+                sum += values[i];
+                count++;
+            }
+        }
+        return count == 0 ? Double.NaN : sum;
+    };
+
+    Aggregator AVG = (values, from, to) -> {
+        double sum = 0;
+        int count = 0;
+        for (int i = from; i < to; i++) {
+            if (!Double.isNaN(values[i])) {
+                sum += values[i];
+                count++;
+            }
+        }
+        return count == 0 ? Double.NaN : sum / count;
+    };
+
+    Aggregator LAST = (values, from, to) -> {
+        for (int i = to - 1; i >= from; i--) {
+            if (!Double.isNaN(values[i])) {
+                return values[i];
+            }
+        }
+        return Double.NaN;
+    };
+
+    /**
+     * Percentile with linear interpolation between the closest ranks.
+     *
+     * @param percentile percentile between 0 and 100, e.g. 95
+     * @return the aggregator
+     */
+    static Aggregator percentile(double percentile) {
+        if (percentile < 0 || percentile > 100) {
+            throw new IllegalArgumentException("percentile must be between 0 and 100");
+        }
+        return (values, from, to) -> {
+            double[] sorted = new double[to - from];
+            int count = 0;
+            for (int i = from; i < to; i++) {
+                if (!Double.isNaN(values[i])) {
+                    sorted[count++] = values[i];
+                }
+            }
+            if (count == 0) {
+                return Double.NaN;
+            }
+            Arrays.sort(sorted, 0, count);
+
+            double rank = percentile / 100 * (count - 1);
+            int lower = (int) Math.floor(rank);
+            int upper = Math.min(lower + 1, count - 1);
+            return sorted[lower] + (sorted[upper] - sorted[lower]) * (rank - lower);
+        };
+    }
+
+    /**
+     * @param values sample values
+     * @param from   first index (inclusive)
+     * @param to     last index (exclusive)
+     * @return the aggregated value
+     */
+    double aggregate(double[] values, int from, int to);
+}
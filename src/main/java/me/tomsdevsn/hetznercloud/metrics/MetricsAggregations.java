@@ -0,0 +1,162 @@
+package me.tomsdevsn.hetznercloud.metrics;
+
+import me.tomsdevsn.hetznercloud.objects.general.TimeSeries;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Downsampling and aggregation of {@link TimeSeries}.
+ * <p>
+ * All operations work on the primitive arrays of the series. The operations over many series run in
+ * parallel on the common {@link java.util.concurrent.ForkJoinPool}. Missing samples are {@link Double#NaN}
+ * and are ignored by the {@link Aggregator}s.
+ */
+public final class MetricsAggregations {
+
+    private MetricsAggregations() {
+    }
+
+    /**
+     * Resample a series to a coarser step. Samples are grouped into buckets aligned to multiples of the step,
+     * every bucket from the first to the last sample is part of the result ({@link Double#NaN} if empty).
+     *
+     * @param series     series ordered by timestamp
+     * @param step       step of the result in seconds
+     * @param aggregator reduces the samples of a bucket
+     * @return the resampled series, timestamps being the start of the buckets
+     */
+    public static TimeSeries resample(TimeSeries series, long step, Aggregator aggregator) {
+        if (step < 1) {
+            throw new IllegalArgumentException("step must be at least 1 second");
+        }
+        if (series.size() == 0) {
+            return series;
+        }
+
+        long[] timestamps = series.getTimestamps();
+        double[] values = series.getValues();
+        long first = bucket(timestamps[0], step);
+        int buckets = (int) ((bucket(timestamps[timestamps.length - 1], step) - first) / step) + 1;
+
+        long[] resampledTimestamps = new long[buckets];
+        double[] resampledValues = new double[buckets];
+        int from = 0;
+        for (int i = 0; i < buckets; i++) {
+            long start = first + i * step;
+            int to = from;
+            while (to < timestamps.length && timestamps[to] < start + step) {
+                to++;
+            }
+            resampledTimestamps[i] = start;
+            resampledValues[i] = to > from ? aggregator.aggregate(values, from, to) : Double.NaN;
+            from = to;
+        }
+        return new TimeSeries(resampledTimestamps, resampledValues);
+    }
+
+    /**
+     * Resample many series in parallel.
+     *
+     * @param series     series by key, e.g. server id
+     * @param step       step of the result in seconds
+     * @param aggregator reduces the samples of a bucket
+     * @param <K>        type of the keys
+     * @return the resampled series by key
+     */
+    public static <K> Map<K, TimeSeries> resampleAll(Map<K, TimeSeries> series, long step, Aggregator aggregator) {
+        return series.entrySet().parallelStream()
+                .collect(Collectors.toConcurrentMap(Map.Entry::getKey, entry -> resample(entry.getValue(), step, aggregator)));
+    }
+
+    /**
+     * Aggregate a rolling window over the samples of a series, e.g. a moving average.
+     * The value at index {@code i} aggregates the samples {@code i - window + 1} to {@code i}.
+     *
+     * @param series     series ordered by timestamp
+     * @param window     amount of samples per window
+     * @param aggregator reduces the samples of a window
+     * @return series with the same timestamps
+     */
+    public static TimeSeries rolling(TimeSeries series, int window, Aggregator aggregator) {
+        if (window < 1) {
+            throw new IllegalArgumentException("window must be at least 1");
+        }
+
+        double[] values = series.getValues();
+        double[] rolled = new double[values.length];
+        for (int i = 0; i < values.length; i++) {
+            rolled[i] = aggregator.aggregate(values, Math.max(0, i - window + 1), i + 1);
+        }
+        return new TimeSeries(series.getTimestamps(), rolled);
+    }
+
+    /**
+     * Aggregate many series into one, e.g. the 95th percentile of the cpu usage of a fleet per minute.
+     * Every series is resampled with {@link Aggregator#AVG} to the step first, afterwards the values of all
+     * series in the same bucket are aggregated. Both phases run in parallel.
+     *
+     * @param series     series to aggregate
+     * @param step       step of the result in seconds
+     * @param aggregator reduces the values of all series in a bucket
+     * @return the aggregated series
+     */
+    public static TimeSeries across(List<TimeSeries> series, long step, Aggregator aggregator) {
+        List<TimeSeries> resampled = series.parallelStream()
+                .filter(timeSeries -> timeSeries.size() > 0)
+                .map(timeSeries -> resample(timeSeries, step, Aggregator.AVG))
+                .collect(Collectors.toList());
+        if (resampled.isEmpty()) {
+            return new TimeSeries(new long[0], new double[0]);
+        }
+
+        long first = resampled.stream().mapToLong(timeSeries -> timeSeries.getTimestamp(0)).min().getAsLong();
+        long last = resampled.stream().mapToLong(timeSeries -> timeSeries.getTimestamp(timeSeries.size() - 1)).max().getAsLong();
+        int buckets = (int) ((last - first) / step) + 1;
+
+        long[] timestamps = new long[buckets];
+        double[] values = new double[buckets];
+        IntStream.range(0, buckets).parallel().forEach(i -> {
+            long timestamp = first + i * step;
+            double[] column = new double[resampled.size()];
+            for (int j = 0; j < column.length; j++) {
+                column[j] = valueAt(resampled.get(j), timestamp, step);
+            }
+            timestamps[i] = timestamp;
+            values[i] = aggregator.aggregate(column, 0, column.length);
+        });
+        return new TimeSeries(timestamps, values);
+    }
+
+    /**
+     * Aggregate the samples of every series into one value each, e.g. the maximum per server.
+     *
+     * @param series     series by key, e.g. server id
+     * @param aggregator reduces the samples of a series
+     * @param <K>        type of the keys
+     * @return the aggregated value by key
+     */
+    public static <K> Map<K, Double> summarize(Map<K, TimeSeries> series, Aggregator aggregator) {
+        return series.entrySet().parallelStream()
+                .collect(Collectors.toConcurrentMap(Map.Entry::getKey,
+                        entry -> aggregator.aggregate(entry.getValue().getValues(), 0, entry.getValue().size())));
+    }
+
+    /**
+     * Look up the value of a series resampled by {@link #resample}, whose buckets are contiguous.
+     */
+    private static double valueAt(TimeSeries resampled, long timestamp, long step) {
+        long offset = timestamp - resampled.getTimestamp(0);
+        if (offset < 0 || offset % step != 0) {
+            return Double.NaN;
+        }
+        long index = offset / step;
+        return index < resampled.size() ? resampled.getValue((int) index) : Double.NaN;
+    }
+
+    private static long bucket(long timestamp, long step) {
+        return Math.floorDiv(timestamp, step) * step;
+    }
+}
@@ -0,0 +1,330 @@
+package me.tomsdevsn.hetznercloud.metrics;
+
+import me.tomsdevsn.hetznercloud.HetznerCloudAPI;
+import me.tomsdevsn.hetznercloud.HetznerCloudAsyncAPI;
+import me.tomsdevsn.hetznercloud.objects.general.LoadBalancer;
+import me.tomsdevsn.hetznercloud.objects.general.Server;
+import me.tomsdevsn.hetznercloud.objects.response.TimeSeriesMetricsResponse;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import java.util.function.LongFunction;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+/**
+ * Fetches the metrics of many servers or load balancers concurrently.
+ * <p>
+ * At most {@code parallelism} requests are in flight at once, and all of them are paced by the
+ * {@link me.tomsdevsn.hetznercloud.RateLimiter} of the API instance, so collecting the metrics of a large
+ * fleet does not exhaust the rate limit of the project. Results are handed out as soon as they arrive, in
+ * no particular order. A failed request does not abort the collection, its error is part of the
+ * {@link MetricsResult}.
+ */
+public class MetricsCollector {
+
+    private static final int DEFAULT_PARALLELISM = 8;
+
+    private final HetznerCloudAPI api;
+    private final HetznerCloudAsyncAPI asyncAPI;
+    private final int parallelism;
+
+    /**
+     * Create a collector with 8 concurrent requests.
+     *
+     * @param api API instance used for the requests
+     */
+    public MetricsCollector(HetznerCloudAPI api) {
+        this(api, DEFAULT_PARALLELISM);
+    }
+
+    /**
+     * Create a collector.
+     *
+     * @param api         API instance used for the requests
+     * @param parallelism maximum amount of concurrent requests
+     */
+    public MetricsCollector(HetznerCloudAPI api, int parallelism) {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("parallelism must be at least 1");
+        }
+        this.api = api;
+        this.asyncAPI = new HetznerCloudAsyncAPI(api);
+        this.parallelism = parallelism;
+    }
+
+    /**
+     * Fetch the metrics of the given servers and pass each result to the consumer as soon as it arrives.
+     * The consumer is called from the threads completing the requests, but never concurrently.
+     *
+     * @param serverIds  IDs of the servers
+     * @param metricType like cpu, disk or network (but also cpu,disk possible)
+     * @param start      start of the time window
+     * @param end        end of the time window
+     * @param consumer   receives the result of every server
+     * @return future which completes once all results have been consumed, or fails once the consumer has thrown
+     */
+    public CompletableFuture<Void> collectServers(Collection<Long> serverIds,
+                                                  String metricType,
+                                                  Instant start,
+                                                  Instant end,
+                                                  Consumer<MetricsResult> consumer) {
+        return collect(serverIds, serverFetcher(metricType, start, end), consumer);
+    }
+
+    /**
+     * Fetch the metrics of all servers matching a label selector.
+     * The servers are listed synchronously before the metrics are requested.
+     *
+     * @param labelSelector Label selector filter (may be null for all servers)
+     * @param metricType    like cpu, disk or network (but also cpu,disk possible)
+     * @param start         start of the time window
+     * @param end           end of the time window
+     * @param consumer      receives the result of every server
+     * @return future which completes once all results have been consumed, or fails once the consumer has thrown
+     */
+    public CompletableFuture<Void> collectServers(String labelSelector,
+                                                  String metricType,
+                                                  Instant start,
+                                                  Instant end,
+                                                  Consumer<MetricsResult> consumer) {
+        return collectServers(serverIds(labelSelector), metricType, start, end, consumer);
+    }
+
+    /**
+     * Fetch the metrics of the given servers as a stream of results in the order of their arrival.
+     * Consuming the stream blocks until the next result is available.
+     *
+     * @param serverIds  IDs of the servers
+     * @param metricType like cpu, disk or network (but also cpu,disk possible)
+     * @param start      start of the time window
+     * @param end        end of the time window
+     * @return stream with one result per server
+     */
+    public Stream<MetricsResult> streamServers(Collection<Long> serverIds, String metricType, Instant start, Instant end) {
+        return stream(serverIds, serverFetcher(metricType, start, end));
+    }
+
+    /**
+     * Fetch the metrics of all servers matching a label selector as a stream of results in the order of their
+     * arrival.
+     *
+     * @param labelSelector Label selector filter (may be null for all servers)
+     * @param metricType    like cpu, disk or network (but also cpu,disk possible)
+     * @param start         start of the time window
+     * @param end           end of the time window
+     * @return stream with one result per server
+     */
+    public Stream<MetricsResult> streamServers(String labelSelector, String metricType, Instant start, Instant end) {
+        return streamServers(serverIds(labelSelector), metricType, start, end);
+    }
+
+    /**
+     * Fetch the metrics of the given load balancers and pass each result to the consumer as soon as it arrives.
+     * The consumer is called from the threads completing the requests, but never concurrently.
+     *
+     * @param loadBalancerIds IDs of the load balancers
+     * @param metricType      like open_connections, connections_per_second, requests_per_second or bandwidth
+     * @param start           start of the time window
+     * @param end             end of the time window
+     * @param consumer        receives the result of every load balancer
+     * @return future which completes once all results have been consumed, or fails once the consumer has thrown
+     */
+    public CompletableFuture<Void> collectLoadBalancers(Collection<Long> loadBalancerIds,
+                                                        String metricType,
+                                                        Instant start,
+                                                        Instant end,
+                                                        Consumer<MetricsResult> consumer) {
+        return collect(loadBalancerIds, loadBalancerFetcher(metricType, start, end), consumer);
+    }
+
+    /**
+     * Fetch the metrics of all load balancers matching a label selector.
+     * The load balancers are listed synchronously before the metrics are requested.
+     *
+     * @param labelSelector Label selector filter (may be null for all load balancers)
+     * @param metricType    like open_connections, connections_per_second, requests_per_second or bandwidth
+     * @param start         start of the time window
+     * @param end           end of the time window
+     * @param consumer      receives the result of every load balancer
+     * @return future which completes once all results have been consumed, or fails once the consumer has thrown
+     */
+    public CompletableFuture<Void> collectLoadBalancers(String labelSelector,
+                                                        String metricType,
+                                                        Instant start,
+                                                        Instant end,
+                                                        Consumer<MetricsResult> consumer) {
+        return collectLoadBalancers(loadBalancerIds(labelSelector), metricType, start, end, consumer);
+    }
+
+    /**
+     * Fetch the metrics of the given load balancers as a stream of results in the order of their arrival.
+     * Consuming the stream blocks until the next result is available.
+     *
+     * @param loadBalancerIds IDs of the load balancers
+     * @param metricType      like open_connections, connections_per_second, requests_per_second or bandwidth
+     * @param start           start of the time window
+     * @param end             end of the time window
+     * @return stream with one result per load balancer
+     */
+    public Stream<MetricsResult> streamLoadBalancers(Collection<Long> loadBalancerIds,
+                                                     String metricType,
+                                                     Instant start,
+                                                     Instant end) {
+        return stream(loadBalancerIds, loadBalancerFetcher(metricType, start, end));
+    }
+
+    private LongFunction<CompletableFuture<TimeSeriesMetricsResponse>> serverFetcher(String metricType,
+                                                                                     Instant start,
+                                                                                     Instant end) {
+        String startTime = api.convertToISO8601(start);
+        String endTime = api.convertToISO8601(end);
+        return id -> asyncAPI.getServerTimeSeriesMetrics(id, metricType, startTime, endTime);
+    }
+
+    private LongFunction<CompletableFuture<TimeSeriesMetricsResponse>> loadBalancerFetcher(String metricType,
+                                                                                           Instant start,
+                                                                                           Instant end) {
+        String startTime = api.convertToISO8601(start);
+        String endTime = api.convertToISO8601(end);
+        return id -> asyncAPI.getLoadBalancerTimeSeriesMetrics(id, metricType, startTime, endTime);
+    }
+
+    private List<Long> serverIds(String labelSelector) {
+        return api.getAllServers(labelSelector, parallelism).stream()
+                .map(Server::getId)
+                .collect(Collectors.toList());
+    }
+
+    private List<Long> loadBalancerIds(String labelSelector) {
+        return api.getAllLoadBalancers(labelSelector, parallelism).stream()
+                .map(LoadBalancer::getId)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * If the consumer throws, no further resources are requested and the returned future fails with its exception.
+     */
+    CompletableFuture<Void> collect(Collection<Long> ids,
+                                    LongFunction<CompletableFuture<TimeSeriesMetricsResponse>> fetcher,
+                                    Consumer<MetricsResult> consumer) {
+        List<Long> pending = new ArrayList<>(ids);
+        AtomicInteger next = new AtomicInteger();
+        CompletableFuture<Void> collection = new CompletableFuture<>();
+        // a private lock, the caller may synchronize on the consumer for other purposes
+        Object consumerLock = new Object();
+        Consumer<MetricsResult> serialConsumer = result -> {
+            synchronized (consumerLock) {
+                if (!collection.isDone()) {
+                    consumer.accept(result);
+                }
+            }
+        };
+
+        CompletableFuture<?>[] lanes = new CompletableFuture<?>[Math.min(parallelism, pending.size())];
+        for (int i = 0; i < lanes.length; i++) {
+            lanes[i] = collectRemaining(pending, next, fetcher, serialConsumer, collection);
+        }
+        CompletableFuture.allOf(lanes).whenComplete((ignored, throwable) -> {
+            if (throwable != null) {
+                collection.completeExceptionally(unwrap(throwable));
+            } else {
+                collection.complete(null);
+            }
+        });
+        return collection;
+    }
+
+    /**
+     * Requests the next unclaimed resource and chains the following request once it has completed,
+     * so every lane has exactly one request in flight.
+     */
+    private CompletableFuture<Void> collectRemaining(List<Long> ids,
+                                                     AtomicInteger next,
+                                                     LongFunction<CompletableFuture<TimeSeriesMetricsResponse>> fetcher,
+                                                     Consumer<MetricsResult> consumer,
+                                                     CompletableFuture<Void> collection) {
+        int index = next.getAndIncrement();
+        if (index >= ids.size() || collection.isDone()) {
+            return CompletableFuture.completedFuture(null);
+        }
+
+        long id = ids.get(index);
+        CompletableFuture<TimeSeriesMetricsResponse> request;
+        try {
+            request = fetcher.apply(id);
+        } catch (RuntimeException e) {
+            request = CompletableFuture.failedFuture(e);
+        }
+
+        return request
+                .handle((response, throwable) -> toResult(id, response, throwable))
+                .thenCompose(result -> {
+                    try {
+                        consumer.accept(result);
+                    } catch (RuntimeException e) {
+                        collection.completeExceptionally(e);
+                        return CompletableFuture.completedFuture(null);
+                    }
+                    return collectRemaining(ids, next, fetcher, consumer, collection);
+                });
+    }
+
+    private static MetricsResult toResult(long id, TimeSeriesMetricsResponse response, Throwable throwable) {
+        if (throwable != null) {
+            return new MetricsResult(id, null, unwrap(throwable));
+        }
+        try {
+            return new MetricsResult(id, response.getMetrics(), null);
+        } catch (RuntimeException e) {
+            return new MetricsResult(id, null, e);
+        }
+    }
+
+    /**
+     * Stream the results of a collection. A failed collection is reported by a marker in the queue,
+     * so the stream fails instead of waiting for results which never arrive.
+     */
+    Stream<MetricsResult> stream(Collection<Long> ids,
+                                 LongFunction<CompletableFuture<TimeSeriesMetricsResponse>> fetcher) {
+        BlockingQueue<MetricsResult> results = new LinkedBlockingQueue<>();
+        MetricsResult failed = new MetricsResult(-1, null, null);
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        collect(ids, fetcher, results::add).whenComplete((ignored, throwable) -> {
+            if (throwable != null) {
+                failure.set(unwrap(throwable));
+                results.add(failed);
+            }
+        });
+
+        return IntStream.range(0, ids.size()).mapToObj(i -> {
+            MetricsResult result;
+            try {
+                result = results.take();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new RuntimeException(e);
+            }
+            if (result == failed) {
+                results.add(failed);
+                Throwable cause = failure.get();
+                throw cause instanceof RuntimeException ? (RuntimeException) cause : new RuntimeException(cause);
+            }
+            return result;
+        });
+    }
+
+    private static Throwable unwrap(Throwable throwable) {
+        return throwable instanceof CompletionException && throwable.getCause() != null ? throwable.getCause() : throwable;
+    }
+}
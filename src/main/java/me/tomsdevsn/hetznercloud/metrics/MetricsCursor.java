@@ -0,0 +1,159 @@
+package me.tomsdevsn.hetznercloud.metrics;
+
+import me.tomsdevsn.hetznercloud.HetznerCloudAPI;
+import me.tomsdevsn.hetznercloud.objects.general.TimeSeries;
+import me.tomsdevsn.hetznercloud.objects.general.TimeSeriesMetrics;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiFunction;
+
+/**
+ * Polls the metrics of one server or load balancer incrementally.
+ * <p>
+ * The first poll requests as many samples as the buffers can hold. Every following poll only requests the
+ * samples after the latest one already received, so a frequent scrape loop transfers and parses a handful of
+ * samples instead of the whole window. The window starts after the latest sample of the time series which lags
+ * the most. Samples which the other time series already hold are skipped by their buffers.
+ * <p>
+ * The samples are requested with a fixed step and appended to a {@link TimeSeriesRingBuffer} per time series.
+ * <p>
+ * A cursor is meant to be polled from one thread at a time, the buffers may be read concurrently.
+ */
+public class MetricsCursor {
+
+    private final BiFunction<Instant, Instant, TimeSeriesMetrics> fetcher;
+    private final Clock clock;
+    private final long step;
+    private final int capacity;
+    private final Map<String, TimeSeriesRingBuffer> series = new ConcurrentHashMap<>();
+
+    MetricsCursor(BiFunction<Instant, Instant, TimeSeriesMetrics> fetcher, Clock clock, long step, int capacity) {
+        if (step < 1) {
+            throw new IllegalArgumentException("step must be at least 1 second");
+        }
+        if (capacity < 1) {
+            throw new IllegalArgumentException("capacity must be at least 1");
+        }
+        this.fetcher = fetcher;
+        this.clock = clock;
+        this.step = step;
+        this.capacity = capacity;
+    }
+
+    /**
+     * Create a cursor over the metrics of a server.
+     *
+     * @param api        API instance used for polling
+     * @param serverId   ID of the server
+     * @param metricType like cpu, disk or network (but also cpu,disk possible)
+     * @param step       resolution of the samples in seconds
+     * @param capacity   amount of samples kept per time series
+     * @return the cursor
+     */
+    public static MetricsCursor forServer(HetznerCloudAPI api, long serverId, String metricType, long step, int capacity) {
+        return new MetricsCursor((start, end) -> api.getServerTimeSeriesMetrics(
+                serverId, metricType, api.convertToISO8601(start), api.convertToISO8601(end), step).getMetrics(),
+                Clock.systemUTC(), step, capacity);
+    }
+
+    /**
+     * Create a cursor over the metrics of a load balancer.
+     *
+     * @param api            API instance used for polling
+     * @param loadBalancerId ID of the load balancer
+     * @param metricType     like open_connections, connections_per_second, requests_per_second or bandwidth
+     * @param step           resolution of the samples in seconds
+     * @param capacity       amount of samples kept per time series
+     * @return the cursor
+     */
+    public static MetricsCursor forLoadBalancer(HetznerCloudAPI api, long loadBalancerId, String metricType, long step, int capacity) {
+        return new MetricsCursor((start, end) -> api.getLoadBalancerTimeSeriesMetrics(
+                loadBalancerId, metricType, api.convertToISO8601(start), api.convertToISO8601(end), step).getMetrics(),
+                Clock.systemUTC(), step, capacity);
+    }
+
+    /**
+     * Request the samples since the latest poll and append them to the buffers.
+     * No request is sent if less than one step has passed since the latest sample.
+     *
+     * @return amount of appended samples over all time series
+     */
+    public int poll() {
+        Instant end = clock.instant();
+        long resumeTimestamp = getResumeTimestamp();
+        Instant start = resumeTimestamp < 0
+                ? end.minusSeconds(step * (capacity - 1))
+                : Instant.ofEpochSecond(resumeTimestamp + 1);
+        if (resumeTimestamp >= 0 && end.getEpochSecond() - resumeTimestamp < step) {
+            return 0;
+        }
+
+        TimeSeriesMetrics metrics = fetcher.apply(start, end);
+        if (metrics == null || metrics.getTimeSeries() == null) {
+            return 0;
+        }
+
+        int appended = 0;
+        for (Map.Entry<String, TimeSeries> entry : metrics.getTimeSeries().entrySet()) {
+            TimeSeries timeSeries = entry.getValue();
+            if (timeSeries == null) {
+                continue;
+            }
+            TimeSeriesRingBuffer buffer = series.computeIfAbsent(entry.getKey(), name -> new TimeSeriesRingBuffer(capacity));
+            appended += buffer.appendAll(timeSeries);
+        }
+        return appended;
+    }
+
+    /**
+     * @return the latest timestamp all non-empty time series have reached or -1 if nothing has been received yet
+     */
+    private long getResumeTimestamp() {
+        long resumeTimestamp = -1;
+        for (TimeSeriesRingBuffer buffer : series.values()) {
+            long timestamp = buffer.getLastTimestamp();
+            if (timestamp >= 0 && (resumeTimestamp < 0 || timestamp < resumeTimestamp)) {
+                resumeTimestamp = timestamp;
+            }
+        }
+        return resumeTimestamp;
+    }
+
+    /**
+     * @param name name of the time series, e.g. {@code cpu}
+     * @return the buffer of the time series or null if it has not been received yet
+     */
+    public TimeSeriesRingBuffer getSeries(String name) {
+        return series.get(name);
+    }
+
+    /**
+     * @return names of all received time series
+     */
+    public Set<String> getSeriesNames() {
+        return Collections.unmodifiableSet(series.keySet());
+    }
+
+    /**
+     * @return timestamp of the latest received sample in epoch seconds or -1 if nothing has been received yet
+     */
+    public long getLastTimestamp() {
+        long lastTimestamp = -1;
+        for (TimeSeriesRingBuffer buffer : series.values()) {
+            lastTimestamp = Math.max(lastTimestamp, buffer.getLastTimestamp());
+        }
+        return lastTimestamp;
+    }
+
+    /**
+     * @return resolution of the samples in seconds
+     */
+    public long getStep() {
+        return step;
+    }
+}
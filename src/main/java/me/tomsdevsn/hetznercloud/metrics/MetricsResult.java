@@ -0,0 +1,27 @@
+package me.tomsdevsn.hetznercloud.metrics;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import me.tomsdevsn.hetznercloud.objects.general.TimeSeriesMetrics;
+
+/**
+ * Metrics of one resource fetched by the {@link MetricsCollector}.
+ * Either the metrics or the error of the failed request is set.
+ */
+@Getter
+@AllArgsConstructor
+public class MetricsResult {
+
+    /**
+     * ID of the server or load balancer
+     */
+    private final long id;
+
+    private final TimeSeriesMetrics metrics;
+
+    private final Throwable error;
+
+    public boolean isSuccessful() {
+        return error == null;
+    }
+}
@@ -0,0 +1,132 @@
+package me.tomsdevsn.hetznercloud.metrics;
+
+import me.tomsdevsn.hetznercloud.objects.general.TimeSeries;
+
+/**
+ * Keeps the latest samples of a time series in fixed-size primitive arrays.
+ * <p>
+ * Once the buffer is full, every appended sample replaces the oldest one. Samples are only appended if they
+ * are newer than the latest sample, so overlapping responses can be appended without duplicates.
+ * Indexes passed to the getters are relative to the oldest sample in the buffer.
+ */
+public class TimeSeriesRingBuffer {
+
+    private final long[] timestamps;
+    private final double[] values;
+    private int head;
+    private int size;
+
+    /**
+     * @param capacity maximum amount of samples kept
+     */
+    public TimeSeriesRingBuffer(int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("capacity must be at least 1");
+        }
+        this.timestamps = new long[capacity];
+        this.values = new double[capacity];
+    }
+
+    /**
+     * Append a sample if it is newer than the latest one.
+     *
+     * @param timestamp timestamp of the sample in epoch seconds
+     * @param value     value of the sample
+     * @return whether the sample has been appended
+     */
+    public synchronized boolean append(long timestamp, double value) {
+        if (size > 0 && timestamp <= timestamps[index(size - 1)]) {
+            return false;
+        }
+
+        int index = (head + size) % timestamps.length;
+        timestamps[index] = timestamp;
+        values[index] = value;
+        if (size < timestamps.length) {
+            size++;
+        } else {
+            head = (head + 1) % timestamps.length;
+        }
+        return true;
+    }
+
+    /**
+     * Append all samples of a time series which are newer than the latest one.
+     *
+     * @param timeSeries time series ordered by timestamp
+     * @return amount of appended samples
+     */
+    public synchronized int appendAll(TimeSeries timeSeries) {
+        int appended = 0;
+        for (int i = 0; i < timeSeries.size(); i++) {
+            if (append(timeSeries.getTimestamp(i), timeSeries.getValue(i))) {
+                appended++;
+            }
+        }
+        return appended;
+    }
+
+    /**
+     * @return maximum amount of samples kept
+     */
+    public int capacity() {
+        return timestamps.length;
+    }
+
+    /**
+     * @return amount of samples in the buffer
+     */
+    public synchronized int size() {
+        return size;
+    }
+
+    /**
+     * @param index index of the sample, 0 being the oldest
+     * @return timestamp of the sample in epoch seconds
+     */
+    public synchronized long getTimestamp(int index) {
+        return timestamps[checkedIndex(index)];
+    }
+
+    /**
+     * @param index index of the sample, 0 being the oldest
+     * @return value of the sample
+     */
+    public synchronized double getValue(int index) {
+        return values[checkedIndex(index)];
+    }
+
+    /**
+     * @return timestamp of the latest sample or -1 if the buffer is empty
+     */
+    public synchronized long getLastTimestamp() {
+        return size == 0 ? -1 : timestamps[index(size - 1)];
+    }
+
+    /**
+     * Copy the samples into a time series, ordered from the oldest to the latest.
+     *
+     * @return the time series
+     */
+    public synchronized TimeSeries toTimeSeries() {
+        long[] copiedTimestamps = new long[size];
+        double[] copiedValues = new double[size];
+        int firstPart = Math.min(size, timestamps.length - head);
+        System.arraycopy(timestamps, head, copiedTimestamps, 0, firstPart);
+        System.arraycopy(values, head, copiedValues, 0, firstPart);
+        System.arraycopy(timestamps, 0, copiedTimestamps, firstPart, size - firstPart);
+        System.arraycopy(values, 0, copiedValues, firstPart, size - firstPart);
+        return new TimeSeries(copiedTimestamps, copiedValues);
+    }
+
+    private int checkedIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index " + index + " out of bounds for size " + size);
+        }
+        return index(index);
+    }
+
+    private int index(int index) {
+        return (head + index) % timestamps.length;
+    }
+}
@@ -1,9 +1,11 @@
 package me.tomsdevsn.hetznercloud.objects.general;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import lombok.Data;
 import me.tomsdevsn.hetznercloud.deserialize.DateDeserializer;
 
+import java.time.Instant;
 import java.util.Date;
 import java.util.List;
 
@@ -21,6 +23,22 @@ public class Action {
     private List<Resources> resources;
     private Error error;
 
+    /**
+     * @return {@link #getStarted()} as {@link Instant}
+     */
+    @JsonIgnore
+    public Instant getStartedInstant() {
+        return started != null ? started.toInstant() : null;
+    }
+
+    /**
+     * @return {@link #getFinished()} as {@link Instant}
+     */
+    @JsonIgnore
+    public Instant getFinishedInstant() {
+        return finished != null ? finished.toInstant() : null;
+    }
+
     @Data
     public static class Resources {
         private Long id;
@@ -1,11 +1,13 @@
 package me.tomsdevsn.hetznercloud.objects.general;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import lombok.Data;
 import me.tomsdevsn.hetznercloud.deserialize.DateDeserializer;
 import me.tomsdevsn.hetznercloud.objects.enums.CertificateType;
 
+import java.time.Instant;
 import java.util.Date;
 import java.util.List;
 import java.util.Map;
@@ -32,6 +34,30 @@ public class Certificate {
     private List<CertificateUsers> usedBy;
     private CertificateType type;
 
+    /**
+     * @return {@link #getCreated()} as {@link Instant}
+     */
+    @JsonIgnore
+    public Instant getCreatedInstant() {
+        return created != null ? created.toInstant() : null;
+    }
+
+    /**
+     * @return {@link #getNotValidBefore()} as {@link Instant}
+     */
+    @JsonIgnore
+    public Instant getNotValidBeforeInstant() {
+        return notValidBefore != null ? notValidBefore.toInstant() : null;
+    }
+
+    /**
+     * @return {@link #getNotValidAfter()} as {@link Instant}
+     */
+    @JsonIgnore
+    public Instant getNotValidAfterInstant() {
+        return notValidAfter != null ? notValidAfter.toInstant() : null;
+    }
+
     @Data
     public static class CertificateUsers {
         private Long id;
@@ -1,7 +1,9 @@
 package me.tomsdevsn.hetznercloud.objects.general;
 
+import java.time.Instant;
 import java.util.Date;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 
 import lombok.Data;
@@ -14,4 +16,20 @@ public class Deprecation {
     private Date announced;
     @JsonDeserialize(using = DateDeserializer.class)
     private Date unavailable_after;
+
+    /**
+     * @return {@link #getAnnounced()} as {@link Instant}
+     */
+    @JsonIgnore
+    public Instant getAnnouncedInstant() {
+        return announced != null ? announced.toInstant() : null;
+    }
+
+    /**
+     * @return {@link #getUnavailable_after()} as {@link Instant}
+     */
+    @JsonIgnore
+    public Instant getUnavailableAfterInstant() {
+        return unavailable_after != null ? unavailable_after.toInstant() : null;
+    }
 }
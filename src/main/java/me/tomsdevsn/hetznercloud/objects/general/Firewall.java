@@ -1,5 +1,6 @@
 package me.tomsdevsn.hetznercloud.objects.general;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import lombok.AllArgsConstructor;
@@ -7,6 +8,7 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 import me.tomsdevsn.hetznercloud.deserialize.DateDeserializer;
 
+import java.time.Instant;
 import java.util.Date;
 import java.util.List;
 import java.util.Map;
@@ -26,4 +28,11 @@ public class Firewall {
     @JsonProperty("rules")
     private List<FirewallRule> firewallRules;
 
+    /**
+     * @return {@link #getCreated()} as {@link Instant}
+     */
+    @JsonIgnore
+    public Instant getCreatedInstant() {
+        return created != null ? created.toInstant() : null;
+    }
 }
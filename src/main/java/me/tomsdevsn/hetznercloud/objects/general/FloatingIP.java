@@ -1,11 +1,13 @@
 package me.tomsdevsn.hetznercloud.objects.general;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import lombok.Data;
 import me.tomsdevsn.hetznercloud.deserialize.DateDeserializer;
 import me.tomsdevsn.hetznercloud.objects.enums.IPType;
 
+import java.time.Instant;
 import java.util.Date;
 import java.util.List;
 import java.util.Map;
@@ -28,4 +30,12 @@ public class FloatingIP {
     private Map<String, String> labels;
     @JsonDeserialize(using = DateDeserializer.class)
     private Date created;
+
+    /**
+     * @return {@link #getCreated()} as {@link Instant}
+     */
+    @JsonIgnore
+    public Instant getCreatedInstant() {
+        return created != null ? created.toInstant() : null;
+    }
 }
\ No newline at end of file
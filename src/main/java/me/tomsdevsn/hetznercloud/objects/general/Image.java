@@ -1,8 +1,10 @@
 package me.tomsdevsn.hetznercloud.objects.general;
 
+import java.time.Instant;
 import java.util.Date;
 import java.util.Map;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 
@@ -44,6 +46,30 @@ public class Image {
     private Map<String, String> labels;
     private Architecture architecture;
 
+    /**
+     * @return {@link #getCreated()} as {@link Instant}
+     */
+    @JsonIgnore
+    public Instant getCreatedInstant() {
+        return created != null ? created.toInstant() : null;
+    }
+
+    /**
+     * @return {@link #getDeleted()} as {@link Instant}
+     */
+    @JsonIgnore
+    public Instant getDeletedInstant() {
+        return deleted != null ? deleted.toInstant() : null;
+    }
+
+    /**
+     * @return {@link #getDeprecated()} as {@link Instant}
+     */
+    @JsonIgnore
+    public Instant getDeprecatedInstant() {
+        return deprecated != null ? deprecated.toInstant() : null;
+    }
+
     @Data
     public static class CreatedFrom {
         private Long id;
@@ -1,10 +1,12 @@
 package me.tomsdevsn.hetznercloud.objects.general;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import lombok.Data;
 import me.tomsdevsn.hetznercloud.deserialize.DateDeserializer;
 
+import java.time.Instant;
 import java.util.Date;
 import java.util.List;
 import java.util.Map;
@@ -44,6 +46,14 @@ public class LoadBalancer {
         this.publicIpv6 = (String) ((Map) publicNet.get("ipv6")).get("ip");
     }
 
+    /**
+     * @return {@link #getCreated()} as {@link Instant}
+     */
+    @JsonIgnore
+    public Instant getCreatedInstant() {
+        return created != null ? created.toInstant() : null;
+    }
+
     @Data
     public static class LBPrivateNet {
         private Long network;
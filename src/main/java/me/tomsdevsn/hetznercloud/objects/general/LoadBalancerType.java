@@ -1,11 +1,13 @@
 package me.tomsdevsn.hetznercloud.objects.general;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import lombok.Data;
 import me.tomsdevsn.hetznercloud.deserialize.DateDeserializer;
 import me.tomsdevsn.hetznercloud.objects.pricing.LocationPrice;
 
+import java.time.Instant;
 import java.util.Date;
 import java.util.List;
 
@@ -26,4 +28,12 @@ public class LoadBalancerType {
     @JsonDeserialize(using = DateDeserializer.class)
     private Date deprecated;
     private List<LocationPrice> prices;
+
+    /**
+     * @return {@link #getDeprecated()} as {@link Instant}
+     */
+    @JsonIgnore
+    public Instant getDeprecatedInstant() {
+        return deprecated != null ? deprecated.toInstant() : null;
+    }
 }
\ No newline at end of file
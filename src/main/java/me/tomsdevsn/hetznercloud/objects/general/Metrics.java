@@ -1,5 +1,6 @@
 package me.tomsdevsn.hetznercloud.objects.general;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import com.fasterxml.jackson.databind.annotation.JsonSerialize;
@@ -7,6 +8,7 @@ import lombok.Data;
 import me.tomsdevsn.hetznercloud.deserialize.DateDeserializer;
 import me.tomsdevsn.hetznercloud.serialize.MetricsSerializer;
 
+import java.time.Instant;
 import java.util.Date;
 
 @Data
@@ -20,4 +22,20 @@ public class Metrics {
     @JsonProperty("time_series")
     @JsonSerialize(using = MetricsSerializer.class)
     private Object timeSeries;
+
+    /**
+     * @return {@link #getStart()} as {@link Instant}
+     */
+    @JsonIgnore
+    public Instant getStartInstant() {
+        return start != null ? start.toInstant() : null;
+    }
+
+    /**
+     * @return {@link #getEnd()} as {@link Instant}
+     */
+    @JsonIgnore
+    public Instant getEndInstant() {
+        return end != null ? end.toInstant() : null;
+    }
 }
\ No newline at end of file
@@ -1,5 +1,6 @@
 package me.tomsdevsn.hetznercloud.objects.general;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import lombok.Data;
@@ -7,6 +8,7 @@ import me.tomsdevsn.hetznercloud.deserialize.DateDeserializer;
 import me.tomsdevsn.hetznercloud.objects.enums.IPAssigneeType;
 import me.tomsdevsn.hetznercloud.objects.enums.IPType;
 
+import java.time.Instant;
 import java.util.Date;
 import java.util.List;
 import java.util.Map;
@@ -31,4 +33,12 @@ public class PrimaryIP {
     @JsonProperty("dns_ptr")
     private List<DnsPTR> dnsPtr;
     private Map<String, String> labels;
+
+    /**
+     * @return {@link #getCreated()} as {@link Instant}
+     */
+    @JsonIgnore
+    public Instant getCreatedInstant() {
+        return created != null ? created.toInstant() : null;
+    }
 }
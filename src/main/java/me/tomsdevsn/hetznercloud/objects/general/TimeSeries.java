@@ -0,0 +1,87 @@
+package me.tomsdevsn.hetznercloud.objects.general;
+
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import me.tomsdevsn.hetznercloud.deserialize.TimeSeriesDeserializer;
+
+import java.util.Arrays;
+
+/**
+ * One metrics time series stored as primitive arrays.
+ * <p>
+ * Sample {@code i} was taken at {@code timestamps[i]} (epoch seconds) with the value {@code values[i]}.
+ * Samples without a value are represented as {@link Double#NaN}. The arrays are not copied, so they must
+ * not be modified.
+ */
+@JsonDeserialize(using = TimeSeriesDeserializer.class)
+public class TimeSeries {
+
+    private final long[] timestamps;
+    private final double[] values;
+
+    public TimeSeries(long[] timestamps, double[] values) {
+        if (timestamps.length != values.length) {
+            throw new IllegalArgumentException("timestamps and values must have the same length");
+        }
+        this.timestamps = timestamps;
+        this.values = values;
+    }
+
+    /**
+     * @return amount of samples
+     */
+    public int size() {
+        return timestamps.length;
+    }
+
+    /**
+     * @param index index of the sample
+     * @return timestamp of the sample in epoch seconds
+     */
+    public long getTimestamp(int index) {
+        return timestamps[index];
+    }
+
+    /**
+     * @param index index of the sample
+     * @return value of the sample
+     */
+    public double getValue(int index) {
+        return values[index];
+    }
+
+    /**
+     * @return timestamps of all samples in epoch seconds
+     */
+    public long[] getTimestamps() {
+        return timestamps;
+    }
+
+    /**
+     * @return values of all samples
+     */
+    public double[] getValues() {
+        return values;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof TimeSeries)) {
+            return false;
+        }
+        TimeSeries that = (TimeSeries) o;
+        return Arrays.equals(timestamps, that.timestamps) && Arrays.equals(values, that.values);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * Arrays.hashCode(timestamps) + Arrays.hashCode(values);
+    }
+
+    @Override
+    public String toString() {
+        return "TimeSeries(size=" + size() + ")";
+    }
+}
@@ -0,0 +1,24 @@
+package me.tomsdevsn.hetznercloud.objects.general;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import lombok.Data;
+import me.tomsdevsn.hetznercloud.deserialize.InstantDeserializer;
+
+import java.time.Instant;
+import java.util.Map;
+
+/**
+ * Metrics with typed time series, see {@link Metrics} for the untyped variant.
+ */
+@Data
+public class TimeSeriesMetrics {
+
+    @JsonDeserialize(using = InstantDeserializer.class)
+    private Instant start;
+    @JsonDeserialize(using = InstantDeserializer.class)
+    private Instant end;
+    private Long step;
+    @JsonProperty("time_series")
+    private Map<String, TimeSeries> timeSeries;
+}
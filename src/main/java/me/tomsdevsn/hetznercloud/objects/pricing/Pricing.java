@@ -29,55 +29,55 @@ public class Pricing {
     private Pricing.Volume volume;
 
     @Data
-    private class FloatingIP {
+    public static class FloatingIP {
         @JsonProperty("price_monthly")
         private Price priceMonthly;
     }
 
     @Data
-    private class FloatingIPs {
+    public static class FloatingIPs {
         private IPType type;
         private List<LocationPrice> prices;
     }
 
     @Data
-    private class Image {
+    public static class Image {
         @JsonProperty("price_per_gb_month")
         private Price pricePerGBMonth;
     }
 
     @Data
-    private class LoadBalancerType {
+    public static class LoadBalancerType {
         private Long id;
         private String name;
         private List<LocationPrice> prices;
     }
     @Data
-    private class PrimaryIP {
+    public static class PrimaryIP {
         private IPType type;
         private List<LocationPrice> prices;
     }
 
     @Data
-    private class ServerBackup {
+    public static class ServerBackup {
         private Double percentage;
     }
 
     @Data
-    private class ServerType {
+    public static class ServerType {
         private Long id;
         private String name;
         private List<LocationPrice> prices;
     }
 
     @Data
-    private class Traffic {
+    public static class Traffic {
         @JsonProperty("price_per_tb")
         private Price pricePerTB;
     }
 
     @Data
-    private class Volume {
+    public static class Volume {
         @JsonProperty("price_per_gb_month")
         private Price pricePerGBMonth;
     }
@@ -2,6 +2,7 @@ package me.tomsdevsn.hetznercloud.objects.response;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
 import lombok.Data;
+import me.tomsdevsn.hetznercloud.objects.general.Meta;
 import me.tomsdevsn.hetznercloud.objects.general.ServerType;
 
 import java.util.List;
@@ -11,5 +12,6 @@ public class ServerTypesResponse {
 
     @JsonProperty("server_types")
     private List<ServerType> serverTypes;
+    private Meta meta;
 
 }
\ No newline at end of file
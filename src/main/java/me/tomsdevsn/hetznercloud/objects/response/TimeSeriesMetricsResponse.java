@@ -0,0 +1,11 @@
+package me.tomsdevsn.hetznercloud.objects.response;
+
+import lombok.Data;
+import me.tomsdevsn.hetznercloud.objects.general.TimeSeriesMetrics;
+
+@Data
+public class TimeSeriesMetricsResponse {
+
+    private TimeSeriesMetrics metrics;
+
+}
@@ -0,0 +1,33 @@
+package me.tomsdevsn.hetznercloud.transport;
+
+import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Sends the HTTP requests of the API client.
+ * <p>
+ * Implementations only move bytes, authentication, serialization, rate limiting and retries are handled by
+ * {@link me.tomsdevsn.hetznercloud.HetznerCloudAPI}. The library ships {@link OkHttpTransport} (the default)
+ * and {@link JdkHttpTransport}, other implementations can be used e.g. as stand-ins in tests.
+ */
+public interface HttpTransport {
+
+    /**
+     * Send a request and block until the response headers have been received.
+     *
+     * @param request the request
+     * @return the response, which has to be closed by the caller
+     * @throws IOException if the request could not be sent or no response has been received
+     */
+    TransportResponse execute(TransportRequest request) throws IOException;
+
+    /**
+     * Send a request without blocking the calling thread.
+     * Transport errors are reported by completing the future exceptionally with an {@link IOException}.
+     * Cancelling the future should cancel the request if the transport supports it.
+     *
+     * @param request the request
+     * @return future of the response, which has to be closed by the caller
+     */
+    CompletableFuture<TransportResponse> executeAsync(TransportRequest request);
+}
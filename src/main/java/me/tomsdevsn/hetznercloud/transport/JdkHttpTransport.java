@@ -0,0 +1,195 @@
+package me.tomsdevsn.hetznercloud.transport;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.net.MalformedURLException;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+/**
+ * {@link HttpTransport} backed by the {@link HttpClient} of the JDK, which supports HTTP/2 and does not need
+ * any additional dependency.
+ * <p>
+ * Requests fail with a {@link java.net.http.HttpTimeoutException} if no response has been received within the
+ * request timeout (30 seconds by default), so a stalled connection does not block the caller forever.
+ */
+public class JdkHttpTransport implements HttpTransport {
+
+    private static final Duration DEFAULT_CONNECT_TIMEOUT = Duration.ofSeconds(10);
+    private static final Duration DEFAULT_REQUEST_TIMEOUT = Duration.ofSeconds(30);
+    private static final char[] HEX = "0123456789ABCDEF".toCharArray();
+    /**
+     * Characters which may appear unescaped in the path and query of a URI
+     */
+    private static final String ALLOWED = "abcdefghijklmnopqrstuvwxyzABCDEFGHIJKLMNOPQRSTUVWXYZ0123456789"
+            + "-._~!$&'()*+,;=:@/?";
+
+    private final HttpClient client;
+    private final Duration requestTimeout;
+
+    public JdkHttpTransport() {
+        this(HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_2)
+                .connectTimeout(DEFAULT_CONNECT_TIMEOUT)
+                .build());
+    }
+
+    public JdkHttpTransport(HttpClient client) {
+        this(client, DEFAULT_REQUEST_TIMEOUT);
+    }
+
+    /**
+     * @param client         HttpClient instance to be used
+     * @param requestTimeout maximum time to wait for the response headers of a request
+     */
+    public JdkHttpTransport(HttpClient client, Duration requestTimeout) {
+        if (requestTimeout.isNegative() || requestTimeout.isZero()) {
+            throw new IllegalArgumentException("requestTimeout has to be positive");
+        }
+        this.client = client;
+        this.requestTimeout = requestTimeout;
+    }
+
+    public HttpClient getClient() {
+        return client;
+    }
+
+    public Duration getRequestTimeout() {
+        return requestTimeout;
+    }
+
+    @Override
+    public TransportResponse execute(TransportRequest request) throws IOException {
+        try {
+            return new JdkResponse(client.send(toHttpRequest(request), HttpResponse.BodyHandlers.ofInputStream()));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            InterruptedIOException exception = new InterruptedIOException("request has been interrupted");
+            exception.initCause(e);
+            throw exception;
+        }
+    }
+
+    @Override
+    public CompletableFuture<TransportResponse> executeAsync(TransportRequest request) {
+        final HttpRequest httpRequest;
+        try {
+            httpRequest = toHttpRequest(request);
+        } catch (IOException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+        final CompletableFuture<TransportResponse> future = new CompletableFuture<>();
+        final CompletableFuture<HttpResponse<InputStream>> exchange =
+                client.sendAsync(httpRequest, HttpResponse.BodyHandlers.ofInputStream());
+
+        future.whenComplete((response, throwable) -> {
+            if (future.isCancelled()) {
+                exchange.cancel(true);
+            }
+        });
+
+        exchange.whenComplete((response, throwable) -> {
+            if (throwable != null) {
+                future.completeExceptionally(throwable instanceof CompletionException && throwable.getCause() != null
+                        ? throwable.getCause() : throwable);
+            } else if (!future.complete(new JdkResponse(response))) {
+                // nobody reads the body of a cancelled request, so the connection has to be released here
+                closeQuietly(response.body());
+            }
+        });
+        return future;
+    }
+
+    private static void closeQuietly(InputStream body) {
+        try {
+            body.close();
+        } catch (IOException ignored) {
+            // the connection is discarded anyway
+        }
+    }
+
+    private HttpRequest toHttpRequest(TransportRequest request) throws IOException {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(toUri(request.getUrl()))
+                .timeout(requestTimeout)
+                .method(request.getMethod(), request.getBody() != null
+                        ? HttpRequest.BodyPublishers.ofByteArray(request.getBody())
+                        : HttpRequest.BodyPublishers.noBody());
+        request.getHeaders().forEach(builder::header);
+        return builder.build();
+    }
+
+    /**
+     * Unlike OkHttp, the JDK client does not accept characters which have to be escaped (e.g. spaces in a
+     * label selector), so they are escaped in the path and query. Escape sequences of already encoded URLs
+     * are kept as they are.
+     */
+    private static URI toUri(String url) throws IOException {
+        try {
+            URL parsed = new URL(url);
+            StringBuilder uri = new StringBuilder(url.length() + 16)
+                    .append(parsed.getProtocol()).append("://").append(parsed.getAuthority());
+            escape(parsed.getPath(), uri);
+            if (parsed.getQuery() != null) {
+                escape(parsed.getQuery(), uri.append('?'));
+            }
+            return new URI(uri.toString());
+        } catch (MalformedURLException | URISyntaxException e) {
+            throw new IOException("Invalid URL " + url, e);
+        }
+    }
+
+    private static void escape(String component, StringBuilder target) {
+        byte[] bytes = component.getBytes(StandardCharsets.UTF_8);
+        for (int i = 0; i < bytes.length; i++) {
+            int c = bytes[i] & 0xff;
+            boolean escaped = c == '%' && i + 2 < bytes.length && isHex(bytes[i + 1]) && isHex(bytes[i + 2]);
+            if (escaped || (c != '%' && c < 0x80 && ALLOWED.indexOf(c) >= 0)) {
+                target.append((char) c);
+            } else {
+                target.append('%').append(HEX[c >> 4]).append(HEX[c & 0xf]);
+            }
+        }
+    }
+
+    private static boolean isHex(byte b) {
+        return (b >= '0' && b <= '9') || (b >= 'a' && b <= 'f') || (b >= 'A' && b <= 'F');
+    }
+
+    private static class JdkResponse implements TransportResponse {
+
+        private final HttpResponse<InputStream> response;
+
+        JdkResponse(HttpResponse<InputStream> response) {
+            this.response = response;
+        }
+
+        @Override
+        public int code() {
+            return response.statusCode();
+        }
+
+        @Override
+        public String header(String name) {
+            return response.headers().firstValue(name).orElse(null);
+        }
+
+        @Override
+        public InputStream body() {
+            return response.body();
+        }
+
+        @Override
+        public void close() throws IOException {
+            response.body().close();
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package me.tomsdevsn.hetznercloud.transport;
+
+import okhttp3.Call;
+import okhttp3.Callback;
+import okhttp3.OkHttpClient;
+import okhttp3.Request;
+import okhttp3.RequestBody;
+import okhttp3.Response;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * {@link HttpTransport} backed by an {@link OkHttpClient}.
+ * Asynchronous requests are enqueued on the dispatcher of the client.
+ */
+public class OkHttpTransport implements HttpTransport {
+
+    private final OkHttpClient client;
+
+    public OkHttpTransport() {
+        this(new OkHttpClient());
+    }
+
+    public OkHttpTransport(OkHttpClient client) {
+        this.client = client;
+    }
+
+    public OkHttpClient getClient() {
+        return client;
+    }
+
+    @Override
+    public TransportResponse execute(TransportRequest request) throws IOException {
+        return new OkHttpResponse(newCall(request).execute());
+    }
+
+    @Override
+    public CompletableFuture<TransportResponse> executeAsync(TransportRequest request) {
+        final CompletableFuture<TransportResponse> future = new CompletableFuture<>();
+        final Call call = newCall(request);
+
+        future.whenComplete((response, throwable) -> {
+            if (future.isCancelled()) {
+                call.cancel();
+            }
+        });
+
+        call.enqueue(new Callback() {
+            @Override
+            public void onFailure(Call call, IOException e) {
+                future.completeExceptionally(e);
+            }
+
+            @Override
+            public void onResponse(Call call, Response response) {
+                if (!future.complete(new OkHttpResponse(response))) {
+                    response.close();
+                }
+            }
+        });
+        return future;
+    }
+
+    private Call newCall(TransportRequest request) {
+        Request.Builder builder = new Request.Builder().url(request.getUrl());
+        request.getHeaders().forEach(builder::addHeader);
+        // the content type is passed as header of the request
+        RequestBody requestBody = request.getBody() != null ? RequestBody.create(request.getBody(), null) : null;
+        return client.newCall(builder.method(request.getMethod(), requestBody).build());
+    }
+
+    private static class OkHttpResponse implements TransportResponse {
+
+        private final Response response;
+
+        OkHttpResponse(Response response) {
+            this.response = response;
+        }
+
+        @Override
+        public int code() {
+            return response.code();
+        }
+
+        @Override
+        public String header(String name) {
+            return response.header(name);
+        }
+
+        @Override
+        public InputStream body() {
+            return response.body().byteStream();
+        }
+
+        @Override
+        public String string() throws IOException {
+            return response.body().string();
+        }
+
+        @Override
+        public void close() {
+            response.close();
+        }
+    }
+}
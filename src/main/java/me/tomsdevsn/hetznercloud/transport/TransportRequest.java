@@ -0,0 +1,30 @@
+package me.tomsdevsn.hetznercloud.transport;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.Singular;
+
+import java.util.Map;
+
+/**
+ * HTTP request sent by a {@link HttpTransport}.
+ */
+@Getter
+@Builder
+public class TransportRequest {
+
+    /**
+     * HTTP method, e.g. {@code GET}
+     */
+    private final String method;
+
+    private final String url;
+
+    @Singular
+    private final Map<String, String> headers;
+
+    /**
+     * Request body or null if the request has none
+     */
+    private final byte[] body;
+}
@@ -0,0 +1,48 @@
+package me.tomsdevsn.hetznercloud.transport;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * HTTP response received by a {@link HttpTransport}. The body is streamed, so the response has to be closed.
+ */
+public interface TransportResponse extends Closeable {
+
+    /**
+     * @return HTTP status code
+     */
+    int code();
+
+    /**
+     * @param name name of the header (case-insensitive)
+     * @return the first value of the header or null if it is missing
+     */
+    String header(String name);
+
+    /**
+     * @return stream of the response body
+     * @throws IOException if the body cannot be read
+     */
+    InputStream body() throws IOException;
+
+    /**
+     * @return whether the status code is in the range 200 to 299
+     */
+    default boolean isSuccessful() {
+        return code() >= 200 && code() < 300;
+    }
+
+    /**
+     * Read the whole response body.
+     *
+     * @return the body decoded as UTF-8
+     * @throws IOException if the body cannot be read
+     */
+    default String string() throws IOException {
+        try (InputStream inputStream = body()) {
+            return new String(inputStream.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package me.tomsdevsn.hetznercloud;
+
+import me.tomsdevsn.hetznercloud.exception.ActionFailedException;
+import me.tomsdevsn.hetznercloud.objects.general.Action;
+import me.tomsdevsn.hetznercloud.objects.response.ActionsResponse;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+public class ActionWaiterTest {
+
+    @Test
+    void testPollsPendingActionsTogether() throws Exception {
+        var requests = new CopyOnWriteArrayList<List<Long>>();
+        try (var waiter = new ActionWaiter(ids -> {
+            requests.add(new ArrayList<>(ids));
+            return CompletableFuture.completedFuture(response(ids, "success"));
+        }, Duration.ofMillis(20), Duration.ofMillis(100))) {
+            var futures = LongStream.rangeClosed(1, 60)
+                    .mapToObj(waiter::waitFor)
+                    .collect(Collectors.toList());
+
+            for (var future : futures) {
+                assertThat(future.get(5, TimeUnit.SECONDS).getStatus()).isEqualTo("success");
+            }
+        }
+
+        // 60 ids are split into batches of at most 50
+        assertThat(requests).hasSize(2);
+        assertThat(requests.get(0).size() + requests.get(1).size()).isEqualTo(60);
+    }
+
+    @Test
+    void testFailedActionCompletesExceptionally() {
+        try (var waiter = new ActionWaiter(ids -> CompletableFuture.completedFuture(response(ids, "error")),
+                Duration.ofMillis(1), Duration.ofMillis(10))) {
+            var exception = Assertions.assertThrows(ExecutionException.class,
+                    () -> waiter.waitFor(42L).get(5, TimeUnit.SECONDS));
+
+            assertThat(exception.getCause()).isInstanceOf(ActionFailedException.class);
+            assertThat(((ActionFailedException) exception.getCause()).getAction().getId()).isEqualTo(42L);
+        }
+    }
+
+    @Test
+    void testFinishedActionDoesNotPoll() throws Exception {
+        try (var waiter = new ActionWaiter(ids -> {
+            throw new IllegalStateException("must not poll");
+        }, Duration.ofMillis(1), Duration.ofMillis(10))) {
+            var action = action(1L, "success");
+
+            assertThat(waiter.waitFor(action).get()).isSameAs(action);
+        }
+    }
+
+    private ActionsResponse response(Collection<Long> ids, String status) {
+        var response = new ActionsResponse();
+        response.setActions(ids.stream().map(id -> action(id, status)).collect(Collectors.toList()));
+        return response;
+    }
+
+    private Action action(long id, String status) {
+        var action = new Action();
+        action.setId(id);
+        action.setStatus(status);
+        action.setProgress(100L);
+        return action;
+    }
+}
@@ -0,0 +1,40 @@
+package me.tomsdevsn.hetznercloud;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+public class ApiUrlsTest {
+
+    @Test
+    void testActionsByIdRequiresIds() {
+        var transport = new StubTransport();
+        var api = new HetznerCloudAPI("token", transport);
+
+        Assertions.assertThrows(IllegalArgumentException.class, () -> api.getActions(List.of()));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> new HetznerCloudAsyncAPI(api).getActions(List.of()));
+        assertThat(transport.requests).isEmpty();
+    }
+
+    @Test
+    void testActionsByIdRejectsMoreThanOnePage() {
+        var transport = new StubTransport();
+        var api = new HetznerCloudAPI("token", transport);
+        List<Long> ids = LongStream.rangeClosed(1, 51).boxed().collect(Collectors.toList());
+
+        Assertions.assertThrows(IllegalArgumentException.class, () -> api.getActions(ids));
+        assertThat(transport.requests).isEmpty();
+
+        transport.respond(200, "{\"actions\":[]}");
+        api.getActions(ids.subList(0, 50));
+        assertThat(transport.requests).hasSize(1);
+        assertThat(transport.requests.get(0).getUrl()).contains("id=50").contains("per_page=50");
+    }
+}
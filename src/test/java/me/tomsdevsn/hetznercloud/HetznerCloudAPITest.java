@@ -35,6 +35,7 @@ import java.security.KeyPair;
 import java.security.KeyPairGenerator;
 import java.security.PublicKey;
 import java.security.cert.X509Certificate;
+import java.time.Instant;
 import java.time.LocalDateTime;
 import java.util.*;
 
@@ -358,6 +359,16 @@ public class HetznerCloudAPITest {
         var loadBalancer = hetznerCloudAPI.getLoadBalancer(createdLoadbalancer.getLoadBalancer().getId());
         assertNotNull(loadBalancer.getLoadBalancer());
         assertThat(loadBalancer.getLoadBalancer().getName()).isEqualTo(keyId);
+
+        // get loadbalancer metrics
+        var end = Instant.now();
+        var metrics = hetznerCloudAPI.getLoadBalancerTimeSeriesMetrics(
+                loadBalancer.getLoadBalancer().getId(),
+                "open_connections,bandwidth",
+                hetznerCloudAPI.convertToISO8601(end.minusSeconds(3600)),
+                hetznerCloudAPI.convertToISO8601(end));
+        assertNotNull(metrics.getMetrics());
+        assertThat(metrics.getMetrics().getTimeSeries()).containsKey("open_connections");
     }
 
     @Test
@@ -431,6 +442,17 @@ public class HetznerCloudAPITest {
         assertThat(notDeprecatedServerType.getServerType().getDeprecation()).isNull();
     }
 
+    @Test
+    void testAsyncCatalogRequests() {
+        var asyncAPI = new HetznerCloudAsyncAPI(hetznerCloudAPI);
+
+        var serverTypes = asyncAPI.getServerTypes();
+        var locations = asyncAPI.getLocations();
+
+        assertThat(serverTypes.join().getServerTypes()).isNotEmpty();
+        assertThat(locations.join().getLocations()).isNotEmpty();
+    }
+
     private Subnet getDefaultSubnet() {
         var subnet = new Subnet();
         subnet.setType(SubnetType.cloud);
@@ -0,0 +1,58 @@
+package me.tomsdevsn.hetznercloud;
+
+import me.tomsdevsn.hetznercloud.exception.APIRequestException;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+public class HttpTransportTest {
+
+    private static final String ACTIONS = "{\"actions\":[{\"id\":1,\"command\":\"start_server\",\"status\":\"success\",\"progress\":100}]}";
+    private static final String UNAVAILABLE = "{\"error\":{\"code\":\"unavailable\",\"message\":\"unavailable\"}}";
+    private static final String NOT_FOUND = "{\"error\":{\"code\":\"not_found\",\"message\":\"not found\"}}";
+
+    @Test
+    void testRequestIsSentThroughTransport() {
+        var transport = new StubTransport().respond(200, ACTIONS);
+        var api = new HetznerCloudAPI("token", transport);
+
+        var response = api.getActions(List.of(1L, 2L));
+
+        assertThat(response.getActions()).hasSize(1);
+        assertThat(transport.requests).hasSize(1);
+        var request = transport.requests.get(0);
+        assertThat(request.getMethod()).isEqualTo("GET");
+        assertThat(request.getUrl()).contains("/actions?").contains("id=1").contains("id=2");
+        assertThat(request.getHeaders().get("Authorization")).isEqualTo("Bearer token");
+        assertThat(request.getBody()).isNull();
+    }
+
+    @Test
+    void testErrorResponseIsRetried() {
+        var transport = new StubTransport().respond(503, UNAVAILABLE).respond(200, ACTIONS);
+        var api = new HetznerCloudAPI("token", transport);
+        api.setRetryPolicy(RetryPolicy.builder().baseDelay(Duration.ofMillis(1)).build());
+
+        assertThat(api.getActions(List.of(1L)).getActions()).hasSize(1);
+        assertThat(transport.requests).hasSize(2);
+    }
+
+    @Test
+    void testErrorResponseIsReportedAsynchronously() throws Exception {
+        var transport = new StubTransport().respond(404, NOT_FOUND);
+        var api = new HetznerCloudAPI("token", transport);
+
+        var future = new HetznerCloudAsyncAPI(api).getActions(List.of(1L));
+        var exception = Assertions.assertThrows(Exception.class, () -> future.get(5, TimeUnit.SECONDS));
+
+        assertThat(exception.getCause()).isInstanceOf(APIRequestException.class);
+        assertThat(transport.getAsyncRequests()).isEqualTo(1);
+    }
+}
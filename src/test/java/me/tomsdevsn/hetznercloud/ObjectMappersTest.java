@@ -0,0 +1,26 @@
+package me.tomsdevsn.hetznercloud;
+
+import me.tomsdevsn.hetznercloud.objects.response.ActionResponse;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+public class ObjectMappersTest {
+
+    @Test
+    void testReadersAndWritersAreCached() {
+        assertThat(ObjectMappers.reader(ActionResponse.class)).isSameAs(ObjectMappers.reader(ActionResponse.class));
+        assertThat(ObjectMappers.writer(ActionResponse.class)).isSameAs(ObjectMappers.writer(ActionResponse.class));
+    }
+
+    @Test
+    void testIgnoresUnknownProperties() throws Exception {
+        ActionResponse response = ObjectMappers.reader(ActionResponse.class)
+                .readValue("{\"action\":{\"id\":13,\"status\":\"running\",\"unknown\":true},\"unknown\":{}}");
+
+        assertThat(response.getAction().getId()).isEqualTo(13L);
+        assertThat(response.getAction().getStatus()).isEqualTo("running");
+    }
+}
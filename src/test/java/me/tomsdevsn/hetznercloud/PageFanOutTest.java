@@ -0,0 +1,111 @@
+package me.tomsdevsn.hetznercloud;
+
+import me.tomsdevsn.hetznercloud.objects.general.Meta;
+import me.tomsdevsn.hetznercloud.objects.general.Server;
+import me.tomsdevsn.hetznercloud.objects.response.ServersResponse;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+public class PageFanOutTest {
+
+    @Test
+    void testMergesPagesInOrder() {
+        // later pages complete first
+        var fanOut = new PageFanOut<>(
+                paginationParameters -> page(paginationParameters.page, 5),
+                paginationParameters -> CompletableFuture.supplyAsync(
+                        () -> page(paginationParameters.page, 5),
+                        CompletableFuture.delayedExecutor(50L - paginationParameters.page * 10L, TimeUnit.MILLISECONDS)),
+                ServersResponse::getServers,
+                ServersResponse::getMeta);
+
+        List<Long> ids = fanOut.fetchAll(4).stream().map(Server::getId).collect(Collectors.toList());
+
+        assertThat(ids).containsExactly(1L, 2L, 3L, 4L, 5L, 6L, 7L, 8L, 9L, 10L);
+    }
+
+    @Test
+    void testBoundsConcurrentRequests() {
+        var inFlight = new AtomicInteger();
+        var maxInFlight = new AtomicInteger();
+
+        var fanOut = new PageFanOut<>(
+                paginationParameters -> page(paginationParameters.page, 20),
+                paginationParameters -> {
+                    maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+                    return CompletableFuture.supplyAsync(() -> {
+                        inFlight.decrementAndGet();
+                        return page(paginationParameters.page, 20);
+                    }, CompletableFuture.delayedExecutor(5, TimeUnit.MILLISECONDS));
+                },
+                ServersResponse::getServers,
+                ServersResponse::getMeta);
+
+        assertThat(fanOut.fetchAll(3)).hasSize(40);
+        assertThat(maxInFlight.get()).isLessThanOrEqualTo(3);
+    }
+
+    @Test
+    void testPropagatesFailures() {
+        var fanOut = new PageFanOut<>(
+                paginationParameters -> page(paginationParameters.page, 3),
+                paginationParameters -> CompletableFuture.<ServersResponse>failedFuture(new IllegalStateException("page failed")),
+                ServersResponse::getServers,
+                ServersResponse::getMeta);
+
+        Assertions.assertThrows(IllegalStateException.class, () -> fanOut.fetchAll(2));
+    }
+
+    @Test
+    void testCancelsOutstandingPagesOnFailure() {
+        var outstanding = new CompletableFuture<ServersResponse>();
+        var fanOut = new PageFanOut<>(
+                paginationParameters -> page(paginationParameters.page, 3),
+                paginationParameters -> paginationParameters.page == 2
+                        ? CompletableFuture.<ServersResponse>supplyAsync(() -> {
+                            throw new IllegalStateException("page failed");
+                        }, CompletableFuture.delayedExecutor(20, TimeUnit.MILLISECONDS))
+                        : outstanding,
+                ServersResponse::getServers,
+                ServersResponse::getMeta);
+
+        // the outstanding page never completes, so the failure must not wait for it
+        Assertions.assertTimeoutPreemptively(Duration.ofSeconds(5),
+                () -> Assertions.assertThrows(IllegalStateException.class, () -> fanOut.fetchAll(2)));
+        assertThat(outstanding).isCancelled();
+    }
+
+    private ServersResponse page(long page, long lastPage) {
+        var pagination = new Meta.Pagination();
+        pagination.setPage(page);
+        pagination.setLastPage(lastPage);
+        pagination.setTotalEntries(lastPage * 2);
+        pagination.setNextPage(page < lastPage ? page + 1 : null);
+
+        var meta = new Meta();
+        meta.setPagination(pagination);
+
+        var response = new ServersResponse();
+        response.setMeta(meta);
+        response.setServers(LongStream.of(page * 2 - 1, page * 2)
+                .mapToObj(id -> {
+                    var server = new Server();
+                    server.setId(id);
+                    return server;
+                })
+                .collect(Collectors.toList()));
+        return response;
+    }
+}
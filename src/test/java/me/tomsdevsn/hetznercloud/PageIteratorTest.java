@@ -0,0 +1,104 @@
+package me.tomsdevsn.hetznercloud;
+
+import me.tomsdevsn.hetznercloud.objects.general.Meta;
+import me.tomsdevsn.hetznercloud.objects.general.Server;
+import me.tomsdevsn.hetznercloud.objects.general.ServerType;
+import me.tomsdevsn.hetznercloud.objects.response.ServersResponse;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+public class PageIteratorTest {
+
+    @Test
+    void testStreamsAllPages() {
+        List<Integer> requestedPages = new ArrayList<>();
+
+        var ids = PageIterator.stream(
+                        paginationParameters -> {
+                            requestedPages.add(paginationParameters.page);
+                            return page(paginationParameters.page, 3);
+                        },
+                        ServersResponse::getServers,
+                        ServersResponse::getMeta)
+                .map(Server::getId)
+                .collect(Collectors.toList());
+
+        assertThat(ids).containsExactly(1L, 2L, 3L, 4L, 5L, 6L);
+        assertThat(requestedPages).containsExactly(1, 2, 3);
+    }
+
+    @Test
+    void testFetchesPagesLazily() {
+        List<Integer> requestedPages = new ArrayList<>();
+
+        var first = PageIterator.stream(
+                        paginationParameters -> {
+                            requestedPages.add(paginationParameters.page);
+                            return page(paginationParameters.page, 3);
+                        },
+                        ServersResponse::getServers,
+                        ServersResponse::getMeta)
+                .findFirst();
+
+        assertThat(first).isPresent();
+        assertThat(requestedPages).containsExactly(1);
+    }
+
+    @Test
+    void testMissingMetaStopsAfterFirstPage() {
+        var response = page(1, 3);
+        response.setMeta(null);
+
+        var count = PageIterator.stream(
+                        paginationParameters -> response,
+                        ServersResponse::getServers,
+                        ServersResponse::getMeta)
+                .count();
+
+        assertThat(count).isEqualTo(2);
+    }
+
+    @Test
+    void testStreamServerTypesFollowsPages() {
+        var transport = new StubTransport()
+                .respond(200, "{\"server_types\":[{\"id\":1,\"name\":\"cx22\"}],"
+                        + "\"meta\":{\"pagination\":{\"page\":1,\"next_page\":2,\"last_page\":2}}}")
+                .respond(200, "{\"server_types\":[{\"id\":2,\"name\":\"cx32\"}],"
+                        + "\"meta\":{\"pagination\":{\"page\":2,\"next_page\":null,\"last_page\":2}}}");
+        var api = new HetznerCloudAPI("token", transport);
+
+        var names = api.streamServerTypes().map(ServerType::getName).collect(Collectors.toList());
+
+        assertThat(names).containsExactly("cx22", "cx32");
+        assertThat(transport.requests.get(1).getUrl()).contains("page=2").contains("per_page=50");
+    }
+
+    private ServersResponse page(long page, long lastPage) {
+        var pagination = new Meta.Pagination();
+        pagination.setPage(page);
+        pagination.setLastPage(lastPage);
+        pagination.setNextPage(page < lastPage ? page + 1 : null);
+
+        var meta = new Meta();
+        meta.setPagination(pagination);
+
+        var response = new ServersResponse();
+        response.setMeta(meta);
+        response.setServers(LongStream.of(page * 2 - 1, page * 2)
+                .mapToObj(id -> {
+                    var server = new Server();
+                    server.setId(id);
+                    return server;
+                })
+                .collect(Collectors.toList()));
+        return response;
+    }
+}
@@ -0,0 +1,120 @@
+package me.tomsdevsn.hetznercloud;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+public class RateLimiterTest {
+
+    @Test
+    void testUnknownLimitDoesNotDelay() {
+        var rateLimiter = new RateLimiter();
+
+        assertThat(rateLimiter.reserve()).isEqualTo(0L);
+        assertThat(rateLimiter.getRemaining()).isEqualTo(-1L);
+        assertThat(rateLimiter.getReset()).isNull();
+    }
+
+    @Test
+    void testDelaysOnceBudgetIsExhausted() {
+        var rateLimiter = new RateLimiter();
+        var reset = Instant.now().getEpochSecond() + 3598;
+        rateLimiter.update("3600", "2", Long.toString(reset));
+
+        assertThat(rateLimiter.getLimit()).isEqualTo(3600L);
+        assertThat(rateLimiter.getRemaining()).isEqualTo(2L);
+        assertThat(rateLimiter.getReset()).isEqualTo(Instant.ofEpochSecond(reset));
+
+        assertThat(rateLimiter.reserve()).isEqualTo(0L);
+        assertThat(rateLimiter.reserve()).isEqualTo(0L);
+        // refilled with ~1 request per second
+        assertThat(rateLimiter.reserve()).isBetween(TimeUnit.MILLISECONDS.toNanos(500), TimeUnit.MILLISECONDS.toNanos(1100));
+    }
+
+    @Test
+    void testHeadersLowerTheLocalEstimate() {
+        var rateLimiter = new RateLimiter();
+        var reset = Long.toString(Instant.now().getEpochSecond() + 100);
+        rateLimiter.update("3600", "3500", reset);
+        rateLimiter.update("3600", "10", reset);
+
+        assertThat(rateLimiter.getRemaining()).isBetween(10L, 11L);
+    }
+
+    @Test
+    void testLaterResetReplacesTheLocalEstimate() {
+        var rateLimiter = new RateLimiter();
+        var reset = Instant.now().getEpochSecond() + 100;
+        rateLimiter.update("3600", "0", Long.toString(reset));
+        rateLimiter.update("3600", "3600", Long.toString(reset + 3600));
+
+        assertThat(rateLimiter.getRemaining()).isEqualTo(3600L);
+    }
+
+    @Test
+    void testLaterResetKeepsRequestsInFlight() throws Exception {
+        var rateLimiter = new RateLimiter();
+        var reset = Instant.now().getEpochSecond() + 3590;
+        rateLimiter.update("3600", "10", Long.toString(reset));
+
+        var executor = Executors.newFixedThreadPool(10);
+        try {
+            var start = new CountDownLatch(1);
+            var reservations = new ArrayList<Future<Long>>();
+            for (int i = 0; i < 9; i++) {
+                reservations.add(executor.submit(() -> {
+                    start.await();
+                    return rateLimiter.reserve();
+                }));
+            }
+            // the first response races the other reservations, the API has only seen its own request
+            var response = executor.submit(() -> {
+                start.await();
+                assertThat(rateLimiter.reserve()).isEqualTo(0L);
+                rateLimiter.update("3600", "9", Long.toString(reset + 1));
+                return null;
+            });
+            start.countDown();
+            for (Future<Long> reservation : reservations) {
+                assertThat(reservation.get()).isEqualTo(0L);
+            }
+            response.get();
+        } finally {
+            executor.shutdownNow();
+        }
+
+        // nine requests are still in flight, so the budget of the response is already used up
+        assertThat(rateLimiter.getRemaining()).isEqualTo(0L);
+        assertThat(rateLimiter.reserve()).isGreaterThan(0L);
+    }
+
+    @Test
+    void testReleaseReturnsTheReservation() {
+        var rateLimiter = new RateLimiter();
+        var reset = Instant.now().getEpochSecond() + 3590;
+        rateLimiter.update("3600", "10", Long.toString(reset));
+
+        rateLimiter.reserve();
+        rateLimiter.release();
+        rateLimiter.update("3600", "10", Long.toString(reset + 1));
+
+        assertThat(rateLimiter.getRemaining()).isEqualTo(10L);
+    }
+
+    @Test
+    void testIgnoresMalformedHeaders() {
+        var rateLimiter = new RateLimiter();
+        rateLimiter.update(null, "abc", null);
+
+        assertThat(rateLimiter.getLimit()).isEqualTo(-1L);
+    }
+}
@@ -0,0 +1,94 @@
+package me.tomsdevsn.hetznercloud;
+
+import me.tomsdevsn.hetznercloud.exception.APIRequestException;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+public class RequestCoalescingTest {
+
+    private static final String ACTIONS = "{\"actions\":[{\"id\":1,\"command\":\"start_server\",\"status\":\"success\",\"progress\":100}]}";
+    private static final String NOT_FOUND = "{\"error\":{\"code\":\"not_found\",\"message\":\"not found\"}}";
+
+    @Test
+    void testConcurrentRequestsShareOneResponse() throws Exception {
+        var transport = new StubTransport();
+        var api = new HetznerCloudAPI("token", transport);
+        api.setCoalesceRequests(true);
+        var asyncAPI = new HetznerCloudAsyncAPI(api);
+
+        var first = asyncAPI.getActions(List.of(1L));
+        var second = asyncAPI.getActions(List.of(1L));
+        var other = asyncAPI.getActions(List.of(2L));
+        assertThat(transport.pending).hasSize(2);
+
+        transport.pending.get(0).complete(new StubResponse(200, ACTIONS));
+        transport.pending.get(1).complete(new StubResponse(200, ACTIONS));
+
+        assertThat(first.get(5, TimeUnit.SECONDS)).isSameAs(second.get(5, TimeUnit.SECONDS));
+        assertThat(other.get(5, TimeUnit.SECONDS).getActions()).hasSize(1);
+
+        // finished requests are not cached
+        asyncAPI.getActions(List.of(1L));
+        assertThat(transport.pending).hasSize(3);
+    }
+
+    @Test
+    void testBlockingCallerWaitsForRequestInFlight() throws Exception {
+        var transport = new StubTransport();
+        var api = new HetznerCloudAPI("token", transport);
+        api.setCoalesceRequests(true);
+
+        var first = CompletableFuture.supplyAsync(() -> api.getActions(List.of(1L)));
+        while (transport.pending.isEmpty()) {
+            Thread.sleep(1);
+        }
+        var second = new CompletableFuture<Object>();
+        var secondCaller = new Thread(() -> second.complete(api.getActions(List.of(1L))));
+        secondCaller.start();
+        while (secondCaller.getState() != Thread.State.WAITING) {
+            Thread.sleep(1);
+        }
+        assertThat(transport.pending).hasSize(1);
+        transport.pending.get(0).complete(new StubResponse(200, ACTIONS));
+
+        assertThat(first.get(5, TimeUnit.SECONDS)).isSameAs(second.get(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void testErrorIsSharedWithAllCallers() {
+        var transport = new StubTransport();
+        var api = new HetznerCloudAPI("token", transport);
+        api.setCoalesceRequests(true);
+        var asyncAPI = new HetznerCloudAsyncAPI(api);
+
+        var first = asyncAPI.getActions(List.of(1L));
+        var second = asyncAPI.getActions(List.of(1L));
+        transport.pending.get(0).complete(new StubResponse(404, NOT_FOUND));
+
+        for (var future : List.of(first, second)) {
+            var exception = Assertions.assertThrows(ExecutionException.class, () -> future.get(5, TimeUnit.SECONDS));
+            assertThat(exception.getCause()).isInstanceOf(APIRequestException.class);
+        }
+        assertThat(transport.pending).hasSize(1);
+    }
+
+    @Test
+    void testRequestsAreNotCoalescedByDefault() {
+        var transport = new StubTransport();
+        var asyncAPI = new HetznerCloudAsyncAPI(new HetznerCloudAPI("token", transport));
+
+        asyncAPI.getActions(List.of(1L));
+        asyncAPI.getActions(List.of(1L));
+
+        assertThat(transport.pending).hasSize(2);
+    }
+}
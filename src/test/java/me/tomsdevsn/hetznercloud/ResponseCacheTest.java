@@ -0,0 +1,143 @@
+package me.tomsdevsn.hetznercloud;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+public class ResponseCacheTest {
+
+    private static final String SERVER = "{\"server\":{\"id\":1,\"name\":\"server-1\",\"status\":\"running\"}}";
+    private static final String ACTION = "{\"action\":{\"id\":2,\"command\":\"stop_server\",\"status\":\"running\"}}";
+
+    @Test
+    void testNotModifiedReusesDeserializedResponse() throws Exception {
+        var transport = new StubTransport();
+        var api = new HetznerCloudAPI("token", transport);
+        var cache = new ResponseCache();
+        api.setResponseCache(cache);
+
+        transport.respond(200, SERVER, Map.of("ETag", "\"v1\""));
+        var first = api.getServer(1L);
+        assertThat(transport.requests.get(0).getHeaders()).doesNotContainKey("If-None-Match");
+
+        transport.respond(304, "", Map.of());
+        var second = api.getServer(1L);
+        assertThat(transport.requests.get(1).getHeaders()).containsEntry("If-None-Match", "\"v1\"");
+        assertThat(second).isSameAs(first);
+
+        transport.respond(304, "", Map.of());
+        var third = new HetznerCloudAsyncAPI(api).getServer(1L).get(5, TimeUnit.SECONDS);
+        assertThat(third).isSameAs(first);
+
+        assertThat(cache.getMissCount()).isEqualTo(1L);
+        assertThat(cache.getRevalidationCount()).isEqualTo(2L);
+    }
+
+    @Test
+    void testFreshResponseIsServedWithoutRequest() {
+        var nanos = new AtomicLong();
+        var transport = new StubTransport();
+        var api = new HetznerCloudAPI("token", transport);
+        api.setResponseCache(new ResponseCache(10, Duration.ZERO, nanos::get));
+
+        transport.respond(200, SERVER, Map.of("Cache-Control", "max-age=5"));
+        var first = api.getServer(1L);
+        assertThat(api.getServer(1L)).isSameAs(first);
+        assertThat(transport.requests).hasSize(1);
+
+        nanos.addAndGet(TimeUnit.SECONDS.toNanos(5));
+        transport.respond(200, SERVER, Map.of());
+        assertThat(api.getServer(1L)).isNotSameAs(first);
+        assertThat(transport.requests).hasSize(2);
+    }
+
+    @Test
+    void testResponsesWithoutValidatorsAreNotCached() {
+        var transport = new StubTransport();
+        var api = new HetznerCloudAPI("token", transport);
+        var cache = new ResponseCache();
+        api.setResponseCache(cache);
+
+        transport.respond(200, SERVER, Map.of());
+        transport.respond(200, SERVER, Map.of("ETag", "\"v1\"", "Cache-Control", "no-store"));
+        api.getServer(1L);
+        api.getServer(1L);
+
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    void testDefaultTtlAppliesToResponsesWithoutHeaders() {
+        var transport = new StubTransport();
+        var api = new HetznerCloudAPI("token", transport);
+        api.setResponseCache(new ResponseCache(10, Duration.ofMinutes(1)));
+
+        transport.respond(200, SERVER, Map.of());
+        var first = api.getServer(1L);
+
+        assertThat(api.getServer(1L)).isSameAs(first);
+        assertThat(transport.requests).hasSize(1);
+    }
+
+    @Test
+    void testModifyingRequestEvictsResourceType() {
+        var transport = new StubTransport();
+        var api = new HetznerCloudAPI("token", transport);
+        var cache = new ResponseCache(10, Duration.ofMinutes(1));
+        api.setResponseCache(cache);
+
+        transport.respond(200, SERVER, Map.of());
+        api.getServer(1L);
+        assertThat(cache.size()).isEqualTo(1);
+
+        transport.respond(201, ACTION, Map.of());
+        api.powerOffServer(1L);
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    void testResponseStartedBeforeModificationIsNotCached() throws Exception {
+        var transport = new StubTransport();
+        var api = new HetznerCloudAPI("token", transport);
+        var cache = new ResponseCache(10, Duration.ofMinutes(1));
+        api.setResponseCache(cache);
+
+        var server = new HetznerCloudAsyncAPI(api).getServer(1L);
+        transport.respond(201, ACTION, Map.of());
+        api.powerOffServer(1L);
+
+        // the GET has been answered before the server has been powered off
+        transport.pending.get(0).complete(new StubResponse(200, SERVER, Map.of()));
+        server.get(5, TimeUnit.SECONDS);
+        assertThat(cache.size()).isZero();
+
+        transport.respond(200, SERVER, Map.of());
+        api.getServer(1L);
+        assertThat(cache.size()).isEqualTo(1);
+    }
+
+    @Test
+    void testEntriesAreSeparatedByToken() {
+        var transport = new StubTransport();
+        var cache = new ResponseCache(10, Duration.ofMinutes(1));
+        var api = new HetznerCloudAPI("token", transport);
+        var other = new HetznerCloudAPI("other-token", transport);
+        api.setResponseCache(cache);
+        other.setResponseCache(cache);
+
+        transport.respond(200, SERVER, Map.of());
+        transport.respond(200, SERVER, Map.of());
+        api.getServer(1L);
+        other.getServer(1L);
+
+        assertThat(transport.requests).hasSize(2);
+        assertThat(cache.size()).isEqualTo(2);
+    }
+}
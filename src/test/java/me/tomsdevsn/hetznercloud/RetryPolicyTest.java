@@ -0,0 +1,57 @@
+package me.tomsdevsn.hetznercloud;
+
+import me.tomsdevsn.hetznercloud.objects.general.APIErrorCode;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+public class RetryPolicyTest {
+
+    private final RetryPolicy policy = RetryPolicy.builder()
+            .baseDelay(Duration.ofMillis(100))
+            .maxDelay(Duration.ofMillis(300))
+            .jitter(0)
+            .build();
+
+    @Test
+    void testNoneNeverRetries() {
+        assertThat(RetryPolicy.none().delayAfterError(1, true, 503, APIErrorCode.unavailable, null)).isNull();
+        assertThat(RetryPolicy.none().delayAfterIOException(1, true)).isNull();
+    }
+
+    @Test
+    void testExponentialBackoffIsCapped() {
+        assertThat(policy.delayAfterError(1, true, 503, null, null)).isEqualTo(Duration.ofMillis(100));
+        assertThat(policy.delayAfterError(2, true, 503, null, null)).isEqualTo(Duration.ofMillis(200));
+        assertThat(policy.delayAfterError(3, true, 503, null, null)).isEqualTo(Duration.ofMillis(300));
+        assertThat(policy.delayAfterError(4, true, 503, null, null)).isNull();
+    }
+
+    @Test
+    void testRetryAfterIsHonoured() {
+        assertThat(policy.delayAfterError(1, true, 429, APIErrorCode.rate_limit_exceeded, "5"))
+                .isEqualTo(Duration.ofSeconds(5));
+    }
+
+    @Test
+    void testNonRetryableErrorsAreNotRetried() {
+        assertThat(policy.delayAfterError(1, true, 404, APIErrorCode.not_found, null)).isNull();
+        assertThat(policy.delayAfterError(1, true, 422, APIErrorCode.invalid_input, null)).isNull();
+    }
+
+    @Test
+    void testPostIsOnlyRetriedWhenRejected() {
+        assertThat(policy.delayAfterError(1, false, 429, APIErrorCode.rate_limit_exceeded, null)).isNotNull();
+        assertThat(policy.delayAfterError(1, false, 423, APIErrorCode.locked, null)).isNotNull();
+        assertThat(policy.delayAfterError(1, false, 503, APIErrorCode.unavailable, null)).isNull();
+        assertThat(policy.delayAfterIOException(1, false)).isNull();
+
+        var replaying = policy.toBuilder().retryNonIdempotent(true).build();
+        assertThat(replaying.delayAfterError(1, false, 503, APIErrorCode.unavailable, null)).isNotNull();
+        assertThat(replaying.delayAfterIOException(1, false)).isNotNull();
+    }
+}
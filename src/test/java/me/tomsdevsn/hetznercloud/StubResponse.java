@@ -0,0 +1,47 @@
+package me.tomsdevsn.hetznercloud;
+
+import me.tomsdevsn.hetznercloud.transport.TransportResponse;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+/**
+ * Canned response for a {@link StubTransport}.
+ */
+class StubResponse implements TransportResponse {
+
+    private final int code;
+    private final byte[] body;
+    private final Map<String, String> headers;
+
+    StubResponse(int code, String body) {
+        this(code, body, Map.of());
+    }
+
+    StubResponse(int code, String body, Map<String, String> headers) {
+        this.code = code;
+        this.body = body.getBytes(StandardCharsets.UTF_8);
+        this.headers = headers;
+    }
+
+    @Override
+    public int code() {
+        return code;
+    }
+
+    @Override
+    public String header(String name) {
+        return headers.get(name);
+    }
+
+    @Override
+    public InputStream body() {
+        return new ByteArrayInputStream(body);
+    }
+
+    @Override
+    public void close() {
+    }
+}
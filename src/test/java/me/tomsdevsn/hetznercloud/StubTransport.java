@@ -0,0 +1,60 @@
+package me.tomsdevsn.hetznercloud;
+
+import me.tomsdevsn.hetznercloud.transport.HttpTransport;
+import me.tomsdevsn.hetznercloud.transport.TransportRequest;
+import me.tomsdevsn.hetznercloud.transport.TransportResponse;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Transport which records the requests and answers them with the scripted responses in order.
+ * Requests without a scripted response are kept in {@link #pending} until the test completes them.
+ */
+class StubTransport implements HttpTransport {
+
+    final List<TransportRequest> requests = new CopyOnWriteArrayList<>();
+    final List<CompletableFuture<TransportResponse>> pending = new CopyOnWriteArrayList<>();
+    private final Deque<TransportResponse> responses = new ArrayDeque<>();
+    private int asyncRequests;
+
+    StubTransport respond(int code, String body) {
+        return respond(code, body, Map.of());
+    }
+
+    synchronized StubTransport respond(int code, String body, Map<String, String> headers) {
+        responses.add(new StubResponse(code, body, headers));
+        return this;
+    }
+
+    synchronized int getAsyncRequests() {
+        return asyncRequests;
+    }
+
+    @Override
+    public TransportResponse execute(TransportRequest request) {
+        return next(request).join();
+    }
+
+    @Override
+    public CompletableFuture<TransportResponse> executeAsync(TransportRequest request) {
+        synchronized (this) {
+            asyncRequests++;
+        }
+        return next(request);
+    }
+
+    private synchronized CompletableFuture<TransportResponse> next(TransportRequest request) {
+        requests.add(request);
+        if (!responses.isEmpty()) {
+            return CompletableFuture.completedFuture(responses.remove());
+        }
+        CompletableFuture<TransportResponse> future = new CompletableFuture<>();
+        pending.add(future);
+        return future;
+    }
+}
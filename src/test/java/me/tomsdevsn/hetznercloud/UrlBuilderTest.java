@@ -3,6 +3,8 @@ package me.tomsdevsn.hetznercloud;
 import lombok.extern.slf4j.Slf4j;
 import org.junit.jupiter.api.*;
 
+import java.util.List;
+
 import static org.assertj.core.api.Assertions.assertThat;
 
 @TestInstance(TestInstance.Lifecycle.PER_CLASS)
@@ -53,4 +55,11 @@ public class UrlBuilderTest {
                 .queryParam("key3", true)
                 .toUri()).isEqualTo("http://www.heise.de?key1=value1&key2=1&key3=true");
     }
+
+    @Test
+    void testUrlRepeatedQueryParam() {
+        assertThat(UrlBuilder.from("http://www.heise.de")
+                .queryParams("id", List.of(1L, 2L, 3L))
+                .toUri()).isEqualTo("http://www.heise.de?id=1&id=2&id=3");
+    }
 }
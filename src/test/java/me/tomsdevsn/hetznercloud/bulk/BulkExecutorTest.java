@@ -0,0 +1,68 @@
+package me.tomsdevsn.hetznercloud.bulk;
+
+import me.tomsdevsn.hetznercloud.exception.APIRequestException;
+import me.tomsdevsn.hetznercloud.objects.response.APIErrorResponse;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+public class BulkExecutorTest {
+
+    @Test
+    void testFailuresDoNotAbortTheOthers() {
+        try (var executor = new BulkExecutor(4)) {
+            var report = executor.execute(List.of(1L, 2L, 3L, 4L), id -> {
+                if (id % 2 == 0) {
+                    throw new APIRequestException("not found", new APIErrorResponse());
+                }
+                return id * 10;
+            });
+
+            assertThat(report.isSuccessful()).isFalse();
+            assertThat(report.getResults().stream().map(BulkResult::getId).collect(Collectors.toList()))
+                    .containsExactly(1L, 2L, 3L, 4L);
+            assertThat(report.getSucceeded().stream().map(BulkResult::getResult).collect(Collectors.toList()))
+                    .containsExactly(10L, 30L);
+            assertThat(report.getFailed()).hasSize(2);
+            assertThat(report.getFailed().get(0).getError()).isInstanceOf(APIRequestException.class);
+        }
+    }
+
+    @Test
+    void testConcurrencyIsBounded() {
+        var running = new AtomicInteger();
+        var maxRunning = new AtomicInteger();
+        var ids = LongStream.rangeClosed(1, 50).boxed().collect(Collectors.toList());
+
+        try (var executor = new BulkExecutor(3)) {
+            var report = executor.execute(ids, id -> {
+                maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                try {
+                    Thread.sleep(2);
+                } catch (InterruptedException e) {
+                    throw new RuntimeException(e);
+                }
+                running.decrementAndGet();
+                return id;
+            });
+
+            assertThat(report.isSuccessful()).isTrue();
+            assertThat(report.getResults()).hasSize(50);
+        }
+        assertThat(maxRunning.get()).isBetween(1, 3);
+    }
+
+    @Test
+    void testEmptyCollection() {
+        try (var executor = new BulkExecutor()) {
+            assertThat(executor.execute(List.of(), id -> id).getResults()).isEmpty();
+        }
+    }
+}
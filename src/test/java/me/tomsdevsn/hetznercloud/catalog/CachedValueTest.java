@@ -0,0 +1,136 @@
+package me.tomsdevsn.hetznercloud.catalog;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+public class CachedValueTest {
+
+    @Test
+    void testValueIsLoadedOnceWithinTtl() {
+        var clock = new MutableClock();
+        var loads = new AtomicInteger();
+        var value = new CachedValue<>(loads::incrementAndGet, Duration.ofMinutes(10), 0.2, clock, Runnable::run);
+
+        assertThat(value.getIfPresent()).isNull();
+        assertThat(value.get()).isEqualTo(1);
+        clock.advance(Duration.ofMinutes(5));
+        assertThat(value.get()).isEqualTo(1);
+
+        clock.advance(Duration.ofMinutes(5));
+        assertThat(value.getIfPresent()).isNull();
+        assertThat(value.get()).isEqualTo(2);
+    }
+
+    @Test
+    void testValueIsRefreshedAhead() {
+        var clock = new MutableClock();
+        var loads = new AtomicInteger();
+        var refreshes = new ArrayList<Runnable>();
+        var value = new CachedValue<>(loads::incrementAndGet, Duration.ofMinutes(10), 0.2, clock, refreshes::add);
+
+        assertThat(value.get()).isEqualTo(1);
+        clock.advance(Duration.ofMinutes(9));
+
+        // the current value is returned while the refresh is pending
+        assertThat(value.get()).isEqualTo(1);
+        assertThat(value.get()).isEqualTo(1);
+        assertThat(refreshes).hasSize(1);
+
+        refreshes.get(0).run();
+        assertThat(value.get()).isEqualTo(2);
+        assertThat(loads.get()).isEqualTo(2);
+    }
+
+    @Test
+    void testFailedRefreshKeepsCurrentValue() {
+        var clock = new MutableClock();
+        var results = new ArrayList<>(List.of("first"));
+        var refreshes = new ArrayList<Runnable>();
+        var value = new CachedValue<>(() -> {
+            if (results.isEmpty()) {
+                throw new IllegalStateException("unavailable");
+            }
+            return results.remove(0);
+        }, Duration.ofMinutes(10), 0.2, clock, refreshes::add);
+
+        assertThat(value.get()).isEqualTo("first");
+        clock.advance(Duration.ofMinutes(9));
+        assertThat(value.get()).isEqualTo("first");
+        refreshes.get(0).run();
+
+        assertThat(value.get()).isEqualTo("first");
+        assertThat(refreshes).hasSize(2);
+    }
+
+    @Test
+    void testInvalidate() {
+        var loads = new AtomicInteger();
+        var value = new CachedValue<>(loads::incrementAndGet, Duration.ofMinutes(10), 0.2, new MutableClock(), Runnable::run);
+
+        assertThat(value.get()).isEqualTo(1);
+        value.invalidate();
+        assertThat(value.get()).isEqualTo(2);
+    }
+
+    @Test
+    void testRefreshStartedBeforeInvalidateIsDropped() {
+        var clock = new MutableClock();
+        var loads = new AtomicInteger();
+        var refreshes = new ArrayList<Runnable>();
+        var cached = new AtomicReference<CachedValue<Integer>>();
+        cached.set(new CachedValue<>(() -> {
+            int load = loads.incrementAndGet();
+            if (load == 2) {
+                // the catalog is invalidated while the refresh is loading
+                cached.get().invalidate();
+            }
+            return load;
+        }, Duration.ofMinutes(10), 0.2, clock, refreshes::add));
+        var value = cached.get();
+
+        assertThat(value.get()).isEqualTo(1);
+        clock.advance(Duration.ofMinutes(9));
+        assertThat(value.get()).isEqualTo(1);
+        refreshes.get(0).run();
+
+        assertThat(value.getIfPresent()).isNull();
+        assertThat(value.get()).isEqualTo(3);
+    }
+
+    private static class MutableClock extends Clock {
+
+        private Instant now = Instant.parse("2024-01-01T00:00:00Z");
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
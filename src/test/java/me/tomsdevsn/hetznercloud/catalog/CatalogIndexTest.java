@@ -0,0 +1,80 @@
+package me.tomsdevsn.hetznercloud.catalog;
+
+import me.tomsdevsn.hetznercloud.objects.enums.Architecture;
+import me.tomsdevsn.hetznercloud.objects.general.Image;
+import me.tomsdevsn.hetznercloud.objects.general.SSHKey;
+import me.tomsdevsn.hetznercloud.objects.general.ServerType;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+public class CatalogIndexTest {
+
+    @Test
+    void testLookupByIdAndName() {
+        var index = new CatalogIndex<>(List.of(serverType(1L, "cx22"), serverType(2L, "cax11")),
+                ServerType::getId, ServerType::getName);
+
+        assertThat(index.getAll()).hasSize(2);
+        assertThat(index.get(2L).map(ServerType::getName)).contains("cax11");
+        assertThat(index.getByName("cx22").map(ServerType::getId)).contains(1L);
+        assertThat(index.getByName("cx99")).isEmpty();
+        assertThat(index.get(3L)).isEmpty();
+    }
+
+    @Test
+    void testMissingCatalogIsEmpty() {
+        var index = new CatalogIndex<>(null, ServerType::getId, ServerType::getName);
+
+        assertThat(index.getAll()).isEmpty();
+        assertThat(index.getByName("cx22")).isEmpty();
+    }
+
+    @Test
+    void testImagesAreIndexedPerArchitecture() {
+        var index = new ImageIndex(List.of(
+                image(1L, "ubuntu-24.04", "ubuntu", Architecture.x86),
+                image(2L, "ubuntu-24.04", "ubuntu", Architecture.arm),
+                image(3L, "ubuntu-22.04", "ubuntu", Architecture.x86),
+                image(4L, null, "debian", Architecture.x86)));
+
+        assertThat(index.getByName("ubuntu-24.04", Architecture.arm).map(Image::getId)).contains(2L);
+        assertThat(index.getByName("ubuntu-24.04", Architecture.x86).map(Image::getId)).contains(1L);
+        assertThat(index.getByOsFlavor("ubuntu", Architecture.x86)).extracting(Image::getId).containsExactly(1L, 3L);
+        assertThat(index.getByOsFlavor("debian", Architecture.x86)).extracting(Image::getId).containsExactly(4L);
+        assertThat(index.getByOsFlavor("fedora", Architecture.x86)).isEmpty();
+        assertThat(index.get(4L)).isPresent();
+    }
+
+    @Test
+    void testSSHKeysAreIndexedByFingerprint() {
+        var sshKey = new SSHKey();
+        sshKey.setId(7L);
+        sshKey.setName("deploy");
+        sshKey.setFingerprint("b7:2f:30:a0:2f:6c:58:6c:21:04:58:61:ba:06:3b:2f");
+        var index = new SSHKeyIndex(List.of(sshKey));
+
+        assertThat(index.getByFingerprint("b7:2f:30:a0:2f:6c:58:6c:21:04:58:61:ba:06:3b:2f")).contains(sshKey);
+        assertThat(index.getByName("deploy")).contains(sshKey);
+    }
+
+    private static ServerType serverType(Long id, String name) {
+        var serverType = new ServerType();
+        serverType.setId(id);
+        serverType.setName(name);
+        return serverType;
+    }
+
+    private static Image image(Long id, String name, String osFlavor, Architecture architecture) {
+        var image = new Image();
+        image.setId(id);
+        image.setName(name);
+        image.setOsFlavor(osFlavor);
+        image.setArchitecture(architecture);
+        return image;
+    }
+}
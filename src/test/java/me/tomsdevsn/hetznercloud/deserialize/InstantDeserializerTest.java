@@ -0,0 +1,59 @@
+package me.tomsdevsn.hetznercloud.deserialize;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.exc.InvalidFormatException;
+import me.tomsdevsn.hetznercloud.objects.general.Action;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+
+import java.time.DateTimeException;
+import java.time.Instant;
+import java.util.Date;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+public class InstantDeserializerTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void testParsesApiTimestamps() {
+        assertThat(InstantDeserializer.parse("2016-01-30T23:55:00+00:00"))
+                .isEqualTo(Instant.parse("2016-01-30T23:55:00Z"));
+        assertThat(InstantDeserializer.parse("2016-01-30T23:55:00Z"))
+                .isEqualTo(Instant.parse("2016-01-30T23:55:00Z"));
+        assertThat(InstantDeserializer.parse("2016-01-31T01:55:00.125+02:00"))
+                .isEqualTo(Instant.parse("2016-01-30T23:55:00.125Z"));
+        assertThat(InstantDeserializer.parse("2016-01-30T20:25:00-03:30"))
+                .isEqualTo(Instant.parse("2016-01-30T23:55:00Z"));
+    }
+
+    @Test
+    void testFallsBackToIsoFormatter() {
+        // seconds are optional in ISO-8601
+        assertThat(InstantDeserializer.parse("2016-01-30T23:55+00:00"))
+                .isEqualTo(Instant.parse("2016-01-30T23:55:00Z"));
+    }
+
+    @Test
+    void testRejectsInvalidTimestamps() {
+        Assertions.assertThrows(DateTimeException.class, () -> InstantDeserializer.parse("2016-02-30T23:55:00+00:00"));
+        Assertions.assertThrows(DateTimeException.class, () -> InstantDeserializer.parse("yesterday"));
+        // Arabic-Indic digit one in the fraction
+        Assertions.assertThrows(DateTimeException.class, () -> InstantDeserializer.parse("2016-01-30T23:55:00.\u0661Z"));
+    }
+
+    @Test
+    void testDateDeserializerReportsInvalidTimestamps() throws Exception {
+        Action action = objectMapper.readValue("{\"started\":\"2016-01-30T23:55:00+00:00\",\"finished\":null}", Action.class);
+
+        assertThat(action.getStarted()).isEqualTo(Date.from(Instant.parse("2016-01-30T23:55:00Z")));
+        assertThat(action.getStartedInstant()).isEqualTo(Instant.parse("2016-01-30T23:55:00Z"));
+        assertThat(action.getFinished()).isNull();
+        assertThat(action.getFinishedInstant()).isNull();
+        Assertions.assertThrows(InvalidFormatException.class,
+                () -> objectMapper.readValue("{\"started\":\"yesterday\"}", Action.class));
+    }
+}
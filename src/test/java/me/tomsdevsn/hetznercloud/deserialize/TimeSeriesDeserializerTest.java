@@ -0,0 +1,73 @@
+package me.tomsdevsn.hetznercloud.deserialize;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.exc.MismatchedInputException;
+import me.tomsdevsn.hetznercloud.objects.general.TimeSeries;
+import me.tomsdevsn.hetznercloud.objects.response.TimeSeriesMetricsResponse;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+public class TimeSeriesDeserializerTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper()
+            .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+
+    @Test
+    void testReadsMetricsIntoPrimitiveArrays() throws Exception {
+        TimeSeriesMetricsResponse response = objectMapper.readValue("{\"metrics\":{"
+                + "\"start\":\"2017-01-01T00:00:00+00:00\",\"end\":\"2017-01-01T23:00:00+00:00\",\"step\":60,"
+                + "\"time_series\":{"
+                + "\"cpu\":{\"values\":[[1435781470.622,\"42\"],[1435781530,\"43.5\"],[1435781590,null]]},"
+                + "\"disk.0.iops.read\":{\"unknown\":{\"values\":[1]},\"values\":[]}}}}",
+                TimeSeriesMetricsResponse.class);
+
+        assertThat(response.getMetrics().getStart()).isEqualTo(Instant.parse("2017-01-01T00:00:00Z"));
+        assertThat(response.getMetrics().getStep()).isEqualTo(60L);
+
+        TimeSeries cpu = response.getMetrics().getTimeSeries().get("cpu");
+        assertThat(cpu.getTimestamps()).containsExactly(1435781470L, 1435781530L, 1435781590L);
+        assertThat(cpu.getValue(0)).isEqualTo(42.0);
+        assertThat(cpu.getValue(1)).isEqualTo(43.5);
+        assertThat(cpu.getValue(2)).isNaN();
+        assertThat(response.getMetrics().getTimeSeries().get("disk.0.iops.read").size()).isEqualTo(0);
+    }
+
+    @Test
+    void testGrowsBeyondInitialCapacity() throws Exception {
+        StringBuilder json = new StringBuilder("{\"values\":[");
+        for (int i = 0; i < 1000; i++) {
+            json.append(i == 0 ? "" : ",").append('[').append(1700000000 + i * 60).append(",\"").append(i * 0.5).append("\"]");
+        }
+        json.append("]}");
+
+        TimeSeries timeSeries = objectMapper.readValue(json.toString(), TimeSeries.class);
+
+        assertThat(timeSeries.size()).isEqualTo(1000);
+        assertThat(timeSeries.getTimestamp(999)).isEqualTo(1700059940L);
+        assertThat(timeSeries.getValue(999)).isEqualTo(499.5);
+    }
+
+    @Test
+    void testRejectsSampleWithoutValue() {
+        Assertions.assertThrows(MismatchedInputException.class,
+                () -> objectMapper.readValue("{\"values\":[[1700000000],[1700000060,\"1\"]]}", TimeSeries.class));
+        Assertions.assertThrows(MismatchedInputException.class,
+                () -> objectMapper.readValue("{\"values\":[[1700000000,{\"value\":1}]]}", TimeSeries.class));
+    }
+
+    @Test
+    void testParsesDecimalsExactly() {
+        for (String value : new String[]{"0", "-12.5", "0.1", "0.3", "1048576.25", "123456789012345",
+                "1234567890123456789", "-3.25e-3", "3.141592653589793"}) {
+            assertThat(TimeSeriesDeserializer.parseDouble(value.toCharArray(), 0, value.length()))
+                    .isEqualTo(Double.parseDouble(value));
+        }
+    }
+}
@@ -0,0 +1,148 @@
+package me.tomsdevsn.hetznercloud.informer;
+
+import me.tomsdevsn.hetznercloud.objects.general.Action;
+import me.tomsdevsn.hetznercloud.objects.general.Server;
+import me.tomsdevsn.hetznercloud.objects.response.ActionsResponse;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+public class ActionFeedTest {
+
+    @Test
+    void testReportsResourcesOfNewActions() {
+        var actions = new ArrayList<Action>(List.of(action(1L, "success", 10L)));
+        var pages = new ArrayList<Integer>();
+        var feed = new ActionFeed("server", params -> {
+            pages.add(params.getPage());
+            return page(actions, params.getPage());
+        }, ids -> response(List.of()));
+
+        var baseline = feed.poll();
+        assertThat(baseline.getResourceIds()).isEmpty();
+        assertThat(baseline.isResyncRequired()).isFalse();
+
+        actions.add(0, action(2L, "success", 11L));
+        actions.add(0, action(3L, "success", 12L));
+        pages.clear();
+        assertThat(feed.poll().getResourceIds()).containsExactly(12L, 11L);
+        assertThat(pages).containsExactly(1);
+
+        assertThat(feed.poll().getResourceIds()).isEmpty();
+    }
+
+    @Test
+    void testIgnoresResourcesOfOtherTypes() {
+        var actions = new ArrayList<Action>();
+        var feed = new ActionFeed("server", params -> page(actions, params.getPage()), ids -> response(List.of()));
+        feed.poll();
+
+        var action = action(1L, "success", 10L);
+        var volume = new Action.Resources();
+        volume.setId(20L);
+        volume.setType("volume");
+        action.getResources().add(volume);
+        actions.add(action);
+
+        assertThat(feed.poll().getResourceIds()).containsExactly(10L);
+    }
+
+    @Test
+    void testRunningActionsAreCheckedUntilFinished() {
+        var actions = new ArrayList<Action>();
+        var byId = new HashMap<Long, Action>();
+        var feed = new ActionFeed("server", params -> page(actions, params.getPage()),
+                ids -> response(ids.stream().map(byId::get).collect(Collectors.toList())));
+        feed.poll();
+
+        actions.add(action(1L, "running", 10L));
+        assertThat(feed.poll().getResourceIds()).containsExactly(10L);
+        assertThat(feed.getRunningCount()).isEqualTo(1);
+
+        byId.put(1L, action(1L, "running", 10L));
+        assertThat(feed.poll().getResourceIds()).isEmpty();
+
+        byId.put(1L, action(1L, "success", 10L));
+        assertThat(feed.poll().getResourceIds()).containsExactly(10L);
+        assertThat(feed.getRunningCount()).isZero();
+    }
+
+    @Test
+    void testRequiresResyncWhenTooManyActionsHappened() {
+        var actions = new ArrayList<Action>(List.of(action(1L, "success", 10L)));
+        var feed = new ActionFeed("server", params -> page(actions, params.getPage()), ids -> response(List.of()));
+        feed.poll();
+
+        long count = (long) ActionFeed.PAGE_SIZE * ActionFeed.MAX_PAGES + 1;
+        LongStream.rangeClosed(2, count + 1).forEach(id -> actions.add(0, action(id, "success", id)));
+
+        assertThat(feed.poll().isResyncRequired()).isTrue();
+    }
+
+    @Test
+    void testSyncRefetchesChangedServers() {
+        var actions = new ArrayList<Action>();
+        var remote = new HashMap<Long, Server>(Map.of(1L, server(1L, "running"), 2L, server(2L, "running")));
+        var fetched = new ArrayList<Long>();
+        var feed = new ActionFeed("server", params -> page(actions, params.getPage()), ids -> response(List.of()));
+        try (var informer = new ServerInformer(null, () -> new ArrayList<>(remote.values()), id -> {
+            fetched.add(id);
+            return remote.get(id);
+        }, Duration.ofMinutes(10));
+             var sync = new ActionFeedSync(feed, informer, Duration.ofSeconds(5))) {
+            informer.refresh();
+            sync.sync();
+            assertThat(fetched).isEmpty();
+
+            remote.put(1L, server(1L, "off"));
+            remote.remove(2L);
+            actions.add(0, action(1L, "success", 1L));
+            actions.add(0, action(2L, "success", 2L));
+            sync.sync();
+
+            assertThat(fetched).containsExactlyInAnyOrder(1L, 2L);
+            assertThat(informer.get(1L).map(Server::getStatus)).contains("off");
+            assertThat(informer.get(2L)).isEmpty();
+        }
+    }
+
+    private static ActionsResponse page(List<Action> actions, int page) {
+        int from = Math.min(actions.size(), (page - 1) * ActionFeed.PAGE_SIZE);
+        int to = Math.min(actions.size(), page * ActionFeed.PAGE_SIZE);
+        return response(new ArrayList<>(actions.subList(from, to)));
+    }
+
+    private static ActionsResponse response(List<Action> actions) {
+        var response = new ActionsResponse();
+        response.setActions(actions);
+        return response;
+    }
+
+    private static Action action(Long id, String status, Long serverId) {
+        var resource = new Action.Resources();
+        resource.setId(serverId);
+        resource.setType("server");
+        var action = new Action();
+        action.setId(id);
+        action.setStatus(status);
+        action.setResources(new ArrayList<>(List.of(resource)));
+        return action;
+    }
+
+    private static Server server(Long id, String status) {
+        var server = new Server();
+        server.setId(id);
+        server.setStatus(status);
+        return server;
+    }
+}
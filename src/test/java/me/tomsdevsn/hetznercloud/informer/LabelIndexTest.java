@@ -0,0 +1,41 @@
+package me.tomsdevsn.hetznercloud.informer;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+public class LabelIndexTest {
+
+    private final List<Map<String, String>> resources = List.of(
+            Map.of("env", "prod", "role", "web"),
+            Map.of("env", "prod", "role", "worker"),
+            Map.of("env", "staging", "role", "web"),
+            Map.of("role", "db"));
+
+    private final LabelIndex<Map<String, String>> index = new LabelIndex<>(resources, labels -> labels);
+
+    @Test
+    void testSelectMatchesLocalEvaluation() {
+        for (String selector : List.of("env", "!env", "env=prod", "env!=prod", "role in (web,db)",
+                "role notin (web,db)", "env=prod,role=web", "env=prod,!role", "team", "team!=core", "")) {
+            var expected = resources.stream()
+                    .filter(LabelSelector.parse(selector)::matches)
+                    .collect(Collectors.toList());
+
+            assertThat(index.select(selector)).containsExactlyElementsOf(expected);
+        }
+    }
+
+    @Test
+    void testCount() {
+        assertThat(index.count(LabelSelector.parse("role in (web,worker)"))).isEqualTo(3);
+        assertThat(index.count(LabelSelector.parse("env=prod,role=db"))).isEqualTo(0);
+        assertThat(index.size()).isEqualTo(4);
+    }
+}
@@ -0,0 +1,45 @@
+package me.tomsdevsn.hetznercloud.informer;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+public class LabelSelectorTest {
+
+    private final Map<String, String> labels = Map.of("env", "prod", "role", "web", "example.com/team", "core");
+
+    @Test
+    void testOperators() {
+        assertThat(LabelSelector.parse("env").matches(labels)).isTrue();
+        assertThat(LabelSelector.parse("!env").matches(labels)).isFalse();
+        assertThat(LabelSelector.parse("!backup").matches(labels)).isTrue();
+        assertThat(LabelSelector.parse("env=prod").matches(labels)).isTrue();
+        assertThat(LabelSelector.parse("env==prod").matches(labels)).isTrue();
+        assertThat(LabelSelector.parse("env!=prod").matches(labels)).isFalse();
+        assertThat(LabelSelector.parse("backup!=daily").matches(labels)).isTrue();
+        assertThat(LabelSelector.parse("role in (web,worker)").matches(labels)).isTrue();
+        assertThat(LabelSelector.parse("role notin (web, worker)").matches(labels)).isFalse();
+        assertThat(LabelSelector.parse("example.com/team=core").matches(labels)).isTrue();
+    }
+
+    @Test
+    void testAllExpressionsHaveToMatch() {
+        assertThat(LabelSelector.parse("env=prod, role in (web), !backup").matches(labels)).isTrue();
+        assertThat(LabelSelector.parse("env=prod,role=worker").matches(labels)).isFalse();
+        assertThat(LabelSelector.parse("").matches(labels)).isTrue();
+        assertThat(LabelSelector.parse("env").matches(null)).isFalse();
+    }
+
+    @Test
+    void testMalformedSelectors() {
+        for (String selector : List.of("env=prod,", "env in prod", "env in (a", "env like a", "=prod", "env!prod")) {
+            Assertions.assertThrows(IllegalArgumentException.class, () -> LabelSelector.parse(selector), selector);
+        }
+    }
+}
@@ -0,0 +1,156 @@
+package me.tomsdevsn.hetznercloud.informer;
+
+import me.tomsdevsn.hetznercloud.objects.general.Server;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+public class ServerInformerTest {
+
+    @Test
+    void testChangesAreReportedToListeners() {
+        var listed = new AtomicReference<>(List.of(server(1L, "running"), server(2L, "running")));
+        var events = new ArrayList<String>();
+        try (var informer = new ServerInformer(null, listed::get, id -> null, Duration.ofMinutes(1))) {
+            informer.addListener(new InformerListener<>() {
+                @Override
+                public void onAdded(Server server) {
+                    events.add("added " + server.getId());
+                }
+
+                @Override
+                public void onUpdated(Server oldServer, Server newServer) {
+                    events.add("updated " + newServer.getId() + " " + oldServer.getStatus() + "->" + newServer.getStatus());
+                }
+
+                @Override
+                public void onDeleted(Server server) {
+                    events.add("deleted " + server.getId());
+                }
+            });
+
+            informer.refresh();
+            assertThat(events).containsExactly("added 1", "added 2");
+            assertThat(informer.size()).isEqualTo(2);
+
+            events.clear();
+            listed.set(List.of(server(2L, "off"), server(3L, "running")));
+            informer.refresh();
+
+            assertThat(events).containsExactly("updated 2 running->off", "added 3", "deleted 1");
+            assertThat(informer.get(1L)).isEmpty();
+            assertThat(informer.get(2L).map(Server::getStatus)).contains("off");
+
+            events.clear();
+            informer.refresh();
+            assertThat(events).isEmpty();
+        }
+    }
+
+    @Test
+    void testFailedRefreshKeepsState() {
+        var fail = new AtomicReference<>(false);
+        try (var informer = new ServerInformer(null, () -> {
+            if (fail.get()) {
+                throw new IllegalStateException("unavailable");
+            }
+            return List.of(server(1L, "running"));
+        }, id -> null, Duration.ofMinutes(1))) {
+            assertThat(informer.hasSynced()).isFalse();
+            informer.refresh();
+
+            fail.set(true);
+            Assertions.assertThrows(IllegalStateException.class, informer::refresh);
+
+            assertThat(informer.hasSynced()).isTrue();
+            assertThat(informer.getLastError()).isInstanceOf(IllegalStateException.class);
+            assertThat(informer.list()).hasSize(1);
+        }
+    }
+
+    @Test
+    void testRestoredServersAreServedUntilFirstRefresh() {
+        var events = new ArrayList<String>();
+        try (var informer = new ServerInformer(null, () -> List.of(server(1L, "off"), server(3L, "running")),
+                id -> null, Duration.ofMinutes(1))) {
+            informer.restore(List.of(server(1L, "running"), server(2L, "running")));
+            informer.addListener(new InformerListener<>() {
+                @Override
+                public void onAdded(Server server) {
+                    events.add("added " + server.getId());
+                }
+
+                @Override
+                public void onUpdated(Server oldServer, Server newServer) {
+                    events.add("updated " + newServer.getId());
+                }
+
+                @Override
+                public void onDeleted(Server server) {
+                    events.add("deleted " + server.getId());
+                }
+            });
+
+            assertThat(informer.hasSynced()).isFalse();
+            assertThat(informer.get(2L)).isPresent();
+
+            informer.refresh();
+            assertThat(events).containsExactly("updated 1", "added 3", "deleted 2");
+        }
+    }
+
+    @Test
+    void testFetchedServersHaveToMatchLabelSelector() {
+        var remote = new HashMap<Long, Server>();
+        remote.put(1L, server(1L, "running", Map.of("env", "prod")));
+        remote.put(2L, server(2L, "running", Map.of("env", "staging")));
+        var events = new ArrayList<String>();
+        try (var informer = new ServerInformer("env=prod", () -> List.of(remote.get(1L)), remote::get,
+                Duration.ofMinutes(1))) {
+            informer.refresh();
+            informer.addListener(new InformerListener<>() {
+                @Override
+                public void onAdded(Server server) {
+                    events.add("added " + server.getId());
+                }
+
+                @Override
+                public void onDeleted(Server server) {
+                    events.add("deleted " + server.getId());
+                }
+            });
+
+            informer.refresh(List.of(2L));
+            assertThat(events).isEmpty();
+            assertThat(informer.get(2L)).isEmpty();
+
+            remote.put(1L, server(1L, "running", Map.of("env", "staging")));
+            informer.refresh(List.of(1L));
+            assertThat(events).containsExactly("deleted 1");
+            assertThat(informer.size()).isZero();
+        }
+    }
+
+    private static Server server(Long id, String status) {
+        return server(id, status, Map.of());
+    }
+
+    private static Server server(Long id, String status, Map<String, String> labels) {
+        var server = new Server();
+        server.setId(id);
+        server.setName("server-" + id);
+        server.setStatus(status);
+        server.setLabels(labels);
+        return server;
+    }
+}
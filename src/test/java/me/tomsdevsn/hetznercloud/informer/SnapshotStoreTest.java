@@ -0,0 +1,53 @@
+package me.tomsdevsn.hetznercloud.informer;
+
+import me.tomsdevsn.hetznercloud.objects.general.Server;
+import me.tomsdevsn.hetznercloud.objects.general.Volume;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+
+import java.nio.file.Files;
+import java.time.Instant;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+public class SnapshotStoreTest {
+
+    @Test
+    void testSnapshotRoundTrip() throws Exception {
+        var directory = Files.createTempDirectory("hcloud-snapshot");
+        var store = new SnapshotStore(directory.resolve("inventory.json.gz"));
+        assertThat(store.read()).isEmpty();
+
+        var server = new Server();
+        server.setId(42L);
+        server.setName("web-1");
+        server.setCreated(Date.from(Instant.parse("2024-05-01T10:15:30Z")));
+        server.setLabels(Map.of("env", "prod"));
+        var volume = new Volume();
+        volume.setId(7L);
+        var snapshot = new InventorySnapshot();
+        snapshot.setCreated(Instant.parse("2024-05-02T08:00:00.250Z"));
+        snapshot.setServers(List.of(server));
+        snapshot.setVolumes(List.of(volume));
+
+        store.write(snapshot);
+        store.write(snapshot);
+        var restored = store.read().orElseThrow();
+
+        assertThat(restored.getCreated()).isEqualTo(snapshot.getCreated());
+        assertThat(restored.getServers()).hasSize(1);
+        assertThat(restored.getServers().get(0).getName()).isEqualTo("web-1");
+        assertThat(restored.getServers().get(0).getCreated()).isEqualTo(server.getCreated());
+        assertThat(restored.getServers().get(0).getLabels()).isEqualTo(Map.of("env", "prod"));
+        assertThat(restored.getVolumes().get(0).getId()).isEqualTo(7L);
+        assertThat(restored.getNetworks()).isEmpty();
+        // the temporary file has been moved over the snapshot
+        try (var files = Files.list(directory)) {
+            assertThat(files.count()).isEqualTo(1L);
+        }
+    }
+}
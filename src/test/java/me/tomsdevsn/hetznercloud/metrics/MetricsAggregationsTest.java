@@ -0,0 +1,84 @@
+package me.tomsdevsn.hetznercloud.metrics;
+
+import me.tomsdevsn.hetznercloud.objects.general.TimeSeries;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+public class MetricsAggregationsTest {
+
+    @Test
+    void testAggregatorsIgnoreMissingSamples() {
+        double[] values = {4, Double.NaN, 1, 3, 2};
+
+        assertThat(Aggregator.MIN.aggregate(values, 0, values.length)).isEqualTo(1.0);
+        assertThat(Aggregator.MAX.aggregate(values, 0, values.length)).isEqualTo(4.0);
+        assertThat(Aggregator.AVG.aggregate(values, 0, values.length)).isEqualTo(2.5);
+        assertThat(Aggregator.SUM.aggregate(values, 0, values.length)).isEqualTo(10.0);
+        assertThat(Aggregator.percentile(50).aggregate(values, 0, values.length)).isEqualTo(2.5);
+        assertThat(Aggregator.MAX.aggregate(values, 1, 2)).isNaN();
+    }
+
+    @Test
+    void testResampleToCoarserStep() {
+        // one sample per minute from 00:01 to 00:10
+        var series = series(LongStream.rangeClosed(1, 10).map(minute -> minute * 60).toArray());
+
+        var resampled = MetricsAggregations.resample(series, 300, Aggregator.MAX);
+
+        assertThat(resampled.getTimestamps()).containsExactly(0L, 300L, 600L);
+        assertThat(resampled.getValues()).containsExactly(240.0, 540.0, 600.0);
+    }
+
+    @Test
+    void testResampleKeepsEmptyBuckets() {
+        var resampled = MetricsAggregations.resample(series(60, 360), 120, Aggregator.AVG);
+
+        assertThat(resampled.size()).isEqualTo(4);
+        assertThat(resampled.getValue(1)).isNaN();
+        assertThat(resampled.getValue(3)).isEqualTo(360.0);
+    }
+
+    @Test
+    void testRollingAverage() {
+        var rolled = MetricsAggregations.rolling(series(60, 120, 180, 240), 2, Aggregator.AVG);
+
+        assertThat(rolled.getValues()).containsExactly(60.0, 90.0, 150.0, 210.0);
+    }
+
+    @Test
+    void testPercentileAcrossSeries() {
+        // 100 servers, server i reports the value i at every minute
+        List<TimeSeries> fleet = IntStream.rangeClosed(1, 100)
+                .mapToObj(server -> new TimeSeries(new long[]{60, 120}, new double[]{server, server}))
+                .collect(Collectors.toList());
+
+        var p95 = MetricsAggregations.across(fleet, 60, Aggregator.percentile(95));
+
+        assertThat(p95.getTimestamps()).containsExactly(60L, 120L);
+        assertThat(p95.getValue(0)).isCloseTo(95.05, within(1e-9));
+    }
+
+    @Test
+    void testSummarizePerSeries() {
+        var summary = MetricsAggregations.summarize(Map.of(1L, series(60, 120), 2L, series(180)), Aggregator.MAX);
+
+        assertThat(summary).containsEntry(1L, 120.0).containsEntry(2L, 180.0);
+    }
+
+    /**
+     * Series whose values are their timestamps.
+     */
+    private TimeSeries series(long... timestamps) {
+        return new TimeSeries(timestamps, LongStream.of(timestamps).asDoubleStream().toArray());
+    }
+}
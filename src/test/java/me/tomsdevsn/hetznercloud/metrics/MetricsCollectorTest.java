@@ -0,0 +1,107 @@
+package me.tomsdevsn.hetznercloud.metrics;
+
+import me.tomsdevsn.hetznercloud.HetznerCloudAPI;
+import me.tomsdevsn.hetznercloud.objects.general.TimeSeriesMetrics;
+import me.tomsdevsn.hetznercloud.objects.response.TimeSeriesMetricsResponse;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+public class MetricsCollectorTest {
+
+    private final MetricsCollector collector = new MetricsCollector(new HetznerCloudAPI("token"), 4);
+
+    @Test
+    void testBoundsConcurrentRequests() throws Exception {
+        var inFlight = new AtomicInteger();
+        var maxInFlight = new AtomicInteger();
+        var results = new CopyOnWriteArrayList<MetricsResult>();
+        List<Long> ids = LongStream.rangeClosed(1, 40).boxed().collect(Collectors.toList());
+
+        collector.collect(ids, id -> {
+            maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+            return CompletableFuture.supplyAsync(() -> {
+                inFlight.decrementAndGet();
+                return response();
+            }, CompletableFuture.delayedExecutor(5, TimeUnit.MILLISECONDS));
+        }, results::add).get(5, TimeUnit.SECONDS);
+
+        assertThat(results).hasSize(40);
+        assertThat(results.stream().map(MetricsResult::getId).collect(Collectors.toSet())).hasSize(40);
+        assertThat(maxInFlight.get()).isLessThanOrEqualTo(4);
+    }
+
+    @Test
+    void testFailuresDoNotAbortCollection() throws Exception {
+        var results = new CopyOnWriteArrayList<MetricsResult>();
+
+        collector.collect(List.of(1L, 2L, 3L), id -> id == 2L
+                ? CompletableFuture.failedFuture(new IllegalStateException("not found"))
+                : CompletableFuture.completedFuture(response()), results::add).get(5, TimeUnit.SECONDS);
+
+        assertThat(results).hasSize(3);
+        assertThat(results.stream().filter(result -> !result.isSuccessful()).map(MetricsResult::getId))
+                .containsExactly(2L);
+        assertThat(results.stream().filter(result -> !result.isSuccessful()).findFirst().get().getError())
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void testConsumerFailureFailsCollection() {
+        var fetched = new AtomicInteger();
+
+        var collection = new MetricsCollector(new HetznerCloudAPI("token"), 1).collect(List.of(1L, 2L, 3L), id -> {
+            fetched.incrementAndGet();
+            return CompletableFuture.completedFuture(response());
+        }, result -> {
+            throw new IllegalStateException("consumer failed");
+        });
+
+        var exception = Assertions.assertThrows(ExecutionException.class, () -> collection.get(5, TimeUnit.SECONDS));
+        assertThat(exception.getCause()).isInstanceOf(IllegalStateException.class);
+        assertThat(fetched.get()).isEqualTo(1);
+    }
+
+    @Test
+    void testConsumerMonitorIsNotUsed() throws Exception {
+        var results = new CopyOnWriteArrayList<MetricsResult>();
+        Consumer<MetricsResult> consumer = results::add;
+
+        // the caller holds the monitor of its consumer while the results arrive on other threads
+        synchronized (consumer) {
+            collector.collect(List.of(1L, 2L), id -> CompletableFuture.supplyAsync(this::response), consumer)
+                    .get(5, TimeUnit.SECONDS);
+        }
+
+        assertThat(results).hasSize(2);
+    }
+
+    @Test
+    void testStreamReportsMalformedResponses() {
+        var results = collector.stream(List.of(1L, 2L), id -> CompletableFuture.completedFuture(id == 1L ? response() : null))
+                .collect(Collectors.toList());
+
+        assertThat(results).hasSize(2);
+        assertThat(results.stream().filter(result -> !result.isSuccessful()).map(MetricsResult::getId))
+                .containsExactly(2L);
+    }
+
+    private TimeSeriesMetricsResponse response() {
+        var response = new TimeSeriesMetricsResponse();
+        response.setMetrics(new TimeSeriesMetrics());
+        return response;
+    }
+}
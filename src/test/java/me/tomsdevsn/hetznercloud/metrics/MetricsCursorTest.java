@@ -0,0 +1,108 @@
+package me.tomsdevsn.hetznercloud.metrics;
+
+import me.tomsdevsn.hetznercloud.objects.general.TimeSeries;
+import me.tomsdevsn.hetznercloud.objects.general.TimeSeriesMetrics;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+public class MetricsCursorTest {
+
+    @Test
+    void testRequestsOnlyNewSamples() {
+        var now = new AtomicReference<>(Instant.ofEpochSecond(6000));
+        var windows = new ArrayList<Instant[]>();
+        var cursor = new MetricsCursor((start, end) -> {
+            windows.add(new Instant[]{start, end});
+            return metrics(start.getEpochSecond(), end.getEpochSecond());
+        }, clock(now), 60, 10);
+
+        assertThat(cursor.poll()).isEqualTo(10);
+        assertThat(windows.get(0)[0]).isEqualTo(Instant.ofEpochSecond(5460));
+
+        // less than one step later nothing is requested
+        now.set(Instant.ofEpochSecond(6030));
+        assertThat(cursor.poll()).isEqualTo(0);
+        assertThat(windows).hasSize(1);
+
+        now.set(Instant.ofEpochSecond(6120));
+        assertThat(cursor.poll()).isEqualTo(2);
+        assertThat(windows.get(1)[0]).isEqualTo(Instant.ofEpochSecond(6001));
+        assertThat(cursor.getLastTimestamp()).isEqualTo(6120L);
+        assertThat(cursor.getSeries("cpu").size()).isEqualTo(10);
+        assertThat(cursor.getSeries("cpu").getTimestamp(0)).isEqualTo(5580L);
+    }
+
+    @Test
+    void testLaggingSeriesKeepsItsSamples() {
+        var now = new AtomicReference<>(Instant.ofEpochSecond(6000));
+        var windows = new ArrayList<Instant[]>();
+        var cursor = new MetricsCursor((start, end) -> {
+            windows.add(new Instant[]{start, end});
+            long[] cpu = timestamps(start.getEpochSecond(), end.getEpochSecond());
+            // the disk series lags one step behind on the first poll
+            long[] disk = windows.size() == 1 ? Arrays.copyOf(cpu, cpu.length - 1) : cpu;
+            var metrics = new TimeSeriesMetrics();
+            metrics.setStep(60L);
+            metrics.setTimeSeries(Map.of(
+                    "cpu", new TimeSeries(cpu, new double[cpu.length]),
+                    "disk", new TimeSeries(disk, new double[disk.length])));
+            return metrics;
+        }, clock(now), 60, 10);
+
+        assertThat(cursor.poll()).isEqualTo(19);
+        assertThat(cursor.getLastTimestamp()).isEqualTo(6000L);
+
+        now.set(Instant.ofEpochSecond(6060));
+        assertThat(cursor.poll()).isEqualTo(3);
+        assertThat(windows.get(1)[0]).isEqualTo(Instant.ofEpochSecond(5941));
+        assertThat(cursor.getSeries("cpu").getLastTimestamp()).isEqualTo(6060L);
+        assertThat(cursor.getSeries("disk").getLastTimestamp()).isEqualTo(6060L);
+        assertThat(cursor.getSeries("disk").getTimestamp(cursor.getSeries("disk").size() - 2)).isEqualTo(6000L);
+    }
+
+    private long[] timestamps(long start, long end) {
+        return LongStream.rangeClosed((start + 59) / 60, end / 60).map(minute -> minute * 60).toArray();
+    }
+
+    private TimeSeriesMetrics metrics(long start, long end) {
+        // samples aligned to the step, the API includes the sample at the start of the window
+        long[] timestamps = LongStream.rangeClosed((start + 59) / 60, end / 60).map(minute -> minute * 60).toArray();
+        double[] values = new double[timestamps.length];
+        var metrics = new TimeSeriesMetrics();
+        metrics.setStep(60L);
+        metrics.setTimeSeries(Map.of("cpu", new TimeSeries(timestamps, values)));
+        return metrics;
+    }
+
+    private Clock clock(AtomicReference<Instant> now) {
+        return new Clock() {
+            @Override
+            public ZoneOffset getZone() {
+                return ZoneOffset.UTC;
+            }
+
+            @Override
+            public Clock withZone(ZoneId zone) {
+                return this;
+            }
+
+            @Override
+            public Instant instant() {
+                return now.get();
+            }
+        };
+    }
+}
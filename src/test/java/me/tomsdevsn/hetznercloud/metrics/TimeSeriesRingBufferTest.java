@@ -0,0 +1,37 @@
+package me.tomsdevsn.hetznercloud.metrics;
+
+import me.tomsdevsn.hetznercloud.objects.general.TimeSeries;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+public class TimeSeriesRingBufferTest {
+
+    @Test
+    void testOverwritesOldestSamples() {
+        var buffer = new TimeSeriesRingBuffer(3);
+        for (long timestamp = 1; timestamp <= 5; timestamp++) {
+            buffer.append(timestamp * 60, timestamp);
+        }
+
+        assertThat(buffer.size()).isEqualTo(3);
+        assertThat(buffer.getTimestamp(0)).isEqualTo(180L);
+        assertThat(buffer.getValue(2)).isEqualTo(5.0);
+        assertThat(buffer.getLastTimestamp()).isEqualTo(300L);
+        assertThat(buffer.toTimeSeries().getTimestamps()).containsExactly(180L, 240L, 300L);
+        assertThat(buffer.toTimeSeries().getValues()).containsExactly(3.0, 4.0, 5.0);
+    }
+
+    @Test
+    void testSkipsSamplesWhichAreNotNewer() {
+        var buffer = new TimeSeriesRingBuffer(10);
+        buffer.appendAll(new TimeSeries(new long[]{60, 120, 180}, new double[]{1, 2, 3}));
+
+        int appended = buffer.appendAll(new TimeSeries(new long[]{120, 180, 240}, new double[]{2, 3, 4}));
+
+        assertThat(appended).isEqualTo(1);
+        assertThat(buffer.toTimeSeries().getTimestamps()).containsExactly(60L, 120L, 180L, 240L);
+    }
+}
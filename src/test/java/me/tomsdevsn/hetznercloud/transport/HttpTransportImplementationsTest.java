@@ -0,0 +1,152 @@
+package me.tomsdevsn.hetznercloud.transport;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import okhttp3.OkHttpClient;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.http.HttpClient;
+import java.net.http.HttpTimeoutException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+public class HttpTransportImplementationsTest {
+
+    private final BlockingQueue<ReceivedRequest> received = new LinkedBlockingQueue<>();
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+    private HttpServer server;
+    private String baseUrl;
+
+    @BeforeAll
+    void startServer() throws IOException {
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        server.createContext("/v1/echo", this::echo);
+        server.createContext("/v1/slow", exchange -> {
+            try {
+                Thread.sleep(2000);
+            } catch (InterruptedException ignored) {
+                Thread.currentThread().interrupt();
+            }
+            echo(exchange);
+        });
+        server.setExecutor(executor);
+        server.start();
+        baseUrl = "http://" + server.getAddress().getHostString() + ":" + server.getAddress().getPort() + "/v1";
+    }
+
+    @AfterAll
+    void stopServer() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    List<HttpTransport> transports() {
+        return List.of(
+                new OkHttpTransport(new OkHttpClient()),
+                new JdkHttpTransport(HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build()));
+    }
+
+    @ParameterizedTest
+    @MethodSource("transports")
+    void testRequestIsSent(HttpTransport transport) throws Exception {
+        var request = TransportRequest.builder()
+                .method("POST")
+                .url(baseUrl + "/echo?label_selector=env in (prod,staging)&page=2")
+                .header("Authorization", "Bearer token")
+                .header("Content-Type", "application/json")
+                .body("{\"name\":\"server\"}".getBytes(StandardCharsets.UTF_8))
+                .build();
+
+        try (var response = transport.execute(request)) {
+            assertThat(response.code()).isEqualTo(201);
+            assertThat(response.isSuccessful()).isTrue();
+            assertThat(response.header("x-echo")).isEqualTo("yes");
+            assertThat(response.string()).isEqualTo("{\"name\":\"server\"}");
+        }
+
+        var sent = received.poll(5, TimeUnit.SECONDS);
+        assertThat(sent.method).isEqualTo("POST");
+        assertThat(sent.query).isEqualTo("label_selector=env in (prod,staging)&page=2");
+        assertThat(sent.authorization).isEqualTo("Bearer token");
+        assertThat(sent.contentType).isEqualTo("application/json");
+    }
+
+    @ParameterizedTest
+    @MethodSource("transports")
+    void testRequestIsSentAsynchronously(HttpTransport transport) throws Exception {
+        var request = TransportRequest.builder()
+                .method("GET")
+                .url(baseUrl + "/echo?name=a%2Cb")
+                .build();
+
+        try (var response = transport.executeAsync(request).get(5, TimeUnit.SECONDS)) {
+            assertThat(response.code()).isEqualTo(200);
+            assertThat(response.string()).isEmpty();
+        }
+
+        var sent = received.poll(5, TimeUnit.SECONDS);
+        assertThat(sent.method).isEqualTo("GET");
+        assertThat(sent.query).isEqualTo("name=a,b");
+    }
+
+    @Test
+    void testJdkRequestTimesOut() {
+        var transport = new JdkHttpTransport(HttpClient.newHttpClient(), Duration.ofMillis(200));
+        var request = TransportRequest.builder().method("GET").url(baseUrl + "/slow").build();
+
+        Assertions.assertThrows(HttpTimeoutException.class, () -> transport.execute(request));
+        var exception = Assertions.assertThrows(ExecutionException.class,
+                () -> transport.executeAsync(request).get(5, TimeUnit.SECONDS));
+        assertThat(exception.getCause()).isInstanceOf(HttpTimeoutException.class);
+    }
+
+    private void echo(HttpExchange exchange) throws IOException {
+        byte[] body = exchange.getRequestBody().readAllBytes();
+        received.add(new ReceivedRequest(
+                exchange.getRequestMethod(),
+                exchange.getRequestURI().getQuery(),
+                exchange.getRequestHeaders().getFirst("Authorization"),
+                exchange.getRequestHeaders().getFirst("Content-Type")));
+
+        exchange.getResponseHeaders().add("X-Echo", "yes");
+        boolean created = "POST".equals(exchange.getRequestMethod());
+        exchange.sendResponseHeaders(created ? 201 : 200, body.length == 0 ? -1 : body.length);
+        try (var outputStream = exchange.getResponseBody()) {
+            outputStream.write(body);
+        }
+    }
+
+    private static final class ReceivedRequest {
+
+        private final String method;
+        private final String query;
+        private final String authorization;
+        private final String contentType;
+
+        ReceivedRequest(String method, String query, String authorization, String contentType) {
+            this.method = method;
+            this.query = query;
+            this.authorization = authorization;
+            this.contentType = contentType;
+        }
+    }
+}